@@ -3,19 +3,35 @@ package src;
 import src.entity.Student;
 import src.entity.CareerCenterStaff;
 import src.entity.CompanyRepresentative;
+import src.entity.CsvRowSource;
 import src.entity.Internship;
 import src.entity.InternshipApplication;
+import src.entity.User;
+import src.index.ApplicationIndex;
+import src.index.DateWindowIndex;
+import src.index.InternshipSearchIndex;
+import src.index.StaffDashboard;
+import src.index.WithdrawalQueue;
+import src.index.TitleTrigramIndex;
+import src.index.IntSet;
+import src.monitor.CsvLoadEvent;
+import src.monitor.CsvSaveEvent;
+import src.monitor.Metrics;
+import src.monitor.OperationTimer;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import src.enums.CompanyApprovalStatus;
 import src.enums.InternshipLevel;
 import src.enums.InternshipStatus;
 import src.enums.InternshipWithdrawalStatus;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.nio.file.Path;
 import java.time.LocalDate;
 
 /**
@@ -33,14 +49,45 @@ import java.time.LocalDate;
  * Usage: call {@link #getInstance()} to obtain the singleton
  * instance, then use provided getters, finders, adders, and save
  * methods to operate on the data.
+ *
+ * <p>
+ * In lazy-loading mode (see {@link #setLazyLoading(boolean)}) the
+ * loaders keep only the attributes used for lookups, filtering and
+ * indexing. User emails and passwords and internship descriptions
+ * and applicant lists are re-read from their CSV row the first time
+ * they are used, so resident memory follows the working set.
  */
 public class DataStore {
     private static DataStore instance;
+    private static boolean lazyLoading;
+    private static final OperationTimer LOAD_STUDENTS_FROM_CSV = Metrics.timer("datastore.loadStudentsFromCSV");
+    private static final OperationTimer LOAD_STAFF_FROM_CSV = Metrics.timer("datastore.loadStaffFromCSV");
+    private static final OperationTimer LOAD_COMPANY_REPS_FROM_CSV = Metrics.timer("datastore.loadCompanyRepsFromCSV");
+    private static final OperationTimer LOAD_INTERNSHIPS_FROM_CSV = Metrics.timer("datastore.loadInternshipsFromCSV");
+    private static final OperationTimer LOAD_APPLICATIONS_FROM_CSV = Metrics.timer("datastore.loadApplicationsFromCSV");
+    private static final OperationTimer SAVE_STUDENTS = Metrics.timer("datastore.saveStudents");
+    private static final OperationTimer SAVE_STAFF = Metrics.timer("datastore.saveStaff");
+    private static final OperationTimer SAVE_COMPANY_REPS = Metrics.timer("datastore.saveCompanyReps");
+    private static final OperationTimer SAVE_INTERNSHIPS = Metrics.timer("datastore.saveInternships");
+    private static final OperationTimer SAVE_APPLICATIONS = Metrics.timer("datastore.saveApplications");
+    private static final OperationTimer SAVE_ALL = Metrics.timer("datastore.saveAll");
+
     private ArrayList<Student> studentList;
     private ArrayList<CompanyRepresentative> companyRepresentativeList;
     private ArrayList<CareerCenterStaff> careerCenterStaffList;
     private ArrayList<Internship> internshipList;
-    private ArrayList<InternshipApplication> internshipApplicationsList;
+    private LinkedHashSet<InternshipApplication> internshipApplications;
+    private HashMap<String, Student> studentsById;
+    private HashMap<String, CompanyRepresentative> companyRepsById;
+    private HashMap<String, CareerCenterStaff> staffById;
+    private HashMap<String, Internship> internshipsById;
+    private HashMap<String, InternshipApplication> applicationsById;
+    private ApplicationIndex applicationIndex;
+    private InternshipSearchIndex searchIndex;
+    private TitleTrigramIndex titleIndex;
+    private DateWindowIndex dateIndex;
+    private WithdrawalQueue withdrawalQueue;
+    private StaffDashboard dashboard;
 
     /**
      * Private constructor for the singleton DataStore class.
@@ -48,14 +95,53 @@ public class DataStore {
      * CSV load to populate the repository with sample data.
      */
     private DataStore() {
+        createCollections();
+        loadInitialData();
+    }
+
+    /**
+     * Creates the empty entity collections, id lookups and indexes.
+     */
+    private void createCollections() {
         // Initialize empty ArrayLists
         this.studentList = new ArrayList<>();
         this.companyRepresentativeList = new ArrayList<>();
         this.careerCenterStaffList = new ArrayList<>();
         this.internshipList = new ArrayList<>();
-        this.internshipApplicationsList = new ArrayList<>();
+        this.internshipApplications = new LinkedHashSet<>();
+        this.studentsById = new HashMap<>();
+        this.companyRepsById = new HashMap<>();
+        this.staffById = new HashMap<>();
+        this.internshipsById = new HashMap<>();
+        this.applicationsById = new HashMap<>();
+        this.applicationIndex = new ApplicationIndex();
+        this.searchIndex = new InternshipSearchIndex();
+        this.titleIndex = new TitleTrigramIndex();
+        this.dateIndex = new DateWindowIndex();
+        this.withdrawalQueue = new WithdrawalQueue();
+        this.dashboard = new StaffDashboard(withdrawalQueue, applicationIndex);
+    }
 
-        loadInitialData();
+    /**
+     * Removes every entity and replaces the indexes with empty ones, so the
+     * store can be reloaded from other files with the CSV loaders. The
+     * removed entities' keys are released and, once the new indexes are in
+     * place, restarted, so a reload assigns keys from 0 again. The
+     * internships' descriptions are discarded, which lets the description
+     * arena free its off-heap chunks once no other internship holds one.
+     */
+    public void clear() {
+        studentList.forEach(Student::releaseKey);
+        careerCenterStaffList.forEach(CareerCenterStaff::releaseKey);
+        companyRepresentativeList.forEach(CompanyRepresentative::releaseKey);
+        internshipList.forEach(Internship::releaseKey);
+        internshipApplications.forEach(InternshipApplication::releaseKey);
+        createCollections();
+        Student.resetKeys();
+        CareerCenterStaff.resetKeys();
+        CompanyRepresentative.resetKeys();
+        Internship.resetKeys();
+        InternshipApplication.resetKeys();
     }
 
     /**
@@ -71,6 +157,26 @@ public class DataStore {
         return instance;
     }
 
+    /**
+     * Selects lazy loading of detail fields. Must be called before the
+     * first call to {@link #getInstance()}.
+     *
+     * @param lazy true to defer emails, passwords, descriptions and
+     *             applicant lists until first use
+     */
+    public static void setLazyLoading(boolean lazy) {
+        lazyLoading = lazy;
+    }
+
+    /**
+     * Returns whether detail fields are loaded lazily.
+     *
+     * @return true in lazy-loading mode
+     */
+    public static boolean isLazyLoading() {
+        return lazyLoading;
+    }
+
     /**
      * Load all initial data from CSV files during singleton initialization.
      * Calls each CSV loader method in sequence and prints a summary of
@@ -88,7 +194,7 @@ public class DataStore {
         System.out.println("- " + careerCenterStaffList.size() + " staff members");
         System.out.println("- " + companyRepresentativeList.size() + " company representatives");
         System.out.println("- " + internshipList.size() + " Internships");
-        System.out.println("- " + internshipApplicationsList.size() + " Internship applications");
+        System.out.println("- " + internshipApplications.size() + " Internship applications");
     }
 
     /**
@@ -98,36 +204,52 @@ public class DataStore {
      *
      * @param filename path to the student CSV file
      */
-    private void loadStudentsFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            boolean isFirstLine = true;
+    public void loadStudentsFromCSV(String filename) {
+        long start = LOAD_STUDENTS_FROM_CSV.start();
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int before = studentList.size();
+        try {
+            CsvRowSource<User> rows = new CsvRowSource<>(Path.of(filename), (user, line) -> hydrateUser(user, line, 4, 5));
+            try (CsvRowSource.RowReader br = rows.open()) {
+                String line;
+                boolean isFirstLine = true;
 
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue; // Skip header
-                }
+                while ((line = br.readLine()) != null) {
+                    if (isFirstLine) {
+                        isFirstLine = false;
+                        continue; // Skip header
+                    }
 
-                String[] data = line.split(",");
-                if (data.length >= 5) {
-                    String studentId = data[0].trim();
-                    String name = data[1].trim();
-                    String major = data[2].trim();
-                    int yearOfStudy = Integer.parseInt(data[3].trim());
-                    String email = data[4].trim();
-
-                    String password = (data.length >= 6) ? data[5].trim() : "password";
-                    // Default password is "password" as per requirements
-                    Student student = new Student(studentId, password, name, email, yearOfStudy, major);
-                    studentList.add(student);
+                    String[] data = line.split(",");
+                    if (data.length >= 5) {
+                        String studentId = data[0].trim();
+                        String name = data[1].trim();
+                        String major = data[2].trim();
+                        int yearOfStudy = Integer.parseInt(data[3].trim());
+                        String email = data[4].trim();
+
+                        String password = (data.length >= 6) ? data[5].trim() : "password";
+                        // Default password is "password" as per requirements
+                        Student student;
+                        if (lazyLoading) {
+                            student = new Student(studentId, null, name, null, yearOfStudy, major);
+                            student.deferDetails(rows.row(br));
+                        } else {
+                            student = new Student(studentId, password, name, email, yearOfStudy, major);
+                        }
+                        addStudent(student);
+                    }
                 }
+            } catch (IOException e) {
+                System.out.println("Warning: Could not load student data from " + filename);
+                System.out.println("Error: " + e.getMessage());
+            } catch (NumberFormatException e) {
+                System.out.println("Warning: Invalid year format in student data");
             }
-        } catch (IOException e) {
-            System.out.println("Warning: Could not load student data from " + filename);
-            System.out.println("Error: " + e.getMessage());
-        } catch (NumberFormatException e) {
-            System.out.println("Warning: Invalid year format in student data");
+        } finally {
+            event.finish(filename, studentList.size() - before);
+            LOAD_STUDENTS_FROM_CSV.stop(start);
         }
     }
 
@@ -138,34 +260,50 @@ public class DataStore {
      *
      * @param filename path to the staff CSV file
      */
-    private void loadStaffFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            boolean isFirstLine = true;
+    public void loadStaffFromCSV(String filename) {
+        long start = LOAD_STAFF_FROM_CSV.start();
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int before = careerCenterStaffList.size();
+        try {
+            CsvRowSource<User> rows = new CsvRowSource<>(Path.of(filename), (user, line) -> hydrateUser(user, line, 4, 5));
+            try (CsvRowSource.RowReader br = rows.open()) {
+                String line;
+                boolean isFirstLine = true;
 
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue; // Skip header
-                }
+                while ((line = br.readLine()) != null) {
+                    if (isFirstLine) {
+                        isFirstLine = false;
+                        continue; // Skip header
+                    }
 
-                String[] data = line.split(",");
-                if (data.length >= 5) {
-                    String staffId = data[0].trim();
-                    String name = data[1].trim();
-                    String role = data[2].trim();
-                    String department = data[3].trim();
-                    String email = data[4].trim();
-
-                    String password = (data.length >= 6) ? data[5].trim() : "password";
-                    // Default password is "password" as per requirements
-                    CareerCenterStaff staff = new CareerCenterStaff(staffId, password, name, email, role, department);
-                    careerCenterStaffList.add(staff);
+                    String[] data = line.split(",");
+                    if (data.length >= 5) {
+                        String staffId = data[0].trim();
+                        String name = data[1].trim();
+                        String role = data[2].trim();
+                        String department = data[3].trim();
+                        String email = data[4].trim();
+
+                        String password = (data.length >= 6) ? data[5].trim() : "password";
+                        // Default password is "password" as per requirements
+                        CareerCenterStaff staff;
+                        if (lazyLoading) {
+                            staff = new CareerCenterStaff(staffId, null, name, null, role, department);
+                            staff.deferDetails(rows.row(br));
+                        } else {
+                            staff = new CareerCenterStaff(staffId, password, name, email, role, department);
+                        }
+                        addStaff(staff);
+                    }
                 }
+            } catch (IOException e) {
+                System.out.println("Warning: Could not load staff data from " + filename);
+                System.out.println("Error: " + e.getMessage());
             }
-        } catch (IOException e) {
-            System.out.println("Warning: Could not load staff data from " + filename);
-            System.out.println("Error: " + e.getMessage());
+        } finally {
+            event.finish(filename, careerCenterStaffList.size() - before);
+            LOAD_STAFF_FROM_CSV.stop(start);
         }
     }
 
@@ -177,47 +315,63 @@ public class DataStore {
      *
      * @param filename path to the company representative CSV file
      */
-    private void loadCompanyRepsFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            boolean isFirstLine = true;
-
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue; // Skip header
-                }
+    public void loadCompanyRepsFromCSV(String filename) {
+        long start = LOAD_COMPANY_REPS_FROM_CSV.start();
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int before = companyRepresentativeList.size();
+        try {
+            CsvRowSource<User> rows = new CsvRowSource<>(Path.of(filename), (user, line) -> hydrateUser(user, line, 5, 7));
+            try (CsvRowSource.RowReader br = rows.open()) {
+                String line;
+                boolean isFirstLine = true;
 
-                String[] data = line.split(",");
-                if (data.length >= 7) {
-                    String repId = data[0].trim();
-                    String name = data[1].trim();
-                    String companyName = data[2].trim();
-                    String department = data[3].trim();
-                    String position = data[4].trim();
-                    String email = data[5].trim();
-                    String status = data[6].trim();
-
-                    String password = (data.length >= 8) ? data[7].trim() : "password";
-                    // Default password is "password" as per requirements
-                    CompanyRepresentative rep = new CompanyRepresentative(repId, password, name, email, companyName,
-                            department, position);
-
-                    // // Set approval status based on CSV
-                    if ("APPROVED".equalsIgnoreCase(status) || status == null) {
-                        rep.setApproval(CompanyApprovalStatus.APPROVED);
-                    } else if ("REJECTED".equalsIgnoreCase(status)) {
-                        rep.setApproval(CompanyApprovalStatus.REJECTED);
-                    } else {
-                        rep.setApproval(CompanyApprovalStatus.PENDING);
+                while ((line = br.readLine()) != null) {
+                    if (isFirstLine) {
+                        isFirstLine = false;
+                        continue; // Skip header
                     }
 
-                    companyRepresentativeList.add(rep);
+                    String[] data = line.split(",");
+                    if (data.length >= 7) {
+                        String repId = data[0].trim();
+                        String name = data[1].trim();
+                        String companyName = data[2].trim();
+                        String department = data[3].trim();
+                        String position = data[4].trim();
+                        String email = data[5].trim();
+                        String status = data[6].trim();
+
+                        String password = (data.length >= 8) ? data[7].trim() : "password";
+                        // Default password is "password" as per requirements
+                        CompanyRepresentative rep;
+                        if (lazyLoading) {
+                            rep = new CompanyRepresentative(repId, null, name, null, companyName, department, position);
+                            rep.deferDetails(rows.row(br));
+                        } else {
+                            rep = new CompanyRepresentative(repId, password, name, email, companyName, department,
+                                    position);
+                        }
+
+                        // // Set approval status based on CSV
+                        if ("APPROVED".equalsIgnoreCase(status) || status == null) {
+                            rep.setApproval(CompanyApprovalStatus.APPROVED);
+                        } else if ("REJECTED".equalsIgnoreCase(status)) {
+                            rep.setApproval(CompanyApprovalStatus.REJECTED);
+                        } else {
+                            rep.setApproval(CompanyApprovalStatus.PENDING);
+                        }
+
+                        CompanyRepresentativeAdd(rep);
+                    }
                 }
+            } catch (IOException e) {
+                System.out.println("Warning: Could not load company representative data from " + filename);
+                System.out.println("Error: " + e.getMessage());
             }
-        } catch (IOException e) {
-            System.out.println("Warning: Could not load company representative data from " + filename);
-            System.out.println("Error: " + e.getMessage());
+        } finally {
+            event.finish(filename, companyRepresentativeList.size() - before);
+            LOAD_COMPANY_REPS_FROM_CSV.stop(start);
         }
     }
 
@@ -228,60 +382,88 @@ public class DataStore {
      *
      * @param filename path to the internships CSV file
      */
-    private void loadInternshipsFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            boolean isFirstLine = true;
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
+    public void loadInternshipsFromCSV(String filename) {
+        long start = LOAD_INTERNSHIPS_FROM_CSV.start();
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int before = internshipList.size();
+        try {
+            CsvRowSource<Internship> rows = new CsvRowSource<>(Path.of(filename), this::hydrateInternship);
+            try (CsvRowSource.RowReader br = rows.open()) {
+                String line;
+                boolean isFirstLine = true;
+                while ((line = br.readLine()) != null) {
+                    if (isFirstLine) {
+                        isFirstLine = false;
+                        continue;
+                    }
 
-                // Split CSV while respecting quoted commas
-                String[] data = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
-                if (data.length < 12)
-                    continue;
+                    // Split CSV while respecting quoted commas
+                    String[] data = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
+                    if (data.length < 12)
+                        continue;
 
-                String id = data[0].trim();
-                String title = data[1].trim();
-                String description = data[2].trim();
-                if (description.startsWith("\"") && description.endsWith("\"")) {
-                    description = description.substring(1, description.length() - 1);
-                }
-                InternshipLevel level = InternshipLevel.valueOf(data[3].trim());
-                String major = data[4].trim();
-                LocalDate open = LocalDate.parse(data[5].trim());
-                LocalDate close = LocalDate.parse(data[6].trim());
-                int slots = Integer.parseInt(data[7].trim());
-                String repId = data[8].trim();
-                InternshipStatus status = InternshipStatus.valueOf(data[9].trim());
-                boolean visibility = Boolean.parseBoolean(data[10].trim());
-                String applicantsStr = data[11].trim();
-
-                CompanyRepresentative rep = findCompanyRep(repId);
-                if (rep != null) {
-                    Internship internship = new Internship(id, title, description, level, major, open, close, slots,
-                            rep);
-                    internship.setStatus(status);
-                    internship.setVisibility(visibility);
-
-                    if (!applicantsStr.isEmpty()) {
-                        String[] studentIds = applicantsStr.split(";");
-                        for (String sid : studentIds) {
-                            Student s = findStudent(sid);
-                            if (s != null)
-                                internship.addApplicant(s);
+                    String id = data[0].trim();
+                    String title = data[1].trim();
+                    String description = data[2].trim();
+                    if (description.startsWith("\"") && description.endsWith("\"")) {
+                        description = description.substring(1, description.length() - 1);
+                    }
+                    InternshipLevel level = InternshipLevel.valueOf(data[3].trim());
+                    String major = data[4].trim();
+                    LocalDate open = LocalDate.parse(data[5].trim());
+                    LocalDate close = LocalDate.parse(data[6].trim());
+                    int slots = Integer.parseInt(data[7].trim());
+                    String repId = data[8].trim();
+                    InternshipStatus status = InternshipStatus.valueOf(data[9].trim());
+                    boolean visibility = Boolean.parseBoolean(data[10].trim());
+                    String applicantsStr = data[11].trim();
+
+                    CompanyRepresentative rep = findCompanyRep(repId);
+                    if (rep != null && lazyLoading) {
+                        // slots are reduced by the applicants now, as the eager path does
+                        IntSet applicants = new IntSet();
+                        if (!applicantsStr.isEmpty()) {
+                            for (String sid : applicantsStr.split(";")) {
+                                Student s = findStudent(sid);
+                                if (s != null)
+                                    applicants.add(s.getKey());
+                            }
                         }
+                        Internship internship = new Internship(id, title, null, level, major, open, close,
+                                slots - applicants.size(), rep);
+                        internship.setStatus(status);
+                        internship.setVisibility(visibility);
+                        internship.deferDetails(rows.row(br));
+                        addInternship(internship, description);
+                        rep.getInternships().add(internship);
+                        rep.setInternshipCount(rep.getInternships().size());
+                    } else if (rep != null) {
+                        Internship internship = new Internship(id, title, description, level, major, open, close, slots,
+                                rep);
+                        internship.setStatus(status);
+                        internship.setVisibility(visibility);
+
+                        if (!applicantsStr.isEmpty()) {
+                            String[] studentIds = applicantsStr.split(";");
+                            for (String sid : studentIds) {
+                                Student s = findStudent(sid);
+                                if (s != null)
+                                    internship.addApplicant(s);
+                            }
+                        }
+                        addInternship(internship);
+                        rep.getInternships().add(internship);
+                        rep.setInternshipCount(rep.getInternships().size());
                     }
-                    internshipList.add(internship);
-                    rep.getInternships().add(internship);
-                    rep.setInternshipCount(rep.getInternships().size());
                 }
+            } catch (Exception e) {
+                System.out.println("Error loading internships: " + e.getMessage());
+                e.printStackTrace();
             }
-        } catch (Exception e) {
-            System.out.println("Error loading internships: " + e.getMessage());
-            e.printStackTrace();
+        } finally {
+            event.finish(filename, internshipList.size() - before);
+            LOAD_INTERNSHIPS_FROM_CSV.stop(start);
         }
     }
 
@@ -293,48 +475,96 @@ public class DataStore {
      *
      * @param filename path to the applications CSV file
      */
-    private void loadApplicationsFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            boolean isFirstLine = true;
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
-                String[] data = line.split(",");
-                if (data.length >= 7) {
-                    String appId = data[0].trim();
-                    String studentId = data[1].trim();
-                    String internshipId = data[2].trim();
-                    String repId = data[3].trim();
-                    InternshipStatus companyAccept = InternshipStatus.valueOf(data[4].trim());
-                    InternshipStatus studentAccept = InternshipStatus.valueOf(data[5].trim());
-                    InternshipWithdrawalStatus studentWithdraw = InternshipWithdrawalStatus.valueOf(data[6].trim());
-
-                    Student student = findStudent(studentId);
-                    Internship internship = findInternship(internshipId);
-                    CompanyRepresentative rep = findCompanyRep(repId);
+    public void loadApplicationsFromCSV(String filename) {
+        long start = LOAD_APPLICATIONS_FROM_CSV.start();
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int before = internshipApplications.size();
+        try {
+            try (CsvRowSource.RowReader br = new CsvRowSource<>(Path.of(filename), null).open()) {
+                String line;
+                boolean isFirstLine = true;
+                while ((line = br.readLine()) != null) {
+                    if (isFirstLine) {
+                        isFirstLine = false;
+                        continue;
+                    }
+                    String[] data = line.split(",");
+                    if (data.length >= 7) {
+                        String appId = data[0].trim();
+                        String studentId = data[1].trim();
+                        String internshipId = data[2].trim();
+                        String repId = data[3].trim();
+                        InternshipStatus companyAccept = InternshipStatus.valueOf(data[4].trim());
+                        InternshipStatus studentAccept = InternshipStatus.valueOf(data[5].trim());
+                        InternshipWithdrawalStatus studentWithdraw = InternshipWithdrawalStatus.valueOf(data[6].trim());
+
+                        Student student = findStudent(studentId);
+                        Internship internship = findInternship(internshipId);
+                        CompanyRepresentative rep = findCompanyRep(repId);
 
-                    if (student != null && internship != null && rep != null) {
-                        InternshipApplication app = new InternshipApplication(appId, rep, student, internship);
-                        app.setCompanyAccept(companyAccept);
-                        app.setStudentAccept(studentAccept);
-                        app.setInternshipWithdrawalStatus(studentWithdraw);
+                        if (student != null && internship != null && rep != null) {
+                            InternshipApplication app = new InternshipApplication(appId, rep, student, internship);
+                            app.setCompanyAccept(companyAccept);
+                            app.setStudentAccept(studentAccept);
+                            app.setInternshipWithdrawalStatus(studentWithdraw);
 
-                        internshipApplicationsList.add(app);
+                            addApplication(app);
 
-                        student.applyInternship(app);
-                        // internship.addApplicant(student);
-                        if (!rep.getInternships().contains(internship)) {
-                            rep.getInternships().add(internship);
-                            rep.setInternshipCount(rep.getInternships().size());
+                            student.applyInternship(app);
+                            // internship.addApplicant(student);
+                            if (!rep.getInternships().contains(internship)) {
+                                rep.getInternships().add(internship);
+                                rep.setInternshipCount(rep.getInternships().size());
+                            }
                         }
                     }
                 }
+            } catch (Exception e) {
+                System.out.println("Error loading applications: " + e.getMessage());
+            }
+        } finally {
+            event.finish(filename, internshipApplications.size() - before);
+            LOAD_APPLICATIONS_FROM_CSV.stop(start);
+        }
+    }
+
+    /**
+     * Fills in the deferred email and password of a lazily loaded user
+     * from its CSV line. Missing passwords default to "password".
+     *
+     * @param user           the user to fill in
+     * @param line           the user's CSV line
+     * @param emailColumn    column holding the email
+     * @param passwordColumn column holding the password
+     */
+    private static void hydrateUser(User user, String line, int emailColumn, int passwordColumn) {
+        String[] data = line.split(",");
+        user.setEmail(data[emailColumn].trim());
+        user.setPassword((data.length > passwordColumn) ? data[passwordColumn].trim() : "password");
+    }
+
+    /**
+     * Fills in the deferred description and applicants of a lazily loaded
+     * internship from its CSV line. The slot count is left as loaded.
+     *
+     * @param internship the internship to fill in
+     * @param line       the internship's CSV line
+     */
+    private void hydrateInternship(Internship internship, String line) {
+        String[] data = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
+        String description = data[2].trim();
+        if (description.startsWith("\"") && description.endsWith("\"")) {
+            description = description.substring(1, description.length() - 1);
+        }
+        internship.setDescription(description);
+        String applicantsStr = data[11].trim();
+        if (!applicantsStr.isEmpty()) {
+            for (String sid : applicantsStr.split(";")) {
+                Student s = findStudent(sid);
+                if (s != null)
+                    internship.addApplicant(s);
             }
-        } catch (Exception e) {
-            System.out.println("Error loading applications: " + e.getMessage());
         }
     }
 
@@ -386,16 +616,62 @@ public class DataStore {
     }
 
     /**
-     * Returns the list of internship applications currently in memory.
+     * Returns the list of internship applications currently in memory, in the
+     * order they were added. The list is a copy; changing it does not change
+     * the store. Use {@link #addApplication} and {@link #removeApplication} so
+     * the reverse indexes stay in sync.
      *
      * @return list of {@link src.entity.InternshipApplication}
      */
     public ArrayList<InternshipApplication> getInternshipApplicationsList() {
-        return this.internshipApplicationsList;
+        return new ArrayList<>(this.internshipApplications);
+    }
+
+    /**
+     * Returns the internship applications currently in memory as a read-only
+     * view, in the order they were added, without copying them.
+     *
+     * @return read-only collection of {@link src.entity.InternshipApplication}
+     */
+    public Collection<InternshipApplication> getInternshipApplications() {
+        return Collections.unmodifiableCollection(this.internshipApplications);
+    }
+
+    /**
+     * Returns the reverse indexes from internships and company
+     * representatives to their applications.
+     *
+     * @return the {@link src.index.ApplicationIndex}
+     */
+    public ApplicationIndex getApplicationIndex() {
+        return this.applicationIndex;
     }
 
     // SETTERS
 
+    /**
+     * Adds a student to the in-memory list and the id lookup.
+     *
+     * @param student the {@link src.entity.Student} to add
+     */
+    public void addStudent(Student student) {
+        student.getKey(); // assigns the key, in insertion order
+        this.studentList.add(student);
+        studentsById.putIfAbsent(student.getUserId(), student);
+    }
+
+    /**
+     * Adds a career center staff member to the in-memory list and the id
+     * lookup.
+     *
+     * @param staff the {@link src.entity.CareerCenterStaff} to add
+     */
+    public void addStaff(CareerCenterStaff staff) {
+        staff.getKey(); // assigns the key, in insertion order
+        this.careerCenterStaffList.add(staff);
+        staffById.putIfAbsent(staff.getUserId(), staff);
+    }
+
     /**
      * Convenience method to add a company representative to the
      * in-memory list.
@@ -403,16 +679,177 @@ public class DataStore {
      * @param rep the {@link src.entity.CompanyRepresentative} to add
      */
     public void CompanyRepresentativeAdd(CompanyRepresentative rep) {
+        rep.getKey(); // assigns the key, in insertion order
         this.companyRepresentativeList.add(rep);
+        companyRepsById.putIfAbsent(rep.getUserId(), rep);
+        dashboard.repChanged(rep);
+    }
+
+    /**
+     * Removes a company representative from the in-memory list and releases
+     * its key.
+     *
+     * @param rep the {@link src.entity.CompanyRepresentative} to remove
+     * @return true if the representative was in the list
+     */
+    public boolean removeCompanyRep(CompanyRepresentative rep) {
+        dashboard.repRemoved(rep);
+        companyRepsById.remove(rep.getUserId(), rep);
+        if (!companyRepresentativeList.remove(rep)) {
+            return false;
+        }
+        rep.releaseKey();
+        return true;
+    }
+
+    /**
+     * Adds an internship application to the in-memory set and indexes it by
+     * internship and company representative. An application whose withdrawal
+     * is already pending is queued for staff review.
+     *
+     * @param app the {@link src.entity.InternshipApplication} to add
+     */
+    public void addApplication(InternshipApplication app) {
+        if (!internshipApplications.add(app)) {
+            return;
+        }
+        app.getKey(); // assigns the key, in insertion order
+        applicationsById.putIfAbsent(app.getApplicationId(), app);
+        applicationIndex.add(app);
+        if (app.getInternshipWithdrawalStatus() == InternshipWithdrawalStatus.PENDING) {
+            withdrawalQueue.offer(app);
+        }
+    }
+
+    /**
+     * Removes an internship application from the in-memory set and the
+     * reverse indexes in constant time. The application is not removed from
+     * its student's applied list.
+     *
+     * @param app the {@link src.entity.InternshipApplication} to remove
+     * @return true if the application was in the set
+     */
+    public boolean removeApplication(InternshipApplication app) {
+        if (!internshipApplications.remove(app)) {
+            return false;
+        }
+        applicationsById.remove(app.getApplicationId(), app);
+        applicationIndex.remove(app);
+        withdrawalQueue.remove(app);
+        app.releaseKey();
+        return true;
+    }
+
+    /**
+     * Returns the queue of applications with a pending withdrawal request.
+     *
+     * @return the {@link src.index.WithdrawalQueue}
+     */
+    public WithdrawalQueue getWithdrawalQueue() {
+        return this.withdrawalQueue;
+    }
+
+    /**
+     * Returns the live counters and pending work queues shown to career
+     * center staff.
+     *
+     * @return the {@link src.index.StaffDashboard}
+     */
+    public StaffDashboard getDashboard() {
+        return this.dashboard;
+    }
+
+    /**
+     * Returns the keyword search index over internship titles and
+     * descriptions.
+     *
+     * @return the {@link src.index.InternshipSearchIndex}
+     */
+    public InternshipSearchIndex getSearchIndex() {
+        return this.searchIndex;
+    }
+
+    /**
+     * Returns the trigram index used for title substring filters.
+     *
+     * @return the {@link src.index.TitleTrigramIndex}
+     */
+    public TitleTrigramIndex getTitleIndex() {
+        return this.titleIndex;
+    }
+
+    /**
+     * Returns the index over internship application windows used for date
+     * filters.
+     *
+     * @return the {@link src.index.DateWindowIndex}
+     */
+    public DateWindowIndex getDateIndex() {
+        return this.dateIndex;
     }
 
     /**
-     * Adds the provided internship to the internal list.
+     * Adds the provided internship to the internal list, indexes it for
+     * keyword search, title and date lookups and counts it on the staff
+     * dashboard.
      *
      * @param internship the {@link src.entity.Internship} to add
      */
     public void addInternship(Internship internship) {
+        addInternship(internship, internship.getDescription());
+    }
+
+    /**
+     * Adds an internship, indexing it for keyword search with the given
+     * description. Used by the loader so that lazily loaded internships are
+     * indexed without loading their description.
+     *
+     * @param internship  the {@link src.entity.Internship} to add
+     * @param description the internship's description
+     */
+    private void addInternship(Internship internship, String description) {
+        internship.getKey(); // assigns the key, in insertion order
         internshipList.add(internship);
+        internshipsById.putIfAbsent(internship.getInternshipId(), internship);
+        searchIndex.add(internship, description);
+        titleIndex.add(internship);
+        dateIndex.add(internship);
+        dashboard.internshipChanged(internship);
+    }
+
+    /**
+     * Removes the provided internship from the internal list and from the
+     * search indexes, and releases its key. Must be called before the
+     * internship's id is changed.
+     *
+     * @param internship the {@link src.entity.Internship} to remove
+     * @return true if the internship was in the list
+     */
+    public boolean removeInternship(Internship internship) {
+        searchIndex.remove(internship);
+        titleIndex.remove(internship);
+        dateIndex.remove(internship);
+        dashboard.internshipRemoved(internship);
+        internshipsById.remove(internship.getInternshipId(), internship);
+        if (!internshipList.remove(internship)) {
+            return false;
+        }
+        internship.releaseKey();
+        return true;
+    }
+
+    /**
+     * Refreshes the indexes and dashboard counters for an internship whose
+     * fields were edited in place. Must be called after changing an
+     * internship's title, description, dates or slots.
+     *
+     * @param internship the edited {@link src.entity.Internship}
+     */
+    public void reindexInternship(Internship internship) {
+        searchIndex.update(internship);
+        titleIndex.update(internship);
+        dateIndex.update(internship);
+        dashboard.internshipChanged(internship);
     }
 
     /**
@@ -434,12 +871,7 @@ public class DataStore {
      */
     // FINDERS: USED TO FIND WHETHER USERID EXISTs WITHIN RESP DATASTORE
     public CompanyRepresentative findCompanyRep(String repId) {
-        for (CompanyRepresentative rep : companyRepresentativeList) {
-            if (rep.getUserId().equals(repId)) {
-                return rep;
-            }
-        }
-        return null;
+        return companyRepsById.get(repId);
     }
 
     /**
@@ -449,12 +881,7 @@ public class DataStore {
      * @return the {@link src.entity.Student} if found, otherwise {@code null}
      */
     public Student findStudent(String studentId) {
-        for (Student s : studentList) {
-            if (s.getUserId().equals(studentId)) {
-                return s;
-            }
-        }
-        return null;
+        return studentsById.get(studentId);
     }
 
     /**
@@ -464,12 +891,7 @@ public class DataStore {
      * @return the {@link src.entity.Internship} if found, otherwise {@code null}
      */
     public Internship findInternship(String internshipId) {
-        for (Internship i : internshipList) {
-            if (i.getInternshipId().equals(internshipId)) {
-                return i;
-            }
-        }
-        return null;
+        return internshipsById.get(internshipId);
     }
 
     /**
@@ -480,12 +902,7 @@ public class DataStore {
      *         {@code null}
      */
     public InternshipApplication findInternshipApplication(String applicationId) {
-        for (InternshipApplication app : internshipApplicationsList) {
-            if (app.getApplicationId() == applicationId) {
-                return app;
-            }
-        }
-        return null;
+        return applicationsById.get(applicationId);
     }
 
     /**
@@ -496,12 +913,7 @@ public class DataStore {
      *         {@code null}
      */
     public CareerCenterStaff findCareerCenterStaff(String staffId) {
-        for (CareerCenterStaff staff : careerCenterStaffList) {
-            if (staff.getUserId().equals(staffId)) {
-                return staff;
-            }
-        }
-        return null;
+        return staffById.get(staffId);
     }
 
     /**
@@ -511,14 +923,23 @@ public class DataStore {
      * @param filename path to write the students CSV to
      */
     public void saveStudents(String filename) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
-            pw.println("ID,Name,Major,Year,Email,Password");
-            for (Student s : studentList) {
-                pw.printf("%s,%s,%s,%d,%s,%s\n",
-                        s.getUserId(), s.getName(), s.getMajor(), s.getYearOfStudy(), s.getEmail(), s.getPassword());
+        long start = SAVE_STUDENTS.start();
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        try {
+            studentList.forEach(User::hydrate); // rows point into the file about to be rewritten
+            try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
+                pw.println("ID,Name,Major,Year,Email,Password");
+                for (Student s : studentList) {
+                    pw.printf("%s,%s,%s,%d,%s,%s\n",
+                            s.getUserId(), s.getName(), s.getMajor(), s.getYearOfStudy(), s.getEmail(), s.getPassword());
+                }
+            } catch (Exception e) {
+                System.out.println("Error saving students: " + e.getMessage());
             }
-        } catch (Exception e) {
-            System.out.println("Error saving students: " + e.getMessage());
+        } finally {
+            event.finish(filename, studentList.size());
+            SAVE_STUDENTS.stop(start);
         }
     }
 
@@ -528,15 +949,24 @@ public class DataStore {
      * @param filename path to write the staff CSV to
      */
     public void saveStaff(String filename) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
-            pw.println("ID,Name,Role,Department,Email,Password");
-            for (CareerCenterStaff s : careerCenterStaffList) {
-                pw.printf("%s,%s,%s,%s,%s,%s\n",
-                        s.getUserId(), s.getName(), s.getStaffRole(), s.getStaffDepartment(), s.getEmail(),
-                        s.getPassword());
+        long start = SAVE_STAFF.start();
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        try {
+            careerCenterStaffList.forEach(User::hydrate);
+            try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
+                pw.println("ID,Name,Role,Department,Email,Password");
+                for (CareerCenterStaff s : careerCenterStaffList) {
+                    pw.printf("%s,%s,%s,%s,%s,%s\n",
+                            s.getUserId(), s.getName(), s.getStaffRole(), s.getStaffDepartment(), s.getEmail(),
+                            s.getPassword());
+                }
+            } catch (Exception e) {
+                System.out.println("Error saving staff: " + e.getMessage());
             }
-        } catch (Exception e) {
-            System.out.println("Error saving staff: " + e.getMessage());
+        } finally {
+            event.finish(filename, careerCenterStaffList.size());
+            SAVE_STAFF.stop(start);
         }
     }
 
@@ -547,15 +977,24 @@ public class DataStore {
      * @param filename path to write the company reps CSV to
      */
     public void saveCompanyReps(String filename) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
-            pw.println("ID,Name,CompanyName,Department,Position,Email,Status,Password");
-            for (CompanyRepresentative rep : companyRepresentativeList) {
-                pw.printf("%s,%s,%s,%s,%s,%s,%s,%s\n",
-                        rep.getUserId(), rep.getName(), rep.getCompanyName(), rep.getDepartment(),
-                        rep.getPosition(), rep.getEmail(), rep.getApproval().name(), rep.getPassword());
+        long start = SAVE_COMPANY_REPS.start();
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        try {
+            companyRepresentativeList.forEach(User::hydrate);
+            try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
+                pw.println("ID,Name,CompanyName,Department,Position,Email,Status,Password");
+                for (CompanyRepresentative rep : companyRepresentativeList) {
+                    pw.printf("%s,%s,%s,%s,%s,%s,%s,%s\n",
+                            rep.getUserId(), rep.getName(), rep.getCompanyName(), rep.getDepartment(),
+                            rep.getPosition(), rep.getEmail(), rep.getApproval().name(), rep.getPassword());
+                }
+            } catch (Exception e) {
+                System.out.println("Error saving company reps: " + e.getMessage());
             }
-        } catch (Exception e) {
-            System.out.println("Error saving company reps: " + e.getMessage());
+        } finally {
+            event.finish(filename, companyRepresentativeList.size());
+            SAVE_COMPANY_REPS.stop(start);
         }
     }
 
@@ -566,20 +1005,34 @@ public class DataStore {
      * @param filename path to write the internships CSV to
      */
     public void saveInternships(String filename) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
-            pw.println("ID,Title,Description,Level,Major,OpenDate,CloseDate,Slots,RepID,Status,Visibility,Applicants");
-            for (Internship i : internshipList) {
-                String applicantsStr = String.join(";",
-                        i.getApplicants().stream().map(Student::getUserId).toArray(String[]::new));
-
-                pw.printf("%s,%s,%s,%s,%s,%s,%s,%d,%s,%s,%b,%s\n", i.getInternshipId(), i.getTitle(),
-                        i.getDescription(), i.getLevel().name(), i.getMajor(), i.getOpenDate(), i.getCloseDate(),
-                        i.getNumberOfSlotsLeft(), i.getCompanyRep().getUserId(), i.getStatus().name(),
-                        i.getVisibility(),
-                        applicantsStr);
+        long start = SAVE_INTERNSHIPS.start();
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        try {
+            internshipList.forEach(Internship::hydrate);
+            try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
+                pw.println("ID,Title,Description,Level,Major,OpenDate,CloseDate,Slots,RepID,Status,Visibility,Applicants");
+                for (Internship i : internshipList) {
+                    StringBuilder applicantsStr = new StringBuilder();
+                    for (Student s : i.getApplicants()) {
+                        if (applicantsStr.length() > 0) {
+                            applicantsStr.append(';');
+                        }
+                        applicantsStr.append(s.getUserId());
+                    }
+
+                    pw.printf("%s,%s,%s,%s,%s,%s,%s,%d,%s,%s,%b,%s\n", i.getInternshipId(), i.getTitle(),
+                            i.getDescription(), i.getLevel().name(), i.getMajor(), i.getOpenDate(), i.getCloseDate(),
+                            i.getNumberOfSlotsLeft(), i.getCompanyRep().getUserId(), i.getStatus().name(),
+                            i.getVisibility(),
+                            applicantsStr);
+                }
+            } catch (Exception e) {
+                System.out.println("Error saving internships: " + e.getMessage());
             }
-        } catch (Exception e) {
-            System.out.println("Error saving internships: " + e.getMessage());
+        } finally {
+            event.finish(filename, internshipList.size());
+            SAVE_INTERNSHIPS.stop(start);
         }
     }
 
@@ -591,20 +1044,28 @@ public class DataStore {
      * @param filename path to write the applications CSV to
      */
     public void saveApplications(String filename) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
-            pw.println("AppID,StudentID,InternshipID,RepID,CompanyAccept,StudentAccept,StudentWithdraw");
-            for (InternshipApplication app : internshipApplicationsList) {
-                pw.printf("%s,%s,%s,%s,%s,%s,%s\n",
-                        app.getApplicationId(),
-                        app.getStudent().getUserId(),
-                        app.getInternship().getInternshipId(),
-                        app.getCompanyRep().getUserId(),
-                        app.getCompanyAccept().name(),
-                        app.getStudentAccept().name(),
-                        app.getInternshipWithdrawalStatus().name());
+        long start = SAVE_APPLICATIONS.start();
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        try {
+            try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
+                pw.println("AppID,StudentID,InternshipID,RepID,CompanyAccept,StudentAccept,StudentWithdraw");
+                for (InternshipApplication app : internshipApplications) {
+                    pw.printf("%s,%s,%s,%s,%s,%s,%s\n",
+                            app.getApplicationId(),
+                            app.getStudent().getUserId(),
+                            app.getInternship().getInternshipId(),
+                            app.getCompanyRep().getUserId(),
+                            app.getCompanyAccept().name(),
+                            app.getStudentAccept().name(),
+                            app.getInternshipWithdrawalStatus().name());
+                }
+            } catch (Exception e) {
+                System.out.println("Error saving applications: " + e.getMessage());
             }
-        } catch (Exception e) {
-            System.out.println("Error saving applications: " + e.getMessage());
+        } finally {
+            event.finish(filename, internshipApplications.size());
+            SAVE_APPLICATIONS.stop(start);
         }
     }
 
@@ -614,12 +1075,17 @@ public class DataStore {
      * respective CSV files in one operation.
      */
     public void saveAll() {
-        saveStudents("src\\csvFiles\\sample_student_list.csv");
-        saveStaff("src\\csvFiles\\sample_staff_list.csv");
-        saveCompanyReps("src\\csvFiles\\sample_company_representative_list.csv");
-        saveInternships("src\\csvFiles\\sample_internship_list.csv");
-        saveApplications("src\\csvFiles\\sample_internship_applications.csv");
-        System.out.println("All data saved to CSV.");
+        long start = SAVE_ALL.start();
+        try {
+            saveStudents("src\\csvFiles\\sample_student_list.csv");
+            saveStaff("src\\csvFiles\\sample_staff_list.csv");
+            saveCompanyReps("src\\csvFiles\\sample_company_representative_list.csv");
+            saveInternships("src\\csvFiles\\sample_internship_list.csv");
+            saveApplications("src\\csvFiles\\sample_internship_applications.csv");
+            System.out.println("All data saved to CSV.");
+        } finally {
+            SAVE_ALL.stop(start);
+        }
     }
 
 }
@@ -9,6 +9,8 @@ import src.interfaces.AuthController;
 import src.view.StudentView;
 import src.view.CompanyRepresentativeView;
 import src.view.CareerCenterStaffView;
+import src.monitor.FootprintMonitor;
+import src.monitor.Metrics;
 
 /**
  * Entry point for the internship-management project CLI.
@@ -26,13 +28,24 @@ public class ProjectApp {
      * routes to the appropriate controller/view based on user
      * selection, and persists data when the user exits.
      *
-     * @param args command-line arguments (unused)
+     * @param args command-line arguments; {@code --lazy} defers loading
+     *             of detail fields until they are used and
+     *             {@code --metrics} times operations
      */
     public static void main(String args[]) {
         System.out.println("This is the main program");
 
+        for (String arg : args) {
+            if (arg.equals("--lazy")) {
+                DataStore.setLazyLoading(true);
+            } else if (arg.equals("--metrics")) {
+                Metrics.setEnabled(true);
+            }
+        }
+
         DataStore dataStore = DataStore.getInstance();
         System.out.println("DataStore instance obtained in ProjectApp.");
+        FootprintMonitor.getInstance(dataStore); // publish memory footprint over JMX
 
         // take inputs
         Scanner sc = new Scanner(System.in);
@@ -0,0 +1,81 @@
+package src.benchmark;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import src.report.InternshipColumns;
+import src.report.NumericFilterKernel;
+
+/**
+ * Measures the throughput of the numeric column filter kernel.
+ *
+ * <p>
+ * Generates primitive slot and date columns of the requested length and
+ * compares {@link NumericFilterKernel#select} with a straightforward branching
+ * loop over the same columns. Both must select the same number of rows.
+ *
+ * <p>
+ * Usage: {@code java src.benchmark.ColumnFilterBenchmark [rows]}
+ */
+public class ColumnFilterBenchmark {
+
+    /**
+     * Runs the benchmark and prints the median time and rows per second.
+     *
+     * @param args optional row count
+     */
+    public static void main(String[] args) {
+        int n = (args.length >= 1) ? Integer.parseInt(args[0]) : 10_000_000;
+        Random random = new Random(42L);
+        int base = (int) LocalDate.of(2025, 1, 1).toEpochDay();
+        int[] slots = new int[n];
+        int[] open = new int[n];
+        int[] close = new int[n];
+        for (int r = 0; r < n; r++) {
+            slots[r] = random.nextInt(10);
+            open[r] = base + random.nextInt(365);
+            close[r] = open[r] + 14 + random.nextInt(60);
+        }
+        InternshipColumns columns = new InternshipColumns(null, slots, open, close);
+
+        int minSlots = 3;
+        int day = base + 180; // open on this day
+        int closesBy = base + 240;
+
+        int expected = branching(columns, minSlots, day, closesBy);
+        int actual = NumericFilterKernel.count(NumericFilterKernel.select(columns, minSlots,
+                Integer.MIN_VALUE, day, day, closesBy));
+        if (expected != actual) {
+            System.out.println("ERROR: kernel selected " + actual + " rows, expected " + expected);
+        }
+
+        double branchMs = ReportBenchmark.measure(() -> branching(columns, minSlots, day, closesBy));
+        double kernelMs = ReportBenchmark.measure(() -> NumericFilterKernel.select(columns, minSlots,
+                Integer.MIN_VALUE, day, day, closesBy));
+        System.out.printf("rows=%d selected=%d%n", n, expected);
+        System.out.printf("branching loop: %8.1f ms  %8.1f M rows/s%n", branchMs, n / branchMs / 1000);
+        System.out.printf("kernel        : %8.1f ms  %8.1f M rows/s%n", kernelMs, n / kernelMs / 1000);
+    }
+
+    /**
+     * Reference implementation with one branch per condition.
+     *
+     * @param columns  the columns to scan
+     * @param minSlots minimum remaining slots
+     * @param day      day the window must contain
+     * @param closesBy latest close day
+     * @return number of matching rows
+     */
+    private static int branching(InternshipColumns columns, int minSlots, int day, int closesBy) {
+        int[] slots = columns.getSlots();
+        int[] open = columns.getOpenDays();
+        int[] close = columns.getCloseDays();
+        int count = 0;
+        for (int r = 0; r < slots.length; r++) {
+            if (slots[r] >= minSlots && open[r] <= day && close[r] >= day && close[r] <= closesBy) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
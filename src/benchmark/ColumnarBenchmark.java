@@ -0,0 +1,110 @@
+package src.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+
+import src.entity.Internship;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+import src.enums.ReportSortType;
+import src.report.ReportCriteria;
+import src.report.ReportGenerator;
+import src.store.InternshipTable;
+
+/**
+ * Compares reports over the columnar {@link InternshipTable} with reports over
+ * the internship objects, and the heap each representation retains.
+ *
+ * <p>
+ * The same synthetic catalog is reported on sequentially as a list of
+ * {@link Internship} objects and as a table built from it. Both paths must
+ * return the same internships in the same order. The retained heap of the
+ * table is measured on top of the object catalog it was copied from.
+ *
+ * <p>
+ * Usage: {@code java src.benchmark.ColumnarBenchmark [internships]}
+ */
+public class ColumnarBenchmark {
+
+    /**
+     * Runs the benchmark and prints footprints and median report times.
+     *
+     * @param args optional catalog size
+     */
+    public static void main(String[] args) {
+        int size = (args.length >= 1) ? Integer.parseInt(args[0]) : 1_000_000;
+
+        long base = usedHeap();
+        List<Internship> catalog = ReportBenchmark.buildCatalog(size, 42L);
+        long objects = usedHeap() - base;
+        InternshipTable table = InternshipTable.of(catalog);
+        long columns = usedHeap() - base - objects;
+        System.out.printf("catalog=%d rows%n", size);
+        System.out.printf("objects: %8.1f MB   table: %8.1f MB%n", objects / 1e6, columns / 1e6);
+
+        ReportCriteria student = new ReportCriteria();
+        student.setStatus(InternshipStatus.APPROVED);
+        student.setLevel(InternshipLevel.BASIC);
+        student.setMajor("csc");
+        student.setVisibility(true);
+
+        ReportCriteria dates = new ReportCriteria();
+        dates.setOpenOn(LocalDate.of(2025, 6, 1));
+        dates.setMinSlots(3);
+        dates.setSortTypes(ReportSortType.COMPANY, ReportSortType.CLOSE_DATE);
+
+        ReportCriteria title = new ReportCriteria();
+        title.setTitle("data");
+        title.setSortTypes(ReportSortType.SLOTS_LEFT);
+
+        ReportGenerator generator = new ReportGenerator();
+        generator.setParallelThreshold(Integer.MAX_VALUE);
+        run("student view", generator, catalog, table, student);
+        run("open on + slots", generator, catalog, table, dates);
+        run("title", generator, catalog, table, title);
+    }
+
+    /**
+     * Checks that both paths agree and prints their median times.
+     *
+     * @param label     name of the criteria shape
+     * @param generator the report generator
+     * @param catalog   the internship objects
+     * @param table     the same internships as a table
+     * @param c         the criteria
+     */
+    private static void run(String label, ReportGenerator generator, List<Internship> catalog,
+            InternshipTable table, ReportCriteria c) {
+        List<Internship> expected = generator.generateReport(catalog, c);
+        int[] rows = generator.generateReport(table, c);
+        boolean same = rows.length == expected.size();
+        for (int k = 0; same && k < rows.length; k++) {
+            same = table.idAt(rows[k]).equals(expected.get(k).getInternshipId());
+        }
+        if (!same) {
+            System.out.println("ERROR: table report differs from object report for " + label);
+        }
+        double objectMs = ReportBenchmark.measure(() -> generator.generateReport(catalog, c));
+        double tableMs = ReportBenchmark.measure(() -> generator.generateReport(table, c));
+        System.out.printf("%-16s matched=%7d objects %8.1f ms   table %8.1f ms (%.2fx)%n",
+                label, rows.length, objectMs, tableMs, objectMs / tableMs);
+    }
+
+    /**
+     * Returns the heap in use after repeated full collections.
+     *
+     * @return used heap bytes
+     */
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
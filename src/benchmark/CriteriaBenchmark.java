@@ -0,0 +1,113 @@
+package src.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import src.entity.Internship;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+import src.report.CriteriaCompiler;
+import src.report.ReportCriteria;
+
+/**
+ * Compares the compiled criteria predicate with the original per-row filter
+ * chain on a large catalog scan.
+ *
+ * <p>
+ * The baseline reproduces the nine stream filters the report generator used
+ * before criteria compilation, each re-checking whether its criterion is set
+ * for every row. Several criteria shapes are measured so that the cost of unset
+ * filters and of per-row lower-casing shows up separately. Both variants must
+ * count the same matches.
+ *
+ * <p>
+ * Usage: {@code java src.benchmark.CriteriaBenchmark [internships]}
+ */
+public class CriteriaBenchmark {
+
+    /**
+     * Runs the benchmark and prints the median scan time per criteria shape.
+     *
+     * @param args optional catalog size
+     */
+    public static void main(String[] args) {
+        int size = (args.length >= 1) ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Internship> catalog = ReportBenchmark.buildCatalog(size, 42L);
+
+        ReportCriteria none = new ReportCriteria();
+
+        ReportCriteria student = new ReportCriteria();
+        student.setStatus(InternshipStatus.APPROVED);
+        student.setLevel(InternshipLevel.BASIC);
+        student.setMajor("CSC");
+        student.setVisibility(true);
+
+        ReportCriteria title = new ReportCriteria();
+        title.setTitle("Data");
+        title.setMinSlots(3);
+
+        ReportCriteria dates = new ReportCriteria();
+        dates.setOpenDate(LocalDate.of(2025, 3, 1));
+        dates.setCloseDate(LocalDate.of(2025, 9, 30));
+
+        System.out.printf("catalog=%d rows%n", size);
+        run("no filters", catalog, none);
+        run("student view", catalog, student);
+        run("title + slots", catalog, title);
+        run("date range", catalog, dates);
+    }
+
+    /**
+     * Measures both predicate variants for one criteria shape.
+     *
+     * @param label    name printed for the shape
+     * @param catalog  internships to scan
+     * @param criteria criteria to evaluate
+     */
+    private static void run(String label, List<Internship> catalog, ReportCriteria criteria) {
+        long expected = chained(catalog.stream(), criteria).count();
+        long actual = catalog.stream().filter(CriteriaCompiler.compile(criteria)).count();
+        if (expected != actual) {
+            System.out.println("ERROR: compiled predicate matched " + actual + " rows, expected " + expected);
+        }
+        double before = ReportBenchmark.measure(() -> chained(catalog.stream(), criteria).count());
+        double after = ReportBenchmark.measure(() -> {
+            Predicate<Internship> p = CriteriaCompiler.compile(criteria);
+            catalog.stream().filter(p).count();
+        });
+        System.out.printf("%-14s matched=%8d  chained %8.1f ms  compiled %8.1f ms  (%.2fx)%n",
+                label, expected, before, after, before / after);
+    }
+
+    /**
+     * The filter chain used before criteria compilation.
+     *
+     * @param source internships to filter
+     * @param c      criteria to evaluate
+     * @return the filtered stream
+     */
+    private static Stream<Internship> chained(Stream<Internship> source, ReportCriteria c) {
+        return source
+                .filter(i -> c.getTitle() == null ||
+                        i.getTitle().toLowerCase().contains(c.getTitle().toLowerCase()))
+                .filter(i -> c.getMajor() == null ||
+                        i.getMajor().equalsIgnoreCase(c.getMajor()))
+                .filter(i -> c.getLevel() == null ||
+                        i.getLevel() == c.getLevel())
+                .filter(i -> c.getStatus() == null ||
+                        i.getStatus() == c.getStatus())
+                .filter(i -> c.getVisibility() == null ||
+                        i.getVisibility() == c.getVisibility())
+                .filter(i -> c.getCompanyRepId() == null ||
+                        (i.getCompanyRep() != null &&
+                                i.getCompanyRep().getUserId().equals(c.getCompanyRepId())))
+                .filter(i -> c.getOpenDate() == null ||
+                        !i.getOpenDate().isBefore(c.getOpenDate()))
+                .filter(i -> c.getCloseDate() == null ||
+                        !i.getCloseDate().isAfter(c.getCloseDate()))
+                .filter(i -> c.getMinSlots() == null ||
+                        i.getNumberOfSlotsLeft() >= c.getMinSlots());
+    }
+}
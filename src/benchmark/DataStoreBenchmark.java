@@ -0,0 +1,362 @@
+package src.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import src.DataStore;
+import src.controller.StudentController;
+import src.entity.CareerCenterStaff;
+import src.entity.CompanyRepresentative;
+import src.entity.Internship;
+import src.entity.InternshipApplication;
+import src.entity.Student;
+import src.enums.CompanyApprovalStatus;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+import src.enums.ReportSortType;
+import src.report.ReportCriteria;
+import src.report.ReportGenerator;
+
+/**
+ * Baseline suite for the data store, the student workflow and reports.
+ *
+ * <p>
+ * For every scale the data store is cleared and filled with a reproducible
+ * synthetic dataset of that many students and internships, one representative
+ * per five internships, one staff member per thousand students and an
+ * application for half of the students. The suite then times, in order:
+ * each {@code save*} method into a temporary directory, each CSV loader
+ * reading those files back into the cleared store, the {@code find*} lookups,
+ * report generation for several criteria shapes and sort orders,
+ * {@link StudentController#getInternshipsOpportunities()},
+ * {@link StudentController#applyForInternship(Internship)} and
+ * {@link StudentController#acceptInternshipOffer(InternshipApplication)}.
+ *
+ * <p>
+ * Each operation is warmed up, then timed call by call until a time budget or
+ * an operation limit is reached. Throughput is calls per second of time spent
+ * inside the calls; latency percentiles are per call and include the
+ * {@code System.nanoTime} overhead of some tens of nanoseconds, which
+ * dominates the cheapest lookups. Allocation is the current thread's
+ * allocated bytes over the measured calls.
+ *
+ * <p>
+ * The workflow operations change the store: applications go to students
+ * without one, and offers are accepted on applications prepared for that
+ * purpose, so every measured call does the full amount of work.
+ *
+ * <p>
+ * Usage: {@code java src.benchmark.DataStoreBenchmark [scales] [seconds]},
+ * e.g. {@code 1000,100000,10000000 2}.
+ */
+public class DataStoreBenchmark {
+    private static final String[] MAJORS = { "CSC", "EEE", "MAE", "BIZ", "DSAI", "CEE" };
+    private static final int MAX_OPS = 200_000;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long budgetNanos;
+
+    /**
+     * Runs the suite at each scale and prints one line per operation.
+     *
+     * @param args optional comma-separated scales and seconds per operation
+     * @throws IOException if the temporary directory cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        String scales = (args.length >= 1) ? args[0] : "1000,10000,100000";
+        double seconds = (args.length >= 2) ? Double.parseDouble(args[1]) : 1.0;
+        budgetNanos = (long) (seconds * 1e9);
+
+        DataStore dataStore = DataStore.getInstance();
+        Path dir = Files.createTempDirectory("datastore-bench");
+        for (String scale : scales.split(",")) {
+            run(dataStore, Integer.parseInt(scale.trim()), dir);
+        }
+    }
+
+    /**
+     * Runs every operation at one scale.
+     *
+     * @param dataStore the data store
+     * @param n         number of students and internships
+     * @param dir       directory for the CSV files
+     */
+    private static void run(DataStore dataStore, int n, Path dir) {
+        dataStore.clear();
+        populate(dataStore, n, 42L);
+        System.out.printf("%n===== scale %d: %d students, %d reps, %d staff, %d internships, %d applications =====%n",
+                n, dataStore.getStudentList().size(), dataStore.getCompanyRepresentativeList().size(),
+                dataStore.getCareerCenterStaffList().size(), dataStore.getInternshipList().size(),
+                dataStore.getInternshipApplications().size());
+        Stats.header();
+
+        String students = dir.resolve("students.csv").toString();
+        String staff = dir.resolve("staff.csv").toString();
+        String reps = dir.resolve("reps.csv").toString();
+        String internships = dir.resolve("internships.csv").toString();
+        String applications = dir.resolve("applications.csv").toString();
+        measure("saveStudents", 0, i -> { dataStore.saveStudents(students); return true; }).print();
+        measure("saveStaff", 0, i -> { dataStore.saveStaff(staff); return true; }).print();
+        measure("saveCompanyReps", 0, i -> { dataStore.saveCompanyReps(reps); return true; }).print();
+        measure("saveInternships", 0, i -> { dataStore.saveInternships(internships); return true; }).print();
+        measure("saveApplications", 0, i -> { dataStore.saveApplications(applications); return true; }).print();
+
+        // Loaders depend on each other, so each round clears the store and loads all files in order
+        Stats[] loads = { new Stats("loadStudentsFromCSV"), new Stats("loadStaffFromCSV"),
+                new Stats("loadCompanyRepsFromCSV"), new Stats("loadInternshipsFromCSV"),
+                new Stats("loadApplicationsFromCSV") };
+        Runnable[] loaders = { () -> dataStore.loadStudentsFromCSV(students), () -> dataStore.loadStaffFromCSV(staff),
+                () -> dataStore.loadCompanyRepsFromCSV(reps), () -> dataStore.loadInternshipsFromCSV(internships),
+                () -> dataStore.loadApplicationsFromCSV(applications) };
+        long end = System.nanoTime() + budgetNanos;
+        for (int round = 0; round < 2 || (round < 50 && System.nanoTime() < end); round++) {
+            dataStore.clear();
+            for (int k = 0; k < loaders.length; k++) {
+                long allocated = THREADS.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                loaders[k].run();
+                long elapsed = System.nanoTime() - start;
+                if (round > 0) { // the first round warms up
+                    loads[k].add(elapsed, THREADS.getCurrentThreadAllocatedBytes() - allocated);
+                }
+            }
+        }
+        for (Stats s : loads) {
+            s.print();
+        }
+
+        Random random = new Random(7L);
+        String[] studentIds = dataStore.getStudentList().stream().map(Student::getUserId).toArray(String[]::new);
+        String[] repIds = dataStore.getCompanyRepresentativeList().stream().map(CompanyRepresentative::getUserId)
+                .toArray(String[]::new);
+        String[] staffIds = dataStore.getCareerCenterStaffList().stream().map(CareerCenterStaff::getUserId)
+                .toArray(String[]::new);
+        String[] internshipIds = dataStore.getInternshipList().stream().map(Internship::getInternshipId)
+                .toArray(String[]::new);
+        String[] applicationIds = dataStore.getInternshipApplications().stream()
+                .map(InternshipApplication::getApplicationId).toArray(String[]::new);
+        measure("findStudent", 0, i -> dataStore.findStudent(pick(studentIds, random)) != null).print();
+        measure("findCompanyRep", 0, i -> dataStore.findCompanyRep(pick(repIds, random)) != null).print();
+        measure("findCareerCenterStaff", 0,
+                i -> dataStore.findCareerCenterStaff(pick(staffIds, random)) != null).print();
+        measure("findInternship", 0, i -> dataStore.findInternship(pick(internshipIds, random)) != null).print();
+        measure("findInternshipApplication", 0,
+                i -> dataStore.findInternshipApplication(pick(applicationIds, random)) != null).print();
+
+        ReportGenerator generator = new ReportGenerator();
+        for (Map.Entry<String, ReportCriteria> shape : criteriaShapes().entrySet()) {
+            ReportCriteria c = shape.getValue();
+            measure("report " + shape.getKey(), 0, i -> !generator.generateReport(c).isEmpty()).print();
+        }
+
+        List<Student> studentList = dataStore.getStudentList();
+        StudentController controller = new StudentController();
+        measure("getInternshipsOpportunities", 0, i -> {
+            controller.setCurrentStudent(studentList.get(random.nextInt(studentList.size())));
+            return !controller.getInternshipsOpportunities().isEmpty();
+        }).print();
+
+        // Students in the third quarter apply, those in the last quarter accept offers
+        Map<String, List<Internship>> byMajor = new HashMap<>();
+        for (Internship internship : dataStore.getInternshipList()) {
+            byMajor.computeIfAbsent(internship.getMajor(), m -> new ArrayList<>()).add(internship);
+        }
+        List<Student> applicants = studentList.subList(n / 2, n / 2 + n / 4);
+        measure("applyForInternship", applicants.size(), i -> {
+            Student student = applicants.get(i);
+            controller.setCurrentStudent(student);
+            return controller.applyForInternship(pick(byMajor.get(student.getMajor()), random));
+        }).print();
+
+        List<InternshipApplication> offers = new ArrayList<>();
+        for (Student student : studentList.subList(n / 2 + n / 4, Math.min(n, n / 2 + n / 4 + MAX_OPS))) {
+            controller.setCurrentStudent(student);
+            Internship internship = pick(byMajor.get(student.getMajor()), random);
+            if (internship.getNumberOfSlotsLeft() > 0 && controller.applyForInternship(internship)) {
+                InternshipApplication offer = student.getInternshipApplied().get(0);
+                offer.setCompanyAccept(InternshipStatus.APPROVED);
+                offers.add(offer);
+            }
+        }
+        measure("acceptInternshipOffer", offers.size(), i -> {
+            InternshipApplication offer = offers.get(i);
+            controller.setCurrentStudent(offer.getStudent());
+            return controller.acceptInternshipOffer(offer);
+        }).print();
+    }
+
+    /**
+     * Fills the data store with a reproducible dataset.
+     *
+     * @param dataStore the cleared data store
+     * @param n         number of students and internships
+     * @param seed      random seed
+     */
+    private static void populate(DataStore dataStore, int n, long seed) {
+        Random random = new Random(seed);
+        List<Internship> catalog = ReportBenchmark.buildCatalog(n, seed);
+        CompanyRepresentative lastRep = null;
+        for (Internship internship : catalog) {
+            CompanyRepresentative rep = internship.getCompanyRep();
+            if (rep != lastRep) {
+                rep.setApproval(CompanyApprovalStatus.APPROVED);
+                dataStore.CompanyRepresentativeAdd(rep);
+                lastRep = rep;
+            }
+            internship.setVisibility(random.nextInt(10) != 0);
+            dataStore.addInternship(internship);
+        }
+        for (int i = 0; i < Math.max(1, n / 1000); i++) {
+            dataStore.addStaff(new CareerCenterStaff("STAFF" + i, "password", "Staff " + i,
+                    "staff" + i + "@example.com", "Career Center Staff", "CCDS"));
+        }
+        for (int i = 0; i < n; i++) {
+            Student student = new Student("U" + i, "password", "Student " + i, "u" + i + "@example.com",
+                    1 + random.nextInt(4), MAJORS[random.nextInt(MAJORS.length)]);
+            dataStore.addStudent(student);
+            if (i < n / 2) {
+                Internship internship = catalog.get(random.nextInt(n));
+                InternshipApplication app = new InternshipApplication(student.getUserId() + "_"
+                        + internship.getInternshipId(), internship.getCompanyRep(), student, internship);
+                app.setCompanyAccept(InternshipStatus.values()[random.nextInt(InternshipStatus.values().length)]);
+                student.applyInternship(app);
+                dataStore.addApplication(app);
+            }
+        }
+    }
+
+    /**
+     * Returns the report criteria shapes to time, by name.
+     *
+     * @return criteria by name
+     */
+    private static Map<String, ReportCriteria> criteriaShapes() {
+        Map<String, ReportCriteria> shapes = new LinkedHashMap<>();
+        shapes.put("all by title", new ReportCriteria());
+
+        ReportCriteria student = new ReportCriteria();
+        student.setStatus(InternshipStatus.APPROVED);
+        student.setLevel(InternshipLevel.BASIC);
+        student.setMajor("CSC");
+        student.setVisibility(true);
+        shapes.put("student view", student);
+
+        ReportCriteria title = new ReportCriteria();
+        title.setTitle("data");
+        title.setSortTypes(ReportSortType.SLOTS_LEFT);
+        shapes.put("title by slots", title);
+
+        ReportCriteria open = new ReportCriteria();
+        open.setOpenOn(LocalDate.of(2025, 6, 1));
+        open.setMinSlots(3);
+        open.setSortTypes(ReportSortType.COMPANY, ReportSortType.CLOSE_DATE);
+        shapes.put("open on by company", open);
+
+        ReportCriteria status = new ReportCriteria();
+        status.setStatus(InternshipStatus.APPROVED);
+        status.setSortTypes(ReportSortType.OPEN_DATE);
+        shapes.put("approved by open", status);
+        return shapes;
+    }
+
+    /**
+     * Warms an operation up, then times it call by call. Calls get
+     * consecutive indexes starting at 0 over warm-up and measurement; with a
+     * limit, warm-up and measurement together make at most that many calls.
+     *
+     * @param name  operation name
+     * @param limit maximum number of calls, or 0 for the default limit
+     * @param op    the operation; returns whether the call succeeded
+     * @return the measurements
+     */
+    private static Stats measure(String name, int limit, IntPredicate op) {
+        int max = (limit > 0) ? limit : MAX_OPS;
+        int warmup = Math.min(max / 10, 10_000);
+        int i = 0;
+        long end = System.nanoTime() + budgetNanos / 4;
+        for (; i < warmup && (i < 2 || System.nanoTime() < end); i++) {
+            op.test(i);
+        }
+        Stats stats = new Stats(name);
+        end = System.nanoTime() + budgetNanos;
+        for (; i < max && (stats.count < 3 || System.nanoTime() < end); i++) {
+            long allocated = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            boolean ok = op.test(i);
+            long elapsed = System.nanoTime() - start;
+            stats.add(elapsed, THREADS.getCurrentThreadAllocatedBytes() - allocated);
+            if (!ok) {
+                stats.failures++;
+            }
+        }
+        return stats;
+    }
+
+    private static <T> T pick(List<T> list, Random random) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private static String pick(String[] ids, Random random) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    /**
+     * Latency samples and allocation of one operation.
+     */
+    private static final class Stats {
+        private final String name;
+        private long[] samples = new long[1024];
+        private int count;
+        private long totalNanos;
+        private long allocatedBytes;
+        private int failures;
+
+        Stats(String name) {
+            this.name = name;
+        }
+
+        void add(long nanos, long allocated) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            totalNanos += nanos;
+            allocatedBytes += allocated;
+        }
+
+        static void header() {
+            System.out.printf("%-32s %8s %12s %10s %10s %10s %12s %9s %7s%n", "operation", "calls", "ops/s",
+                    "p50 us", "p99 us", "p999 us", "B/op", "MB/s", "failed");
+        }
+
+        void print() {
+            if (count == 0) {
+                System.out.printf("%-32s %8d%n", name, 0);
+                return;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            double seconds = totalNanos / 1e9;
+            System.out.printf("%-32s %8d %12.0f %10.2f %10.2f %10.2f %12.0f %9.1f %7d%n", name, count,
+                    count / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    (double) allocatedBytes / count, allocatedBytes / 1e6 / seconds, failures);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e3;
+        }
+    }
+}
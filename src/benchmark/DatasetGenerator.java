@@ -0,0 +1,488 @@
+package src.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import src.enums.CompanyApprovalStatus;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+
+/**
+ * Writes a synthetic, referentially consistent dataset in the five CSV
+ * formats the data store loads.
+ *
+ * <p>
+ * Popularity is skewed with Zipf distributions of a configurable exponent:
+ * majors (for students and internships alike), companies (so a few companies
+ * have many representatives) and, within each major, internships (so a few
+ * postings draw most applications). The rules the controllers enforce hold for
+ * the generated data:
+ * <ul>
+ * <li>a representative posts one to five internships, and only approved
+ * representatives post at all;</li>
+ * <li>a student applies to at most three distinct internships, all of their
+ * own major, approved and visible, and only basic-level ones in years one and
+ * two;</li>
+ * <li>a student with an accepted placement has no open applications, and is
+ * listed as an applicant of an internship with room for them.</li>
+ * </ul>
+ * Placements are capped at half an internship's slots, so the slots left stay
+ * non-negative when the loader reduces them by the applicants again.
+ *
+ * <p>
+ * Rows are written as they are generated; only a few primitive columns per
+ * internship are kept in memory, so tens of millions of rows can be written.
+ * The same seed always produces the same files. Output files use the sample
+ * file names, so a generated directory can stand in for {@code src/csvFiles}.
+ *
+ * <p>
+ * Usage: {@code java src.benchmark.DatasetGenerator <dir> [students]
+ * [internships] [seed] [skew]}; internships default to students/2, the seed to
+ * 42 and the Zipf exponent to 1.0 (0 gives uniform popularity).
+ */
+public class DatasetGenerator {
+    private static final String[] MAJORS = { "Computer Science", "Data Science & AI", "Computer Engineering",
+            "Electrical & Electronic Engineering", "Mechanical Engineering", "Business", "Accountancy",
+            "Economics", "Mathematical Sciences", "Chemical Engineering", "Civil Engineering", "Physics" };
+    private static final String[] FIRST_NAMES = { "Wei Ling", "Jia Hao", "Mei Xin", "Jun Jie", "Hui Min", "Arjun",
+            "Siti", "Daniel", "Priya", "Marcus", "Nur Aisyah", "Ethan", "Kai Wen", "Rachel", "Farhan", "Chloe" };
+    private static final String[] LAST_NAMES = { "Tan", "Lim", "Ng", "Lee", "Wong", "Goh", "Chua", "Koh", "Teo",
+            "Ong", "Kumar", "Rahman", "Singh", "Chen", "Ho", "Yeo" };
+    private static final String[] COMPANY_WORDS = { "Tech", "Solutions", "Labs", "Systems", "Analytics",
+            "Capital", "Logistics", "Health", "Energy", "Media" };
+    private static final String[] DEPARTMENTS = { "HR", "IT", "Engineering", "Finance", "Operations", "Marketing" };
+    private static final String[] POSITIONS = { "Manager", "HR Head", "Recruiter", "Team Lead", "Director" };
+    private static final String[] TITLE_WORDS = { "Software", "Data", "Research", "Embedded", "Finance", "Cloud",
+            "Marketing", "Design", "Operations", "Security", "Product", "Quality" };
+    private static final String[] ROLES = { "Developer", "Analyst", "Engineer", "Associate", "Assistant" };
+    private static final String[] TOPICS = { "real projects", "production systems", "client data",
+            "internal tools", "research prototypes", "market studies" };
+    private static final LocalDate WINDOW_START = LocalDate.of(2025, 1, 1);
+
+    private final Random random;
+    private final double skew;
+
+    // Internship columns kept for choosing applications and writing the file last
+    private int internships;
+    private byte[] majors;
+    private byte[] levels;
+    private byte[] statuses;
+    private byte[] slots;
+    private boolean[] visible;
+    private short[] openDays;
+    private int[] reps;
+    private int[] repPostings; // position of the internship among its representative's postings
+    private int[] placedCount;
+    private int[] placedHead; // per internship, index into the placement lists or -1
+    private int[] placedStudent = new int[1024];
+    private int[] placedNext = new int[1024];
+    private int placements;
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed random seed
+     * @param skew Zipf exponent for popularity; 0 for uniform
+     */
+    public DatasetGenerator(long seed, double skew) {
+        this.random = new Random(seed);
+        this.skew = skew;
+    }
+
+    /**
+     * Generates a dataset and prints the row counts.
+     *
+     * @param args output directory, then optional students, internships,
+     *             seed and skew
+     * @throws IOException if a file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java src.benchmark.DatasetGenerator <dir> [students] [internships] [seed] [skew]");
+            return;
+        }
+        Path dir = Path.of(args[0]);
+        int students = (args.length >= 2) ? Integer.parseInt(args[1]) : 100_000;
+        int internships = (args.length >= 3) ? Integer.parseInt(args[2]) : Math.max(1, students / 2);
+        long seed = (args.length >= 4) ? Long.parseLong(args[3]) : 42L;
+        double skew = (args.length >= 5) ? Double.parseDouble(args[4]) : 1.0;
+
+        long start = System.nanoTime();
+        long[] counts = new DatasetGenerator(seed, skew).generate(dir, students, internships);
+        System.out.printf("wrote %d students, %d staff, %d reps, %d internships, %d applications to %s in %.1f s%n",
+                counts[0], counts[1], counts[2], counts[3], counts[4], dir, (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Writes the five CSV files.
+     *
+     * @param dir         output directory, created if missing
+     * @param students    number of students
+     * @param internships number of internships
+     * @return rows written for students, staff, reps, internships and
+     *         applications
+     * @throws IOException if a file cannot be written
+     */
+    public long[] generate(Path dir, int students, int internships) throws IOException {
+        Files.createDirectories(dir);
+        long[] counts = new long[5];
+        counts[2] = writeReps(dir.resolve("sample_company_representative_list.csv"), internships);
+        counts[1] = writeStaff(dir.resolve("sample_staff_list.csv"), Math.max(1, students / 1000));
+        long[] studentRows = writeStudents(dir.resolve("sample_student_list.csv"),
+                dir.resolve("sample_internship_applications.csv"), students);
+        counts[0] = studentRows[0];
+        counts[4] = studentRows[1];
+        counts[3] = writeInternships(dir.resolve("sample_internship_list.csv"));
+        return counts;
+    }
+
+    /**
+     * Writes representatives and decides the internship columns they post.
+     *
+     * @param file        the representative CSV file
+     * @param internships number of internships to post
+     * @return representatives written
+     * @throws IOException if the file cannot be written
+     */
+    private long writeReps(Path file, int internships) throws IOException {
+        this.internships = internships;
+        majors = new byte[internships];
+        levels = new byte[internships];
+        statuses = new byte[internships];
+        slots = new byte[internships];
+        visible = new boolean[internships];
+        openDays = new short[internships];
+        reps = new int[internships];
+        repPostings = new int[internships];
+        placedCount = new int[internships];
+        placedHead = new int[internships];
+        Arrays.fill(placedHead, -1);
+
+        Zipf majorPick = new Zipf(MAJORS.length, skew);
+        Zipf companyPick = new Zipf(Math.max(1, internships / 12), skew);
+        CompanyApprovalStatus[] approvals = CompanyApprovalStatus.values();
+        int rep = 0;
+        try (Writer out = writer(file)) {
+            out.write("ID,Name,CompanyName,Department,Position,Email,Status,Password\n");
+            StringBuilder line = new StringBuilder(160);
+            for (int posted = 0; posted < internships; rep++) {
+                int roll = random.nextInt(100);
+                CompanyApprovalStatus approval = (roll < 90) ? approvals[1] : (roll < 97) ? approvals[0] : approvals[2];
+                int company = companyPick.sample(random) - 1;
+                String companyName = LAST_NAMES[company % LAST_NAMES.length] + " "
+                        + COMPANY_WORDS[(company / LAST_NAMES.length) % COMPANY_WORDS.length]
+                        + ((company >= LAST_NAMES.length * COMPANY_WORDS.length) ? " " + company : "");
+                String first = pick(FIRST_NAMES);
+                String last = pick(LAST_NAMES);
+                String email = "rep" + rep + "@" + companyName.toLowerCase().replace(' ', '-') + ".com";
+                line.setLength(0);
+                line.append(repId(rep)).append(',').append(first).append(' ').append(last).append(',')
+                        .append(companyName).append(',').append(pick(DEPARTMENTS)).append(',')
+                        .append(pick(POSITIONS)).append(',').append(email).append(',').append(approval.name())
+                        .append(',').append(email).append('\n');
+                out.append(line);
+
+                if (approval != CompanyApprovalStatus.APPROVED) {
+                    continue; // only approved representatives may post
+                }
+                int count = Math.min(1 + random.nextInt(5), internships - posted);
+                for (int k = 0; k < count; k++, posted++) {
+                    postInternship(posted, rep, k, majorPick.sample(random) - 1);
+                }
+            }
+        }
+        return rep;
+    }
+
+    /**
+     * Decides the columns of one internship.
+     *
+     * @param i       internship index
+     * @param rep     posting representative
+     * @param posting position among the representative's postings
+     * @param major   major index
+     */
+    private void postInternship(int i, int rep, int posting, int major) {
+        int roll = random.nextInt(100);
+        majors[i] = (byte) major;
+        levels[i] = (byte) ((roll < 50) ? 0 : (roll < 80) ? 1 : 2);
+        roll = random.nextInt(100);
+        statuses[i] = (byte) ((roll < 70) ? InternshipStatus.APPROVED.ordinal()
+                : (roll < 90) ? InternshipStatus.PENDING.ordinal() : InternshipStatus.REJECTED.ordinal());
+        slots[i] = (byte) (1 + random.nextInt(10));
+        visible[i] = random.nextInt(10) != 0;
+        openDays[i] = (short) random.nextInt(365);
+        reps[i] = rep;
+        repPostings[i] = posting;
+    }
+
+    /**
+     * Writes career center staff.
+     *
+     * @param file  the staff CSV file
+     * @param staff number of staff members
+     * @return staff written
+     * @throws IOException if the file cannot be written
+     */
+    private long writeStaff(Path file, int staff) throws IOException {
+        try (Writer out = writer(file)) {
+            out.write("ID,Name,Role,Department,Email,Password\n");
+            for (int s = 0; s < staff; s++) {
+                String id = "staff" + s;
+                out.write(id + "," + pick(FIRST_NAMES) + " " + pick(LAST_NAMES) + ",Career Center Staff,CCDS,"
+                        + id + "@ntu.edu.sg,password\n");
+            }
+        }
+        return staff;
+    }
+
+    /**
+     * Writes students together with their applications, and records the
+     * students who already accepted a placement.
+     *
+     * @param studentFile     the student CSV file
+     * @param applicationFile the application CSV file
+     * @param students        number of students
+     * @return students and applications written
+     * @throws IOException if a file cannot be written
+     */
+    private long[] writeStudents(Path studentFile, Path applicationFile, int students) throws IOException {
+        // Eligible internships per major: all levels for years 3 and 4, basic only for years 1 and 2
+        int[][] senior = new int[MAJORS.length][];
+        int[][] junior = new int[MAJORS.length][];
+        for (int m = 0; m < MAJORS.length; m++) {
+            senior[m] = eligible(m, false);
+            junior[m] = eligible(m, true);
+        }
+        Zipf[] seniorPick = new Zipf[MAJORS.length];
+        Zipf[] juniorPick = new Zipf[MAJORS.length];
+        Zipf majorPick = new Zipf(MAJORS.length, skew);
+        InternshipStatus[] decisions = InternshipStatus.values();
+
+        long applications = 0;
+        int[] chosen = new int[3];
+        try (Writer studentOut = writer(studentFile); Writer appOut = writer(applicationFile)) {
+            studentOut.write("ID,Name,Major,Year,Email,Password\n");
+            appOut.write("AppID,StudentID,InternshipID,RepID,CompanyAccept,StudentAccept,StudentWithdraw\n");
+            StringBuilder line = new StringBuilder(160);
+            for (int s = 0; s < students; s++) {
+                int major = majorPick.sample(random) - 1;
+                int year = 1 + random.nextInt(4);
+                String id = studentId(s);
+                line.setLength(0);
+                line.append(id).append(',').append(pick(FIRST_NAMES)).append(' ').append(pick(LAST_NAMES))
+                        .append(',').append(MAJORS[major]).append(',').append(year).append(',')
+                        .append(id.toLowerCase()).append("@e.ntu.edu.sg,password\n");
+                studentOut.append(line);
+
+                int[] pool = (year >= 3) ? senior[major] : junior[major];
+                if (pool.length == 0) {
+                    continue;
+                }
+                Zipf[] picks = (year >= 3) ? seniorPick : juniorPick;
+                if (picks[major] == null) {
+                    picks[major] = new Zipf(pool.length, skew);
+                }
+                Zipf popularity = picks[major];
+
+                if (random.nextInt(100) < 4) {
+                    int internship = pool[popularity.sample(random) - 1];
+                    if (placedCount[internship] < slots[internship] / 2) {
+                        place(internship, s);
+                        continue; // accepting an offer withdraws all other applications
+                    }
+                }
+                int roll = random.nextInt(100);
+                int count = (roll < 35) ? 0 : (roll < 60) ? 1 : (roll < 80) ? 2 : 3;
+                int made = 0;
+                for (int attempt = 0; made < count && attempt < 10; attempt++) {
+                    int internship = pool[popularity.sample(random) - 1];
+                    boolean duplicate = false;
+                    for (int k = 0; k < made; k++) {
+                        duplicate |= chosen[k] == internship;
+                    }
+                    if (duplicate) {
+                        continue;
+                    }
+                    chosen[made++] = internship;
+                    roll = random.nextInt(100);
+                    InternshipStatus company = (roll < 60) ? decisions[0] : (roll < 85) ? decisions[1] : decisions[2];
+                    String withdrawal = (random.nextInt(100) < 5) ? "PENDING" : "NONE";
+                    String internshipId = internshipId(internship);
+                    line.setLength(0);
+                    line.append(id).append('_').append(internshipId).append(',').append(id).append(',')
+                            .append(internshipId).append(',').append(repId(reps[internship])).append(',')
+                            .append(company.name()).append(",PENDING,").append(withdrawal).append('\n');
+                    appOut.append(line);
+                }
+                applications += made;
+            }
+        }
+        return new long[] { students, applications };
+    }
+
+    /**
+     * Writes internships, including the students placed with them.
+     *
+     * @param file the internship CSV file
+     * @return internships written
+     * @throws IOException if the file cannot be written
+     */
+    private long writeInternships(Path file) throws IOException {
+        InternshipLevel[] levelValues = InternshipLevel.values();
+        InternshipStatus[] statusValues = InternshipStatus.values();
+        try (Writer out = writer(file)) {
+            out.write("ID,Title,Description,Level,Major,OpenDate,CloseDate,Slots,RepID,Status,Visibility,Applicants\n");
+            StringBuilder line = new StringBuilder(256);
+            for (int i = 0; i < internships; i++) {
+                LocalDate open = WINDOW_START.plusDays(openDays[i]);
+                line.setLength(0);
+                line.append(internshipId(i)).append(',').append(pick(TITLE_WORDS)).append(' ').append(pick(ROLES))
+                        .append(" Intern,Work on ").append(pick(TOPICS)).append(" with the ")
+                        .append(pick(DEPARTMENTS)).append(" team,").append(levelValues[levels[i]].name()).append(',')
+                        .append(MAJORS[majors[i]]).append(',').append(open).append(',')
+                        .append(open.plusDays(14 + random.nextInt(77))).append(',')
+                        .append(slots[i] - placedCount[i]).append(',').append(repId(reps[i])).append(',')
+                        .append(statusValues[statuses[i]].name()).append(',').append(visible[i]).append(',');
+                for (int p = placedHead[i]; p >= 0; p = placedNext[p]) {
+                    line.append(studentId(placedStudent[p]));
+                    if (placedNext[p] >= 0) {
+                        line.append(';');
+                    }
+                }
+                line.append('\n');
+                out.append(line);
+            }
+        }
+        return internships;
+    }
+
+    /**
+     * Returns the internships of a major students may apply to.
+     *
+     * @param major     major index
+     * @param basicOnly whether only basic-level internships qualify
+     * @return internship indexes
+     */
+    private int[] eligible(int major, boolean basicOnly) {
+        int[] result = new int[16];
+        int n = 0;
+        for (int i = 0; i < internships; i++) {
+            if (majors[i] == major && statuses[i] == InternshipStatus.APPROVED.ordinal() && visible[i]
+                    && (!basicOnly || levels[i] == InternshipLevel.BASIC.ordinal())) {
+                if (n == result.length) {
+                    result = Arrays.copyOf(result, n * 2);
+                }
+                result[n++] = i;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Records a student's placement with an internship.
+     *
+     * @param internship internship index
+     * @param student    student index
+     */
+    private void place(int internship, int student) {
+        if (placements == placedStudent.length) {
+            placedStudent = Arrays.copyOf(placedStudent, placements * 2);
+            placedNext = Arrays.copyOf(placedNext, placements * 2);
+        }
+        placedStudent[placements] = student;
+        placedNext[placements] = placedHead[internship];
+        placedHead[internship] = placements++;
+        placedCount[internship]++;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String studentId(int s) {
+        return "U" + (23_000_000 + s) + (char) ('A' + s % 26);
+    }
+
+    private static String repId(int rep) {
+        return "rep" + rep;
+    }
+
+    private String internshipId(int i) {
+        return repId(reps[i]) + "_" + repPostings[i];
+    }
+
+    private static Writer writer(Path file) throws IOException {
+        return new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    /**
+     * Zipf-distributed ranks from 1 to n, sampled by rejection-inversion in
+     * constant time and memory (Hormann and Derflinger, 1996).
+     */
+    static final class Zipf {
+        private final int n;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralN;
+        private final double s;
+
+        /**
+         * @param n        number of ranks
+         * @param exponent Zipf exponent; 0 for uniform
+         */
+        Zipf(int n, double exponent) {
+            this.n = n;
+            this.exponent = exponent;
+            this.hIntegralX1 = hIntegral(1.5) - 1;
+            this.hIntegralN = hIntegral(n + 0.5);
+            this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        /**
+         * @param random the random source
+         * @return a rank from 1 to n; rank 1 is the most likely
+         */
+        int sample(Random random) {
+            while (true) {
+                double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+                double x = hIntegralInverse(u);
+                int k = (int) Math.max(1, Math.min(n, (long) (x + 0.5)));
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                    return k;
+                }
+            }
+        }
+
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1 - exponent) * logX) * logX;
+        }
+
+        private double h(double x) {
+            return Math.exp(-exponent * Math.log(x));
+        }
+
+        private double hIntegralInverse(double x) {
+            double t = Math.max(-1, x * (1 - exponent));
+            return Math.exp(helper1(t) * x);
+        }
+
+        /** log1p(x) / x, stable near 0. */
+        private static double helper1(double x) {
+            return (Math.abs(x) > 1e-8) ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+        }
+
+        /** expm1(x) / x, stable near 0. */
+        private static double helper2(double x) {
+            return (Math.abs(x) > 1e-8) ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package src.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import src.entity.CareerCenterStaff;
+import src.entity.CompanyRepresentative;
+import src.entity.Internship;
+import src.entity.Student;
+import src.entity.StringDictionary;
+import src.enums.InternshipLevel;
+
+/**
+ * Measures the retained heap of a synthetic entity graph with and without
+ * string canonicalization.
+ *
+ * <p>
+ * Entities are built from freshly split CSV-style lines, so every attribute
+ * starts out as its own `String` copy exactly as the data store loaders
+ * produce them. The same dataset is built twice: once with
+ * {@link StringDictionary} disabled and once enabled. The heap in use after a
+ * full collection is compared with the heap before building.
+ *
+ * <p>
+ * Usage: {@code java src.benchmark.FootprintBenchmark [students]}; the
+ * dataset also contains students/10 representatives, students/2 internships
+ * and students/1000 staff.
+ */
+public class FootprintBenchmark {
+
+    /**
+     * Runs the benchmark and prints the retained heap of both variants.
+     *
+     * @param args optional number of students
+     */
+    public static void main(String[] args) {
+        int students = (args.length >= 1) ? Integer.parseInt(args[0]) : 500_000;
+
+        StringDictionary.setEnabled(false);
+        long before = retained(students);
+        StringDictionary.setEnabled(true);
+        long after = retained(students);
+
+        System.out.printf("students=%d reps=%d internships=%d staff=%d%n",
+                students, students / 10, students / 2, Math.max(1, students / 1000));
+        System.out.printf("without dictionary: %8.1f MB%n", before / 1e6);
+        System.out.printf("with dictionary   : %8.1f MB  (%.1f%% smaller)%n",
+                after / 1e6, 100.0 * (before - after) / before);
+        System.out.printf("distinct values: majors=%d companies=%d departments=%d roles=%d positions=%d domains=%d%n",
+                StringDictionary.MAJORS.size(), StringDictionary.COMPANY_NAMES.size(),
+                StringDictionary.DEPARTMENTS.size(), StringDictionary.ROLES.size(),
+                StringDictionary.POSITIONS.size(), StringDictionary.EMAIL_DOMAINS.size());
+    }
+
+    /**
+     * Builds the dataset and returns the heap it retains.
+     *
+     * @param students number of students
+     * @return retained bytes
+     */
+    private static long retained(int students) {
+        long base = usedHeap();
+        List<Object> graph = build(students, 42L);
+        long used = usedHeap() - base;
+        if (graph.isEmpty()) {
+            System.out.println("empty dataset");
+        }
+        return used;
+    }
+
+    /**
+     * Builds the synthetic entity graph from CSV-style lines.
+     *
+     * @param students number of students
+     * @param seed     random seed
+     * @return all created entities
+     */
+    static List<Object> build(int students, long seed) {
+        Random random = new Random(seed);
+        String[] majors = { "Computer Science", "Data Science & AI", "Electrical Engineering",
+                "Mechanical Engineering", "Business", "Civil Engineering" };
+        String[] departments = { "Human Resources", "Engineering", "Talent Acquisition", "Finance", "Operations" };
+        String[] positions = { "Recruiter", "HR Manager", "Engineering Manager", "Talent Partner" };
+        String[] roles = { "Career Advisor", "Administrator", "Coordinator" };
+        String[] domains = { "e.ntu.edu.sg", "ntu.edu.sg", "gmail.com", "company.com" };
+        int companies = Math.max(1, students / 200);
+        LocalDate base = LocalDate.of(2025, 1, 1);
+
+        List<Object> graph = new ArrayList<>();
+        for (int i = 0; i < students; i++) {
+            String[] f = (String.format("U%07d,Student %d,%s,%d,s%d@%s", i, i, majors[random.nextInt(majors.length)],
+                    1 + random.nextInt(4), i, domains[random.nextInt(2)])).split(",");
+            graph.add(new Student(f[0].trim(), "password", f[1].trim(), f[4].trim(), Integer.parseInt(f[3].trim()),
+                    f[2].trim()));
+        }
+        List<CompanyRepresentative> reps = new ArrayList<>();
+        for (int i = 0; i < students / 10; i++) {
+            String[] f = (String.format("rep%d,Rep %d,Company %d,%s,%s,rep%d@%s", i, i, random.nextInt(companies),
+                    departments[random.nextInt(departments.length)], positions[random.nextInt(positions.length)],
+                    i, domains[2 + random.nextInt(2)])).split(",");
+            CompanyRepresentative rep = new CompanyRepresentative(f[0].trim(), "password", f[1].trim(), f[5].trim(),
+                    f[2].trim(), f[3].trim(), f[4].trim());
+            reps.add(rep);
+            graph.add(rep);
+        }
+        for (int i = 0; i < students / 1000 || i == 0; i++) {
+            String[] f = (String.format("staff%d,Staff %d,%s,%s,staff%d@%s", i, i, roles[random.nextInt(roles.length)],
+                    departments[random.nextInt(departments.length)], i, domains[1])).split(",");
+            graph.add(new CareerCenterStaff(f[0].trim(), "password", f[1].trim(), f[4].trim(), f[2].trim(),
+                    f[3].trim()));
+        }
+        InternshipLevel[] levels = InternshipLevel.values();
+        for (int i = 0; i < students / 2 && !reps.isEmpty(); i++) {
+            String major = (majors[random.nextInt(majors.length)] + ",").split(",")[0].trim();
+            LocalDate open = base.plusDays(random.nextInt(365));
+            graph.add(new Internship("I" + i, "Intern " + i, "Posting " + i, levels[random.nextInt(levels.length)],
+                    major, open, open.plusDays(30), 1 + random.nextInt(10), reps.get(i % reps.size())));
+        }
+        return graph;
+    }
+
+    /**
+     * Returns the heap in use after repeated full collections.
+     *
+     * @return used heap bytes
+     */
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,581 @@
+package src.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import src.DataStore;
+import src.controller.CareerCenterStaffController;
+import src.controller.CompanyRepresentativeController;
+import src.controller.StudentController;
+import src.entity.CareerCenterStaff;
+import src.entity.CompanyRepresentative;
+import src.entity.Internship;
+import src.entity.InternshipApplication;
+import src.entity.Student;
+import src.enums.CompanyApprovalStatus;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+import src.enums.InternshipWithdrawalStatus;
+import src.enums.ReportSortType;
+import src.monitor.LatencyHistogram;
+import src.report.ReportCriteria;
+
+/**
+ * Load generator that drives the controllers with many concurrent user
+ * sessions, as during the rush when an application window opens.
+ *
+ * <p>
+ * The data store is filled with a {@link DatasetGenerator} dataset, or with
+ * the CSV files of a given directory. Each session then logs in as one
+ * student, approved representative or staff member, with its own controller,
+ * and performs scenarios back to back until the time is up, optionally
+ * pausing between them. Scenarios are drawn from a weighted mix:
+ * <ul>
+ * <li>{@code browse}: a student lists their internship opportunities;</li>
+ * <li>{@code apply}: a student applies for one of their opportunities;</li>
+ * <li>{@code accept}: a student accepts an offer a company approved;</li>
+ * <li>{@code withdraw}: a student requests withdrawal of an application;</li>
+ * <li>{@code approve}: a representative approves, or one time in five
+ * rejects, a pending application to their internships;</li>
+ * <li>{@code review}: a staff member approves a pending withdrawal;</li>
+ * <li>{@code report}: a staff member generates an internship report.</li>
+ * </ul>
+ * Sessions take the role of the scenarios they perform, in proportion to the
+ * weights of each role's scenarios.
+ *
+ * <p>
+ * Sessions run on virtual threads where the runtime has them, and on one
+ * platform thread each otherwise. The controllers and the data store are not
+ * thread-safe, so by default every scenario runs under a read-write lock:
+ * browsing and reports share it, the others take it exclusively, and waiting
+ * sessions get it in arrival order. With lock mode {@code none} sessions call
+ * the controllers unguarded, which shows what goes wrong without it.
+ *
+ * <p>
+ * For every scenario the run reports throughput and latency percentiles
+ * (including the wait for the lock), and counts the calls that succeeded,
+ * conflicts (the controller refused, e.g. the offer's slots were taken in the
+ * meantime), calls skipped for lack of anything to act on, and errors
+ * (exceptions thrown). Afterwards the store is checked for invariant
+ * violations: internships whose slots went negative during the run, students
+ * with more than three applications, placed students with open
+ * applications, and students placed in more than one internship.
+ *
+ * <p>
+ * Usage: {@code java src.benchmark.LoadTest [sessions] [seconds] [mix]
+ * [students|dir] [lock] [thinkMillis]}, e.g.
+ * {@code 5000 30 browse=40,apply=20,accept=8,withdraw=4,approve=15,review=3,report=10 100000 rw 50}.
+ */
+public class LoadTest {
+    private static final String DEFAULT_MIX = "browse=40,apply=20,accept=8,withdraw=4,approve=15,review=3,report=10";
+
+    /**
+     * Kind of user a session logs in as.
+     */
+    private enum Role {
+        STUDENT, REP, STAFF
+    }
+
+    /**
+     * Unit of work a session performs.
+     */
+    private enum Scenario {
+        BROWSE(Role.STUDENT, false), APPLY(Role.STUDENT, true), ACCEPT(Role.STUDENT, true),
+        WITHDRAW(Role.STUDENT, true), APPROVE(Role.REP, true), REVIEW(Role.STAFF, true),
+        REPORT(Role.STAFF, false);
+
+        final Role role;
+        final boolean writes;
+
+        Scenario(Role role, boolean writes) {
+            this.role = role;
+            this.writes = writes;
+        }
+    }
+
+    /**
+     * Result of one scenario that did not throw.
+     */
+    private enum Outcome {
+        OK, CONFLICT, SKIPPED
+    }
+
+    private final DataStore dataStore;
+    private final int[] weights = new int[Scenario.values().length];
+    private final Map<Scenario, Tally> tallies = new EnumMap<>(Scenario.class);
+    private final Map<String, LongAdder> errorTypes = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock;
+    private final long thinkMillis;
+    private final long seed;
+
+    private List<Student> students;
+    private List<CompanyRepresentative> reps;
+    private List<CareerCenterStaff> staff;
+    private List<Internship> internships;
+    private List<ReportCriteria> reports;
+
+    /**
+     * Creates a load test.
+     *
+     * @param dataStore   the populated data store
+     * @param mix         comma-separated scenario weights, e.g. {@code browse=3,apply=1}
+     * @param locked      whether scenarios run under the read-write lock
+     * @param thinkMillis mean pause between scenarios, or 0 for none
+     * @param seed        random seed for the sessions
+     */
+    public LoadTest(DataStore dataStore, String mix, boolean locked, long thinkMillis, long seed) {
+        this.dataStore = dataStore;
+        this.lock = locked ? new ReentrantReadWriteLock(true) : null;
+        this.thinkMillis = thinkMillis;
+        this.seed = seed;
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            Scenario scenario = Scenario.valueOf(parts[0].trim().toUpperCase());
+            weights[scenario.ordinal()] = (parts.length > 1) ? Integer.parseInt(parts[1].trim()) : 1;
+        }
+        for (Scenario scenario : Scenario.values()) {
+            tallies.put(scenario, new Tally());
+        }
+    }
+
+    /**
+     * Populates the data store, runs the sessions and prints the results.
+     *
+     * @param args optional sessions, seconds, scenario mix, students or a
+     *             dataset directory, lock mode ({@code rw} or {@code none})
+     *             and think time in milliseconds
+     * @throws IOException          if the dataset cannot be written
+     * @throws InterruptedException if interrupted while waiting for sessions
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int sessions = (args.length >= 1) ? Integer.parseInt(args[0]) : 2000;
+        double seconds = (args.length >= 2) ? Double.parseDouble(args[1]) : 10.0;
+        String mix = (args.length >= 3) ? args[2] : DEFAULT_MIX;
+        String data = (args.length >= 4) ? args[3] : "20000";
+        boolean locked = (args.length < 5) || !args[4].equalsIgnoreCase("none");
+        long thinkMillis = (args.length >= 6) ? Long.parseLong(args[5]) : 0;
+
+        Path dir;
+        if (data.chars().allMatch(Character::isDigit)) {
+            dir = Files.createTempDirectory("loadtest");
+            int n = Integer.parseInt(data);
+            new DatasetGenerator(42L, 1.0).generate(dir, n, Math.max(1, n / 2));
+        } else {
+            dir = Path.of(data);
+        }
+        DataStore dataStore = DataStore.getInstance();
+        dataStore.clear();
+        dataStore.loadStudentsFromCSV(dir.resolve("sample_student_list.csv").toString());
+        dataStore.loadStaffFromCSV(dir.resolve("sample_staff_list.csv").toString());
+        dataStore.loadCompanyRepsFromCSV(dir.resolve("sample_company_representative_list.csv").toString());
+        dataStore.loadInternshipsFromCSV(dir.resolve("sample_internship_list.csv").toString());
+        dataStore.loadApplicationsFromCSV(dir.resolve("sample_internship_applications.csv").toString());
+
+        LoadTest test = new LoadTest(dataStore, mix, locked, thinkMillis, 42L);
+        test.run(sessions, (long) (seconds * 1e9));
+    }
+
+    /**
+     * Runs the sessions for the given time, then prints the scenario results
+     * and the invariant check.
+     *
+     * @param sessions number of concurrent sessions
+     * @param nanos    duration of the run
+     * @throws InterruptedException if interrupted while waiting for sessions
+     */
+    public void run(int sessions, long nanos) throws InterruptedException {
+        students = new ArrayList<>(dataStore.getStudentList());
+        staff = new ArrayList<>(dataStore.getCareerCenterStaffList());
+        internships = new ArrayList<>(dataStore.getInternshipList());
+        reps = new ArrayList<>();
+        for (CompanyRepresentative rep : dataStore.getCompanyRepresentativeList()) {
+            if (rep.getApproval() == CompanyApprovalStatus.APPROVED) {
+                reps.add(rep);
+            }
+        }
+        Collections.shuffle(students, new Random(seed));
+        reports = reportCriteria();
+        Set<Internship> oversubscribed = oversubscribed();
+
+        boolean virtual = true;
+        ExecutorService executor = virtualThreadExecutor();
+        if (executor == null) {
+            virtual = false;
+            executor = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        System.out.printf("%d sessions on %s threads for %.1f s, %s, think %d ms: %d students, %d approved reps, "
+                + "%d staff, %d internships, %d applications%n", sessions, virtual ? "virtual" : "platform",
+                nanos / 1e9, (lock != null) ? "read-write lock" : "unlocked", thinkMillis, students.size(),
+                reps.size(), staff.size(), internships.size(), dataStore.getInternshipApplications().size());
+
+        long start = System.nanoTime();
+        long deadline = start + nanos;
+        for (int i = 0; i < sessions; i++) {
+            int session = i;
+            executor.execute(() -> session(session, deadline));
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(nanos + TimeUnit.SECONDS.toNanos(60), TimeUnit.NANOSECONDS)) {
+            System.out.println("sessions still running after the deadline; results are partial");
+        }
+        print((System.nanoTime() - start) / 1e9);
+        checkInvariants(oversubscribed);
+    }
+
+    /**
+     * Returns an executor that starts a virtual thread per task, looked up
+     * reflectively so the class still compiles and runs on runtimes without
+     * virtual threads.
+     *
+     * @return the executor, or null if virtual threads are unavailable
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not present before Java 21, or a preview feature that is not enabled
+            return null;
+        }
+    }
+
+    /**
+     * Body of one session: logs in, then performs scenarios until the
+     * deadline.
+     *
+     * @param session  session number
+     * @param deadline {@code System.nanoTime} at which to stop
+     */
+    private void session(int session, long deadline) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + session);
+        Role role = pickRole(random);
+        if (role == null) {
+            return;
+        }
+        StudentController studentController = null;
+        CompanyRepresentativeController repController = null;
+        CareerCenterStaffController staffController = null;
+        switch (role) {
+            case STUDENT:
+                studentController = new StudentController();
+                studentController.setCurrentStudent(students.get(session % students.size()));
+                break;
+            case REP:
+                repController = new CompanyRepresentativeController();
+                repController.setCurrentCompanyRepresentative(reps.get(session % reps.size()));
+                break;
+            default:
+                staffController = new CareerCenterStaffController();
+                staffController.setCurrentStaff(staff.get(session % staff.size()));
+                break;
+        }
+
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = pickScenario(role, random);
+            Tally tally = tallies.get(scenario);
+            Lock held = (lock == null) ? null : scenario.writes ? lock.writeLock() : lock.readLock();
+            long start = System.nanoTime();
+            try {
+                if (held != null) {
+                    held.lock();
+                }
+                try {
+                    Outcome outcome = perform(scenario, studentController, repController, staffController, random);
+                    tally.outcomes[outcome.ordinal()].increment();
+                } finally {
+                    if (held != null) {
+                        held.unlock();
+                    }
+                }
+            } catch (RuntimeException e) {
+                tally.errors.increment();
+                errorTypes.computeIfAbsent(scenario.name().toLowerCase() + ": " + e.getClass().getSimpleName(),
+                        k -> new LongAdder()).increment();
+            }
+            tally.latency.record(System.nanoTime() - start);
+
+            if (thinkMillis > 0) {
+                try {
+                    Thread.sleep((long) (-Math.log(1 - random.nextDouble()) * thinkMillis));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs one scenario.
+     *
+     * @return the outcome
+     */
+    private Outcome perform(Scenario scenario, StudentController studentController,
+            CompanyRepresentativeController repController, CareerCenterStaffController staffController,
+            SplittableRandom random) {
+        switch (scenario) {
+            case BROWSE:
+                studentController.getInternshipsOpportunities();
+                return Outcome.OK;
+            case APPLY: {
+                List<Internship> opportunities = studentController.getInternshipsOpportunities();
+                if (opportunities.isEmpty() || studentController.getCurrentStudent().getInternshipAccepted() != null) {
+                    return Outcome.SKIPPED;
+                }
+                Internship internship = opportunities.get(random.nextInt(opportunities.size()));
+                return studentController.applyForInternship(internship) ? Outcome.OK : Outcome.CONFLICT;
+            }
+            case ACCEPT: {
+                InternshipApplication offer = null;
+                for (InternshipApplication app : new ArrayList<>(studentController.getMyApplications())) {
+                    if (app.getCompanyAccept() == InternshipStatus.APPROVED) {
+                        offer = app;
+                        break;
+                    }
+                }
+                if (offer == null) {
+                    return Outcome.SKIPPED;
+                }
+                return studentController.acceptInternshipOffer(offer) ? Outcome.OK : Outcome.CONFLICT;
+            }
+            case WITHDRAW: {
+                List<InternshipApplication> open = new ArrayList<>();
+                for (InternshipApplication app : studentController.getMyApplications()) {
+                    if (app.getInternshipWithdrawalStatus() == InternshipWithdrawalStatus.NONE) {
+                        open.add(app);
+                    }
+                }
+                if (open.isEmpty()) {
+                    return Outcome.SKIPPED;
+                }
+                return studentController.wtihdraw(open.get(random.nextInt(open.size()))) ? Outcome.OK
+                        : Outcome.CONFLICT;
+            }
+            case APPROVE: {
+                InternshipApplication pending = null;
+                for (InternshipApplication app : repController.getApplications()) {
+                    if (app.getCompanyAccept() == InternshipStatus.PENDING) {
+                        pending = app;
+                        break;
+                    }
+                }
+                if (pending == null) {
+                    return Outcome.SKIPPED;
+                }
+                boolean done = (random.nextInt(5) == 0) ? repController.rejectInternshipApplication(pending)
+                        : repController.approveInternshipApplication(pending);
+                return done ? Outcome.OK : Outcome.CONFLICT;
+            }
+            case REVIEW: {
+                List<InternshipApplication> withdrawals = staffController.getPendingWithdrawals();
+                if (withdrawals.isEmpty()) {
+                    return Outcome.SKIPPED;
+                }
+                return staffController.approveWithdrawal(withdrawals.get(0)) ? Outcome.OK : Outcome.CONFLICT;
+            }
+            default:
+                staffController.generateReport(reports.get(random.nextInt(reports.size())));
+                return Outcome.OK;
+        }
+    }
+
+    private Role pickRole(SplittableRandom random) {
+        int[] roleWeights = new int[Role.values().length];
+        for (Scenario scenario : Scenario.values()) {
+            roleWeights[scenario.role.ordinal()] += weights[scenario.ordinal()];
+        }
+        if (students.isEmpty()) {
+            roleWeights[Role.STUDENT.ordinal()] = 0;
+        }
+        if (reps.isEmpty()) {
+            roleWeights[Role.REP.ordinal()] = 0;
+        }
+        if (staff.isEmpty()) {
+            roleWeights[Role.STAFF.ordinal()] = 0;
+        }
+        int total = 0;
+        for (int weight : roleWeights) {
+            total += weight;
+        }
+        if (total == 0) {
+            return null;
+        }
+        int r = random.nextInt(total);
+        for (Role role : Role.values()) {
+            r -= roleWeights[role.ordinal()];
+            if (r < 0) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    private Scenario pickScenario(Role role, SplittableRandom random) {
+        int total = 0;
+        for (Scenario scenario : Scenario.values()) {
+            if (scenario.role == role) {
+                total += weights[scenario.ordinal()];
+            }
+        }
+        int r = random.nextInt(total);
+        Scenario picked = null;
+        for (Scenario scenario : Scenario.values()) {
+            if (scenario.role == role) {
+                picked = scenario;
+                r -= weights[scenario.ordinal()];
+                if (r < 0) {
+                    break;
+                }
+            }
+        }
+        return picked;
+    }
+
+    /**
+     * Returns the report criteria staff sessions choose from.
+     *
+     * @return criteria
+     */
+    private List<ReportCriteria> reportCriteria() {
+        List<ReportCriteria> list = new ArrayList<>();
+        list.add(new ReportCriteria());
+
+        ReportCriteria approved = new ReportCriteria();
+        approved.setStatus(InternshipStatus.APPROVED);
+        approved.setSortTypes(ReportSortType.COMPANY, ReportSortType.CLOSE_DATE);
+        list.add(approved);
+
+        ReportCriteria open = new ReportCriteria();
+        open.setOpenOn(LocalDate.of(2025, 6, 1));
+        open.setMinSlots(1);
+        open.setSortTypes(ReportSortType.SLOTS_LEFT);
+        list.add(open);
+
+        if (!internships.isEmpty()) {
+            Internship sample = internships.get(0);
+            ReportCriteria major = new ReportCriteria();
+            major.setMajor(sample.getMajor());
+            major.setLevel(InternshipLevel.BASIC);
+            major.setVisibility(true);
+            list.add(major);
+        }
+        return list;
+    }
+
+    /**
+     * Returns the internships with fewer than zero slots left.
+     *
+     * @return oversubscribed internships
+     */
+    private Set<Internship> oversubscribed() {
+        Set<Internship> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Internship internship : internships) {
+            if (internship.getNumberOfSlotsLeft() < 0) {
+                set.add(internship);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Prints one line per scenario and the error breakdown.
+     *
+     * @param seconds elapsed wall-clock seconds
+     */
+    private void print(double seconds) {
+        System.out.printf("%n%-10s %10s %10s %9s %9s %9s %9s %9s %9s %9s %8s%n", "scenario", "calls", "calls/s",
+                "p50 ms", "p99 ms", "p999 ms", "max ms", "ok", "conflict", "skipped", "errors");
+        long calls = 0;
+        long errors = 0;
+        LatencyHistogram all = new LatencyHistogram();
+        for (Scenario scenario : Scenario.values()) {
+            Tally tally = tallies.get(scenario);
+            LatencyHistogram latency = tally.latency;
+            if (latency.getCount() == 0) {
+                continue;
+            }
+            calls += latency.getCount();
+            errors += tally.errors.sum();
+            System.out.printf("%-10s %10d %10.0f %9.3f %9.3f %9.3f %9.3f %9d %9d %9d %8d%n",
+                    scenario.name().toLowerCase(), latency.getCount(), latency.getCount() / seconds,
+                    latency.getPercentile(0.50) / 1e6, latency.getPercentile(0.99) / 1e6,
+                    latency.getPercentile(0.999) / 1e6, latency.getMax() / 1e6,
+                    tally.outcomes[Outcome.OK.ordinal()].sum(), tally.outcomes[Outcome.CONFLICT.ordinal()].sum(),
+                    tally.outcomes[Outcome.SKIPPED.ordinal()].sum(), tally.errors.sum());
+        }
+        System.out.printf("%-10s %10d %10.0f   (%d errors in %.1f s)%n", "total", calls, calls / seconds, errors,
+                seconds);
+        errorTypes.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(10)
+                .forEach(e -> System.out.printf("  %8d  %s%n", e.getValue().sum(), e.getKey()));
+    }
+
+    /**
+     * Checks the store for states the controllers should never produce and
+     * prints the number of violations of each kind.
+     *
+     * @param oversubscribedBefore internships already oversubscribed before
+     *                             the run
+     */
+    private void checkInvariants(Set<Internship> oversubscribedBefore) {
+        int oversubscribed = 0;
+        Set<Student> placed = new HashSet<>();
+        int doublePlaced = 0;
+        for (Internship internship : internships) {
+            if (internship.getNumberOfSlotsLeft() < 0 && !oversubscribedBefore.contains(internship)) {
+                oversubscribed++;
+            }
+            for (Student applicant : internship.getApplicants()) {
+                if (!placed.add(applicant)) {
+                    doublePlaced++;
+                }
+            }
+        }
+        int tooMany = 0;
+        int placedWithApplications = 0;
+        for (Student student : students) {
+            if (student.getInternshipApplied().size() > 3) {
+                tooMany++;
+            }
+            if (student.getInternshipAccepted() != null && !student.getInternshipApplied().isEmpty()) {
+                placedWithApplications++;
+            }
+        }
+        System.out.printf("%ninvariants: %d oversubscribed internships (%d before the run), "
+                + "%d students with more than 3 applications, %d placed students with open applications, "
+                + "%d students placed more than once%n", oversubscribed, oversubscribedBefore.size(), tooMany,
+                placedWithApplications, doublePlaced);
+    }
+
+    /**
+     * Latency and outcome counts of one scenario, updated by all sessions.
+     */
+    private static final class Tally {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder[] outcomes = { new LongAdder(), new LongAdder(), new LongAdder() };
+        private final LongAdder errors = new LongAdder();
+    }
+}
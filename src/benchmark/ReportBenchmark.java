@@ -0,0 +1,139 @@
+package src.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import src.entity.CompanyRepresentative;
+import src.entity.Internship;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+import src.enums.ReportSortType;
+import src.report.ReportCriteria;
+import src.report.ReportGenerator;
+
+/**
+ * Measures how report generation scales with the number of cores.
+ *
+ * <p>
+ * Builds a synthetic catalog of internships, runs the sequential report path
+ * once as a reference, then runs the parallel path inside fork/join pools of
+ * 1 to N threads. Each parallel result is checked against the sequential one
+ * so that any ordering difference is reported rather than hidden.
+ *
+ * <p>
+ * Usage: {@code java src.benchmark.ReportBenchmark [internships] [maxThreads]}
+ */
+public class ReportBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Runs the benchmark and prints the median time per configuration.
+     *
+     * @param args optional catalog size and maximum thread count
+     * @throws Exception if a pooled report run fails
+     */
+    public static void main(String[] args) throws Exception {
+        int size = (args.length >= 1) ? Integer.parseInt(args[0]) : 1_000_000;
+        int maxThreads = (args.length >= 2) ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors();
+
+        List<Internship> catalog = buildCatalog(size, 42L);
+        ReportCriteria criteria = new ReportCriteria();
+        criteria.setStatus(InternshipStatus.APPROVED);
+        criteria.setMinSlots(2);
+        criteria.setSortTypes(ReportSortType.COMPANY, ReportSortType.CLOSE_DATE);
+
+        ReportGenerator sequential = new ReportGenerator();
+        sequential.setParallelThreshold(Integer.MAX_VALUE);
+        ReportGenerator parallel = new ReportGenerator();
+        parallel.setParallelThreshold(0);
+
+        List<Internship> expected = sequential.generateReport(catalog, criteria);
+        double baseline = measure(() -> sequential.generateReport(catalog, criteria));
+        System.out.printf("catalog=%d rows, matched=%d%n", size, expected.size());
+        System.out.printf("sequential        : %8.1f ms%n", baseline);
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(maxThreads);
+
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                List<Internship> actual = pool.submit(() -> parallel.generateReport(catalog, criteria)).get();
+                if (!actual.equals(expected)) {
+                    System.out.println("ERROR: parallel result differs from sequential with " + threads + " threads");
+                }
+                double ms = measure(() -> pool.submit(() -> parallel.generateReport(catalog, criteria)).join());
+                System.out.printf("parallel %3d cores: %8.1f ms (speedup %.2fx)%n", threads, ms, baseline / ms);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns the median wall-clock time in milliseconds of the given task
+     * after a short warm-up.
+     *
+     * @param task the work to time
+     * @return median duration in milliseconds
+     */
+    static double measure(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        double[] samples = new double[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_ROUNDS / 2];
+    }
+
+    /**
+     * Builds a reproducible synthetic catalog. Companies follow the
+     * five-internships-per-representative rule.
+     *
+     * @param size number of internships to create
+     * @param seed random seed
+     * @return list of synthetic internships
+     */
+    static List<Internship> buildCatalog(int size, long seed) {
+        Random random = new Random(seed);
+        String[] majors = { "CSC", "EEE", "MAE", "BIZ", "DSAI", "CEE" };
+        String[] words = { "Software", "Data", "Marketing", "Embedded", "Finance", "Research", "Design", "Cloud" };
+        InternshipLevel[] levels = InternshipLevel.values();
+        InternshipStatus[] statuses = InternshipStatus.values();
+        LocalDate base = LocalDate.of(2025, 1, 1);
+
+        List<Internship> catalog = new ArrayList<>(size);
+        CompanyRepresentative rep = null;
+        for (int i = 0; i < size; i++) {
+            if (i % 5 == 0) {
+                int company = i / 5;
+                rep = new CompanyRepresentative("REP" + company, "password", "Rep " + company,
+                        "rep" + company + "@example.com", "Company " + random.nextInt(Math.max(1, size / 50)),
+                        "HR", "Recruiter");
+            }
+            LocalDate open = base.plusDays(random.nextInt(365));
+            Internship internship = new Internship("REP" + (i / 5) + "_" + (i % 5),
+                    words[random.nextInt(words.length)] + " Intern " + i, "Synthetic posting " + i,
+                    levels[random.nextInt(levels.length)], majors[random.nextInt(majors.length)],
+                    open, open.plusDays(14 + random.nextInt(60)), 1 + random.nextInt(10), rep);
+            internship.setStatus(statuses[random.nextInt(statuses.length)]);
+            catalog.add(internship);
+            rep.addInternship(internship);
+        }
+        return catalog;
+    }
+}
@@ -1,22 +1,37 @@
 package src.controller;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+import src.enums.ApplicationGroupBy;
 import src.enums.LoginResult;
 import src.enums.CompanyApprovalStatus;
+import src.enums.ExportFormat;
 import src.enums.InternshipStatus;
 import src.enums.InternshipWithdrawalStatus;
+import src.enums.ReportGroupBy;
+import src.enums.WithdrawalOrder;
 import src.interfaces.AuthController;
 import src.interfaces.IReportGenerator;
+import src.report.ApplicationReportCriteria;
+import src.report.ApplicationReportGenerator;
+import src.report.ReportExporter;
 import src.report.ReportGenerator;
 import src.report.ReportCriteria;
+import src.report.ReportGroup;
 import src.DataStore;
 import src.entity.CareerCenterStaff;
 import src.entity.CompanyRepresentative;
 import src.entity.Internship;
 import src.entity.InternshipApplication;
-import src.entity.Student;
+import src.index.StaffDashboard;
+import src.monitor.FootprintMonitor;
+import src.monitor.FootprintReport;
+import src.monitor.Metrics;
+import src.monitor.OperationTimer;
 
 /**
  * Controller used by career center staff to perform administrative actions.
@@ -29,6 +44,26 @@ import src.entity.Student;
 public class CareerCenterStaffController implements AuthController, IReportGenerator {
     private CareerCenterStaff currentStaff;
     private DataStore dataStore;
+    private WithdrawalOrder withdrawalOrder = WithdrawalOrder.FIFO;
+
+    // Latency of each operation, recorded while metrics are enabled
+    private static final OperationTimer LOGIN = Metrics.timer("staff.login");
+    private static final OperationTimer UPDATE_PASSWORD = Metrics.timer("staff.updatePassword");
+    private static final OperationTimer GET_PENDING_COMPANIES = Metrics.timer("staff.getPendingCompanies");
+    private static final OperationTimer AUTHORISE_COMPANY = Metrics.timer("staff.authoriseCompany");
+    private static final OperationTimer REJECT_COMPANY = Metrics.timer("staff.rejectCompany");
+    private static final OperationTimer GET_PENDING_INTERNSHIPS = Metrics.timer("staff.getPendingInternships");
+    private static final OperationTimer APPROVE_INTERNSHIP = Metrics.timer("staff.approveInternship");
+    private static final OperationTimer REJECT_INTERNSHIP = Metrics.timer("staff.rejectInternship");
+    private static final OperationTimer GET_PENDING_WITHDRAWALS = Metrics.timer("staff.getPendingWithdrawals");
+    private static final OperationTimer APPROVE_WITHDRAWAL = Metrics.timer("staff.approveWithdrawal");
+    private static final OperationTimer REJECT_WITHDRAWAL = Metrics.timer("staff.rejectWithdrawal");
+    private static final OperationTimer GET_FOOTPRINT = Metrics.timer("staff.getFootprint");
+    private static final OperationTimer GENERATE_REPORT = Metrics.timer("staff.generateReport");
+    private static final OperationTimer EXPORT_REPORT = Metrics.timer("staff.exportReport");
+    private static final OperationTimer GENERATE_SUMMARY = Metrics.timer("staff.generateSummary");
+    private static final OperationTimer GENERATE_APPLICATION_REPORT = Metrics.timer("staff.generateApplicationReport");
+    private static final OperationTimer GENERATE_APPLICATION_SUMMARY = Metrics.timer("staff.generateApplicationSummary");
 
     /**
      * Constructs the controller and acquires the shared `DataStore` instance.
@@ -65,16 +100,21 @@ public class CareerCenterStaffController implements AuthController, IReportGener
      */
     @Override
     public LoginResult login(String userName, String pw) {
-        CareerCenterStaff c = dataStore.findCareerCenterStaff(userName);
-        if (c == null) {
-            return LoginResult.USER_NOT_FOUND;
-        }
-        if (!c.getPassword().equals(pw)) {
-            return LoginResult.WRONG_PASSWORD;
-        }
+        long start = LOGIN.start();
+        try {
+            CareerCenterStaff c = dataStore.findCareerCenterStaff(userName);
+            if (c == null) {
+                return LoginResult.USER_NOT_FOUND;
+            }
+            if (!c.getPassword().equals(pw)) {
+                return LoginResult.WRONG_PASSWORD;
+            }
 
-        setCurrentStaff(c);
-        return LoginResult.SUCCESS;
+            setCurrentStaff(c);
+            return LoginResult.SUCCESS;
+        } finally {
+            LOGIN.stop(start);
+        }
     }
 
     /**
@@ -86,11 +126,16 @@ public class CareerCenterStaffController implements AuthController, IReportGener
      */
     @Override
     public boolean updatePassword(String oldPW, String newPW) {
-        if (currentStaff.getPassword().equals(oldPW)) {
-            currentStaff.setPassword(newPW);
-            return true;
+        long start = UPDATE_PASSWORD.start();
+        try {
+            if (currentStaff.getPassword().equals(oldPW)) {
+                currentStaff.setPassword(newPW);
+                return true;
+            }
+            return false;
+        } finally {
+            UPDATE_PASSWORD.stop(start);
         }
-        return false;
     }
 
     /**
@@ -103,19 +148,18 @@ public class CareerCenterStaffController implements AuthController, IReportGener
     }
 
     /**
-     * Returns a list of company representatives whose approval status is pending.
+     * Returns a list of company representatives whose approval status is pending,
+     * longest-waiting first.
      *
      * @return list of pending `CompanyRepresentative` instances
      */
     public List<CompanyRepresentative> getPendingCompanies() {
-        List<CompanyRepresentative> pending = new ArrayList<>();
-
-        for (CompanyRepresentative rep : dataStore.getCompanyRepresentativeList()) {
-            if (CompanyApprovalStatus.PENDING == (rep.getApproval())) {
-                pending.add(rep);
-            }
+        long start = GET_PENDING_COMPANIES.start();
+        try {
+            return dataStore.getDashboard().getPendingReps();
+        } finally {
+            GET_PENDING_COMPANIES.stop(start);
         }
-        return pending;
     }
 
     /**
@@ -125,12 +169,18 @@ public class CareerCenterStaffController implements AuthController, IReportGener
      * @return true if the representative was found and approved, false otherwise
      */
     public boolean authoriseCompany(String companyRepId) {
-        CompanyRepresentative company = dataStore.findCompanyRep(companyRepId);
-        if (company != null) {
-            company.setApproval(CompanyApprovalStatus.APPROVED);
-            return true;
+        long start = AUTHORISE_COMPANY.start();
+        try {
+            CompanyRepresentative company = dataStore.findCompanyRep(companyRepId);
+            if (company != null) {
+                company.setApproval(CompanyApprovalStatus.APPROVED);
+                dataStore.getDashboard().repChanged(company);
+                return true;
+            }
+            return false;
+        } finally {
+            AUTHORISE_COMPANY.stop(start);
         }
-        return false;
     }
 
     /**
@@ -143,29 +193,33 @@ public class CareerCenterStaffController implements AuthController, IReportGener
      * @return true if the representative was found and removed, false otherwise
      */
     public boolean rejectCompany(String companyRepId) {
-        CompanyRepresentative company = dataStore.findCompanyRep(companyRepId);
-        if (company != null) {
-            // company.setApproval(CompanyApprovalStatus.REJECTED); // alternatively, we can
-            // delete the company from the list
-            dataStore.getCompanyRepresentativeList().remove(company);
-            return true;
+        long start = REJECT_COMPANY.start();
+        try {
+            CompanyRepresentative company = dataStore.findCompanyRep(companyRepId);
+            if (company != null) {
+                // company.setApproval(CompanyApprovalStatus.REJECTED); // alternatively, we can
+                // delete the company from the list
+                dataStore.removeCompanyRep(company);
+                return true;
+            }
+            return false;
+        } finally {
+            REJECT_COMPANY.stop(start);
         }
-        return false;
     }
 
     /**
-     * Returns internships that are pending approval.
+     * Returns internships that are pending approval, longest-waiting first.
      *
      * @return list of pending `Internship` objects
      */
     public List<Internship> getPendingInternships() {
-        List<Internship> pending = new ArrayList<>();
-        for (Internship i : dataStore.getInternshipList()) {
-            if (i.getStatus() == InternshipStatus.PENDING) { // false = pending
-                pending.add(i);
-            }
+        long start = GET_PENDING_INTERNSHIPS.start();
+        try {
+            return dataStore.getDashboard().getPendingInternships();
+        } finally {
+            GET_PENDING_INTERNSHIPS.stop(start);
         }
-        return pending;
     }
 
     /**
@@ -175,12 +229,18 @@ public class CareerCenterStaffController implements AuthController, IReportGener
      * @return true if the internship was found and approved, false otherwise
      */
     public boolean approveInternship(String internshipId) {
-        Internship internship = dataStore.findInternship(internshipId);
-        if (internship != null) {
-            internship.setStatus(InternshipStatus.APPROVED);
-            return true;
+        long start = APPROVE_INTERNSHIP.start();
+        try {
+            Internship internship = dataStore.findInternship(internshipId);
+            if (internship != null) {
+                internship.setStatus(InternshipStatus.APPROVED);
+                dataStore.getDashboard().internshipChanged(internship);
+                return true;
+            }
+            return false;
+        } finally {
+            APPROVE_INTERNSHIP.stop(start);
         }
-        return false;
     }
 
     /**
@@ -190,58 +250,83 @@ public class CareerCenterStaffController implements AuthController, IReportGener
      * @return true if the internship was found and removed, false otherwise
      */
     public boolean rejectInternship(String internshipId) {
-        Internship internship = dataStore.findInternship(internshipId);
-        if (internship != null) {
-            // internship.setStatus(InternshipStatus.REJECTED); // alternatively, we can
-            // delete the internship from the list
-            dataStore.getInternshipList().remove(internship);
-            internship.getCompanyRep().removeInternship(internship);
-            return true;
+        long start = REJECT_INTERNSHIP.start();
+        try {
+            Internship internship = dataStore.findInternship(internshipId);
+            if (internship != null) {
+                // internship.setStatus(InternshipStatus.REJECTED); // alternatively, we can
+                // delete the internship from the list
+                dataStore.removeInternship(internship);
+                internship.getCompanyRep().removeInternship(internship);
+                return true;
+            }
+            return false;
+        } finally {
+            REJECT_INTERNSHIP.stop(start);
         }
-        return false;
     }
 
     /**
      * Returns a list of internship applications for which students have
-     * requested withdrawal and the withdrawal is pending review.
+     * requested withdrawal and the withdrawal is pending review, in the
+     * controller's current triage order.
      *
      * @return list of pending `InternshipApplication` withdrawal requests
      */
     public List<InternshipApplication> getPendingWithdrawals() {
-        List<InternshipApplication> pending = new ArrayList<>();
-
-        for (Student s : dataStore.getStudentList()) {
-            // check all applied internships for pending withdrawal
-            for (InternshipApplication app : s.getInternshipApplied()) {
-                if (app.getInternshipWithdrawalStatus() == InternshipWithdrawalStatus.PENDING) {
-                    pending.add(app);
-
-                }
-            }
+        long start = GET_PENDING_WITHDRAWALS.start();
+        try {
+            return dataStore.getWithdrawalQueue().toList(withdrawalOrder);
+        } finally {
+            GET_PENDING_WITHDRAWALS.stop(start);
         }
-        return pending;
+    }
 
+    /**
+     * Sets the order in which pending withdrawals are listed: by request time
+     * (FIFO) or by application age (oldest first).
+     *
+     * @param order the `WithdrawalOrder` to use
+     */
+    public void setWithdrawalOrder(WithdrawalOrder order) {
+        this.withdrawalOrder = order;
+    }
+
+    /**
+     * Returns the order in which pending withdrawals are listed.
+     *
+     * @return the current `WithdrawalOrder`
+     */
+    public WithdrawalOrder getWithdrawalOrder() {
+        return this.withdrawalOrder;
     }
 
     /**
      * Approves a student's withdrawal request for a given application.
      * <p>
-     * This will set the withdrawal status to APPROVED, remove the
-     * application from the data store, and remove the application from the
-     * student's applied list.
+     * This will take the request off the pending-withdrawal queue, set the
+     * withdrawal status to APPROVED, remove the application from the data
+     * store, and remove the application from the student's applied list.
+     * If another staff member has already handled the request this fails.
      *
      * @param app the `InternshipApplication` representing the withdrawal
      * @return true if the withdrawal was pending and is now approved, false
      *         otherwise
      */
     public boolean approveWithdrawal(InternshipApplication app) {
-        if (app.getInternshipWithdrawalStatus() == InternshipWithdrawalStatus.PENDING) {
-            app.setInternshipWithdrawalStatus(InternshipWithdrawalStatus.APPROVED);
-            dataStore.getInternshipApplicationsList().remove(app);
-            app.getStudent().removeInternship(app);
-            return true;
+        long start = APPROVE_WITHDRAWAL.start();
+        try {
+            if (app.getInternshipWithdrawalStatus() == InternshipWithdrawalStatus.PENDING
+                    && dataStore.getWithdrawalQueue().remove(app)) {
+                app.setInternshipWithdrawalStatus(InternshipWithdrawalStatus.APPROVED);
+                dataStore.removeApplication(app);
+                app.getStudent().removeInternship(app);
+                return true;
+            }
+            return false;
+        } finally {
+            APPROVE_WITHDRAWAL.stop(start);
         }
-        return false;
     }
 
     /**
@@ -252,11 +337,41 @@ public class CareerCenterStaffController implements AuthController, IReportGener
      *         otherwise
      */
     public boolean rejectWithdrawal(InternshipApplication app) {
-        if (app.getInternshipWithdrawalStatus() == InternshipWithdrawalStatus.PENDING) {
-            app.setInternshipWithdrawalStatus(InternshipWithdrawalStatus.REJECTED);
-            return true;
+        long start = REJECT_WITHDRAWAL.start();
+        try {
+            if (app.getInternshipWithdrawalStatus() == InternshipWithdrawalStatus.PENDING
+                    && dataStore.getWithdrawalQueue().remove(app)) {
+                app.setInternshipWithdrawalStatus(InternshipWithdrawalStatus.REJECTED);
+                return true;
+            }
+            return false;
+        } finally {
+            REJECT_WITHDRAWAL.stop(start);
+        }
+    }
+
+    /**
+     * Returns the live pending counts, work queues and slot totals.
+     *
+     * @return the shared `StaffDashboard`
+     */
+    public StaffDashboard getDashboard() {
+        return dataStore.getDashboard();
+    }
+
+    /**
+     * Estimates the data store's memory footprint per entity collection,
+     * lookup, index and cache. The estimate is also published over JMX.
+     *
+     * @return a fresh `FootprintReport`
+     */
+    public FootprintReport getFootprint() {
+        long start = GET_FOOTPRINT.start();
+        try {
+            return FootprintMonitor.getInstance(dataStore).estimate();
+        } finally {
+            GET_FOOTPRINT.stop(start);
         }
-        return false;
     }
 
     // LIST GENERATION
@@ -271,7 +386,167 @@ public class CareerCenterStaffController implements AuthController, IReportGener
      */
     @Override
     public List<Internship> generateReport(ReportCriteria criteria) {
-        return reportGen.generateReport(criteria);
+        long start = GENERATE_REPORT.start();
+        try {
+            return reportGen.generateReport(criteria);
+        } finally {
+            GENERATE_REPORT.stop(start);
+        }
+    }
+
+    /**
+     * Exports the report for the criteria to a file. The format is taken from
+     * the file name: `.csv` or `.json`, optionally followed by `.gz` for gzip
+     * output compressed on all available processors. Rows are written in the
+     * same order as {@link #generateReport}, which holds all matching
+     * internships in memory while sorting, unless the criteria ask for a
+     * catalog order export, which writes rows as they are found.
+     *
+     * @param criteria the `ReportCriteria` used to filter and sort internships
+     * @param path     the file to write
+     * @return number of internships exported
+     * @throws IOException              if the file cannot be written
+     * @throws IllegalArgumentException if the file extension is not supported
+     */
+    public long exportReport(ReportCriteria criteria, String path) throws IOException {
+        long start = EXPORT_REPORT.start();
+        try {
+            String name = path.toLowerCase();
+            boolean gzip = name.endsWith(".gz");
+            if (gzip) {
+                name = name.substring(0, name.length() - 3);
+            }
+            ExportFormat format;
+            if (name.endsWith(".csv")) {
+                format = ExportFormat.CSV;
+            } else if (name.endsWith(".json")) {
+                format = ExportFormat.JSON;
+            } else {
+                throw new IllegalArgumentException("File name must end in .csv or .json (optionally .gz)");
+            }
+            try (Stream<Internship> rows = reportGen.streamReport(criteria)) {
+                return ReportExporter.export(rows, Paths.get(path), format, gzip,
+                        Runtime.getRuntime().availableProcessors());
+            }
+        } finally {
+            EXPORT_REPORT.stop(start);
+        }
+    }
+
+    /**
+     * Generates a grouped summary of the internships matching the criteria,
+     * e.g. postings and open slots per company and level.
+     *
+     * @param criteria the `ReportCriteria` used to filter internships
+     * @param groupBy  the dimensions to group on, outermost first
+     * @return one `ReportGroup` per distinct combination of dimension values
+     */
+    public List<ReportGroup> generateSummary(ReportCriteria criteria, ReportGroupBy... groupBy) {
+        long start = GENERATE_SUMMARY.start();
+        try {
+            return reportGen.generateSummary(criteria, groupBy);
+        } finally {
+            GENERATE_SUMMARY.stop(start);
+        }
+    }
+
+    /**
+     * Prints a grouped summary to standard output.
+     *
+     * @param groups the summary rows to print
+     */
+    public void printSummary(List<ReportGroup> groups) {
+        System.out.println("===== Career Center Staff Summary Report =====");
+        if (groups.isEmpty()) {
+            System.out.println("No internships found for the given criteria.");
+            return;
+        }
+        for (ReportGroup g : groups) {
+            System.out.printf(
+                    "%s | Postings: %d | Total slots left: %d | Closing: %s to %s\n",
+                    g.getKey(),
+                    g.getCount(),
+                    g.getTotalSlots(),
+                    g.getMinCloseDate(),
+                    g.getMaxCloseDate());
+        }
+    }
+
+    private ApplicationReportGenerator applicationReportGen = new ApplicationReportGenerator();
+
+    /**
+     * Generates a report of internship applications according to the provided
+     * criteria.
+     *
+     * @param criteria the `ApplicationReportCriteria` used to filter and sort applications
+     * @return list of applications matching the criteria
+     */
+    public List<InternshipApplication> generateApplicationReport(ApplicationReportCriteria criteria) {
+        long start = GENERATE_APPLICATION_REPORT.start();
+        try {
+            return applicationReportGen.generateReport(criteria);
+        } finally {
+            GENERATE_APPLICATION_REPORT.stop(start);
+        }
+    }
+
+    /**
+     * Counts the internship applications matching the criteria per group, e.g.
+     * pending company decisions per representative.
+     *
+     * @param criteria the `ApplicationReportCriteria` used to filter applications
+     * @param groupBy  the dimensions to group on, outermost first
+     * @return application counts keyed by dimension values
+     */
+    public Map<List<Object>, Long> generateApplicationSummary(ApplicationReportCriteria criteria,
+            ApplicationGroupBy... groupBy) {
+        long start = GENERATE_APPLICATION_SUMMARY.start();
+        try {
+            return applicationReportGen.generateSummary(criteria, groupBy);
+        } finally {
+            GENERATE_APPLICATION_SUMMARY.stop(start);
+        }
+    }
+
+    /**
+     * Prints internship applications to standard output.
+     *
+     * @param applications list of applications to print
+     */
+    public void printApplicationReport(List<InternshipApplication> applications) {
+        System.out.println("===== Career Center Staff Application Report =====");
+        if (applications.isEmpty()) {
+            System.out.println("No applications found for the given criteria.");
+            return;
+        }
+        for (InternshipApplication app : applications) {
+            System.out.printf(
+                    "ID: %s | Student: %s (%s) | Internship: %s | Company: %s | Company decision: %s | Student decision: %s | Withdrawal: %s\n",
+                    app.getApplicationId(),
+                    app.getStudent().getName(),
+                    app.getStudent().getMajor(),
+                    app.getInternship().getTitle(),
+                    app.getCompanyRep().getCompanyName(),
+                    app.getCompanyAccept(),
+                    app.getStudentAccept(),
+                    app.getInternshipWithdrawalStatus());
+        }
+    }
+
+    /**
+     * Prints grouped application counts to standard output.
+     *
+     * @param counts application counts keyed by dimension values
+     */
+    public void printApplicationSummary(Map<List<Object>, Long> counts) {
+        System.out.println("===== Career Center Staff Application Summary =====");
+        if (counts.isEmpty()) {
+            System.out.println("No applications found for the given criteria.");
+            return;
+        }
+        for (Map.Entry<List<Object>, Long> e : counts.entrySet()) {
+            System.out.printf("%s | Applications: %d\n", e.getKey(), e.getValue());
+        }
     }
 
     /**
@@ -288,7 +563,7 @@ public class CareerCenterStaffController implements AuthController, IReportGener
         }
         for (Internship i : internships) {
             System.out.printf(
-                    "ID: %d | Title: %s | Major: %s | Level: %s | Slots left: %d | Company: %s | Status: %s\n",
+                    "ID: %s | Title: %s | Major: %s | Level: %s | Slots left: %d | Company: %s | Status: %s\n",
                     i.getInternshipId(),
                     i.getTitle(),
                     i.getMajor(),
@@ -16,6 +16,8 @@ import src.report.ReportCriteria;
 import src.report.ReportGenerator;
 import src.enums.InternshipLevel;
 import src.DataStore;
+import src.monitor.Metrics;
+import src.monitor.OperationTimer;
 
 /**
  * Controller used by company representatives to manage internships and
@@ -30,6 +32,20 @@ public class CompanyRepresentativeController implements AuthController, IReportG
     private CompanyRepresentative currentRep;
     private DataStore dataStore;
 
+    // Latency of each operation, recorded while metrics are enabled
+    private static final OperationTimer CREATE_COMPANY_REPRESENTATIVE = Metrics.timer("rep.createCompanyRepresentative");
+    private static final OperationTimer LOGIN = Metrics.timer("rep.login");
+    private static final OperationTimer UPDATE_PASSWORD = Metrics.timer("rep.updatePassword");
+    private static final OperationTimer GET_APPLICATIONS = Metrics.timer("rep.getApplications");
+    private static final OperationTimer GET_INTERNSHIPS = Metrics.timer("rep.getInternships");
+    private static final OperationTimer CREATE_INTERNSHIP = Metrics.timer("rep.createInternship");
+    private static final OperationTimer APPROVE_INTERNSHIP_APPLICATION = Metrics.timer("rep.approveInternshipApplication");
+    private static final OperationTimer REJECT_INTERNSHIP_APPLICATION = Metrics.timer("rep.rejectInternshipApplication");
+    private static final OperationTimer EDIT_INTERNSHIP = Metrics.timer("rep.editInternship");
+    private static final OperationTimer DELETE_INTERNSHIP = Metrics.timer("rep.deleteInternship");
+    private static final OperationTimer TOGGLE_VISIBILITY = Metrics.timer("rep.toggleVisibility");
+    private static final OperationTimer GENERATE_REPORT = Metrics.timer("rep.generateReport");
+
     // init datastore
     /**
      * Constructs the controller and acquires the shared `DataStore` instance.
@@ -72,15 +88,19 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      */
     public boolean createCompanyRepresentative(String userId, String password, String name, String email,
             String companyName, String department, String position) {
-        CompanyRepresentative newRep = new CompanyRepresentative(userId, password, name, email, companyName, department,
-                position);
-
-        CompanyRepresentative existingRep = dataStore.findCompanyRep(userId);
-        if (existingRep != null) {
-            return false; // Username already exists
+        long start = CREATE_COMPANY_REPRESENTATIVE.start();
+        try {
+            CompanyRepresentative existingRep = dataStore.findCompanyRep(userId);
+            if (existingRep != null) {
+                return false; // Username already exists
+            }
+            CompanyRepresentative newRep = new CompanyRepresentative(userId, password, name, email, companyName, department,
+                    position);
+            dataStore.CompanyRepresentativeAdd(newRep);
+            return true;
+        } finally {
+            CREATE_COMPANY_REPRESENTATIVE.stop(start);
         }
-        dataStore.CompanyRepresentativeAdd(newRep);
-        return true;
     }
 
     /**
@@ -92,22 +112,27 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      */
     @Override
     public LoginResult login(String userName, String pw) {
-        // check the userName and pw against dataStore
-        CompanyRepresentative rep = dataStore.findCompanyRep(userName);
-        if (rep == null) {
-            return LoginResult.USER_NOT_FOUND;
-        }
+        long start = LOGIN.start();
+        try {
+            // check the userName and pw against dataStore
+            CompanyRepresentative rep = dataStore.findCompanyRep(userName);
+            if (rep == null) {
+                return LoginResult.USER_NOT_FOUND;
+            }
 
-        if (rep.getApproval() != CompanyApprovalStatus.APPROVED) {
-            return LoginResult.USER_NOT_APPROVED;
-        }
+            if (rep.getApproval() != CompanyApprovalStatus.APPROVED) {
+                return LoginResult.USER_NOT_APPROVED;
+            }
 
-        if (!rep.getPassword().equals(pw)) {
-            return LoginResult.WRONG_PASSWORD;
-        }
+            if (!rep.getPassword().equals(pw)) {
+                return LoginResult.WRONG_PASSWORD;
+            }
 
-        setCurrentCompanyRepresentative(rep);
-        return LoginResult.SUCCESS;
+            setCurrentCompanyRepresentative(rep);
+            return LoginResult.SUCCESS;
+        } finally {
+            LOGIN.stop(start);
+        }
     }
 
     /**
@@ -127,11 +152,16 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      */
     @Override
     public boolean updatePassword(String oldPW, String newPW) {
-        if (getCurrentCompayRepresentative().getPassword().equals(oldPW)) {
-            getCurrentCompayRepresentative().setPassword(newPW);
-            return true;
+        long start = UPDATE_PASSWORD.start();
+        try {
+            if (getCurrentCompayRepresentative().getPassword().equals(oldPW)) {
+                getCurrentCompayRepresentative().setPassword(newPW);
+                return true;
+            }
+            return false;
+        } finally {
+            UPDATE_PASSWORD.stop(start);
         }
-        return false;
     }
 
     /**
@@ -142,13 +172,28 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      *         representative
      */
     public ArrayList<InternshipApplication> getApplications() {
-        ArrayList<InternshipApplication> applications = new ArrayList<InternshipApplication>();
-        for (InternshipApplication app : dataStore.getInternshipApplicationsList()) {
-            if (app.getCompanyRep() == getCurrentCompayRepresentative()) {
-                applications.add(app);
-            }
+        long start = GET_APPLICATIONS.start();
+        try {
+            return new ArrayList<InternshipApplication>(
+                    dataStore.getApplicationIndex().forRep(getCurrentCompayRepresentative()));
+        } finally {
+            GET_APPLICATIONS.stop(start);
+        }
+    }
+
+    /**
+     * Returns the internship applications submitted for one internship.
+     *
+     * @param internship the `Internship` whose applications are returned
+     * @return list of `InternshipApplication` objects for the internship
+     */
+    public ArrayList<InternshipApplication> getApplications(Internship internship) {
+        long start = GET_APPLICATIONS.start();
+        try {
+            return new ArrayList<InternshipApplication>(dataStore.getApplicationIndex().forInternship(internship));
+        } finally {
+            GET_APPLICATIONS.stop(start);
         }
-        return applications;
     }
 
     /**
@@ -158,14 +203,19 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      * @return list of `Internship` objects owned by the current representative
      */
     public ArrayList<Internship> getInternships() {
-        ArrayList<Internship> internships = new ArrayList<Internship>();
-        for (Internship internship : dataStore.getInternshipList()) {
-            if (internship.getCompanyRep() == getCurrentCompayRepresentative()
-                    && internship.getInternshipId() != null) {
-                internships.add(internship);
+        long start = GET_INTERNSHIPS.start();
+        try {
+            ArrayList<Internship> internships = new ArrayList<Internship>();
+            for (Internship internship : dataStore.getInternshipList()) {
+                if (internship.getCompanyRep() == getCurrentCompayRepresentative()
+                        && internship.getInternshipId() != null) {
+                    internships.add(internship);
+                }
             }
+            return internships;
+        } finally {
+            GET_INTERNSHIPS.stop(start);
         }
-        return internships;
     }
 
     /**
@@ -183,16 +233,21 @@ public class CompanyRepresentativeController implements AuthController, IReportG
     public boolean createInternship(String title, String description, InternshipLevel internshipLevel,
             String major,
             LocalDate openDate, LocalDate closeDate, int numberOfSlotsLeft) {
-        if (getCurrentCompayRepresentative().getInternshipCount() == 5) {
-            return false; // limit to 5 internships
+        long start = CREATE_INTERNSHIP.start();
+        try {
+            if (getCurrentCompayRepresentative().getInternshipCount() == 5) {
+                return false; // limit to 5 internships
+            }
+            String newId = getCurrentCompayRepresentative().getUserId() + "_"
+                    + getCurrentCompayRepresentative().getInternships().size();
+            Internship newInternship = new Internship(newId, title, description, internshipLevel, major,
+                    openDate, closeDate, numberOfSlotsLeft, getCurrentCompayRepresentative());
+            dataStore.addInternship(newInternship);
+            getCurrentCompayRepresentative().addInternship(newInternship);
+            return true;
+        } finally {
+            CREATE_INTERNSHIP.stop(start);
         }
-        String newId = getCurrentCompayRepresentative().getUserId() + "_"
-                + getCurrentCompayRepresentative().getInternships().size();
-        Internship newInternship = new Internship(newId, title, description, internshipLevel, major,
-                openDate, closeDate, numberOfSlotsLeft, getCurrentCompayRepresentative());
-        dataStore.addInternship(newInternship);
-        getCurrentCompayRepresentative().addInternship(newInternship);
-        return true;
     }
 
     /**
@@ -202,8 +257,13 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      * @return true when operation succeeds
      */
     public boolean approveInternshipApplication(InternshipApplication app) {
-        app.setCompanyAccept(InternshipStatus.APPROVED);
-        return true;
+        long start = APPROVE_INTERNSHIP_APPLICATION.start();
+        try {
+            app.setCompanyAccept(InternshipStatus.APPROVED);
+            return true;
+        } finally {
+            APPROVE_INTERNSHIP_APPLICATION.stop(start);
+        }
     }
 
     /**
@@ -213,10 +273,15 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      * @return true when operation succeeds
      */
     public boolean rejectInternshipApplication(InternshipApplication app) {
-        // app.setCompanyAccept(InternshipStatus.REJECTED);
-        dataStore.getInternshipApplicationsList().remove(app);
-        app.getStudent().removeInternship(app);
-        return true;
+        long start = REJECT_INTERNSHIP_APPLICATION.start();
+        try {
+            // app.setCompanyAccept(InternshipStatus.REJECTED);
+            dataStore.removeApplication(app);
+            app.getStudent().removeInternship(app);
+            return true;
+        } finally {
+            REJECT_INTERNSHIP_APPLICATION.stop(start);
+        }
     }
 
     /**
@@ -237,17 +302,23 @@ public class CompanyRepresentativeController implements AuthController, IReportG
     public boolean editInternship(Internship internship, String title, String description,
             InternshipLevel internshipLevel, String major, LocalDate openDate, LocalDate closeDate,
             int numberOfSlotsLeft) {
-        if (internship.getStatus() == InternshipStatus.APPROVED) {
-            return false; // cannot edit approved internships
+        long start = EDIT_INTERNSHIP.start();
+        try {
+            if (internship.getStatus() == InternshipStatus.APPROVED) {
+                return false; // cannot edit approved internships
+            }
+            internship.setTitle(title);
+            internship.setDescription(description);
+            internship.setLevel(internshipLevel);
+            internship.setMajor(major);
+            internship.setOpenDate(openDate);
+            internship.setCloseDate(closeDate);
+            internship.setNumberOfSlotsLeft(numberOfSlotsLeft);
+            dataStore.reindexInternship(internship);
+            return true;
+        } finally {
+            EDIT_INTERNSHIP.stop(start);
         }
-        internship.setTitle(title);
-        internship.setDescription(description);
-        internship.setLevel(internshipLevel);
-        internship.setMajor(major);
-        internship.setOpenDate(openDate);
-        internship.setCloseDate(closeDate);
-        internship.setNumberOfSlotsLeft(numberOfSlotsLeft);
-        return true;
     }
 
     /**
@@ -258,13 +329,18 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      * @return true if deletion succeeded, false if internship is approved
      */
     public boolean deleteInternship(Internship internship) {
-        if (internship.getStatus() == InternshipStatus.APPROVED) {
-            return false; // cannot delete approved internships
+        long start = DELETE_INTERNSHIP.start();
+        try {
+            if (internship.getStatus() == InternshipStatus.APPROVED) {
+                return false; // cannot delete approved internships
+            }
+            dataStore.removeInternship(internship);
+            internship.setInternshipId(null);
+            getCurrentCompayRepresentative().removeInternship(internship);
+            return true;
+        } finally {
+            DELETE_INTERNSHIP.stop(start);
         }
-        internship.setInternshipId(null);
-        getCurrentCompayRepresentative().removeInternship(internship);
-        dataStore.getInternshipList().remove(internship);
-        return true;
     }
 
     /**
@@ -274,8 +350,13 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      * @return true after toggling
      */
     public boolean toggleVisibility(Internship internship) {
-        internship.setVisibility(!internship.getVisibility());
-        return true;
+        long start = TOGGLE_VISIBILITY.start();
+        try {
+            internship.setVisibility(!internship.getVisibility());
+            return true;
+        } finally {
+            TOGGLE_VISIBILITY.stop(start);
+        }
     }
 
     private ReportGenerator reportGen = new ReportGenerator();
@@ -288,7 +369,12 @@ public class CompanyRepresentativeController implements AuthController, IReportG
      */
     @Override
     public List<Internship> generateReport(ReportCriteria criteria) {
-        return reportGen.generateReport(criteria);
+        long start = GENERATE_REPORT.start();
+        try {
+            return reportGen.generateReport(criteria);
+        } finally {
+            GENERATE_REPORT.stop(start);
+        }
     }
 
     /**
@@ -305,7 +391,7 @@ public class CompanyRepresentativeController implements AuthController, IReportG
         }
         for (Internship i : internships) {
             System.out.printf(
-                    "ID: %d | Title: %s | Level: %s | Slots left: %d | Status: %s | Major: %s\n",
+                    "ID: %s | Title: %s | Level: %s | Slots left: %d | Status: %s | Major: %s\n",
                     i.getInternshipId(),
                     i.getTitle(),
                     i.getLevel(),
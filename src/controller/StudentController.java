@@ -15,6 +15,8 @@ import src.interfaces.IReportGenerator;
 import src.report.ReportCriteria;
 import src.report.ReportGenerator;
 import src.enums.InternshipLevel;
+import src.monitor.Metrics;
+import src.monitor.OperationTimer;
 
 /**
  * Controller used by students to search internships, manage applications,
@@ -28,6 +30,16 @@ public class StudentController implements AuthController, IReportGenerator {
     private Student currentStudent;
     private DataStore dataStore;
 
+    // Latency of each operation, recorded while metrics are enabled
+    private static final OperationTimer LOGIN = Metrics.timer("student.login");
+    private static final OperationTimer UPDATE_PASSWORD = Metrics.timer("student.updatePassword");
+    private static final OperationTimer GET_INTERNSHIPS_OPPORTUNITIES = Metrics.timer("student.getInternshipsOpportunities");
+    private static final OperationTimer SEARCH_INTERNSHIPS = Metrics.timer("student.searchInternships");
+    private static final OperationTimer APPLY_FOR_INTERNSHIP = Metrics.timer("student.applyForInternship");
+    private static final OperationTimer ACCEPT_INTERNSHIP_OFFER = Metrics.timer("student.acceptInternshipOffer");
+    private static final OperationTimer WITHDRAW = Metrics.timer("student.withdraw");
+    private static final OperationTimer GENERATE_REPORT = Metrics.timer("student.generateReport");
+
     /**
      * Constructs the controller and acquires the shared `DataStore` instance.
      */
@@ -62,17 +74,22 @@ public class StudentController implements AuthController, IReportGenerator {
      */
     @Override
     public LoginResult login(String userName, String pw) {
-        // check the userName and pw against dataStore
-        Student s = dataStore.findStudent(userName);
-        if (s == null) {
-        return LoginResult.USER_NOT_FOUND;
-        }
-        if (!s.getPassword().equals(pw)) {
-        return LoginResult.WRONG_PASSWORD;
-        }
+        long start = LOGIN.start();
+        try {
+            // check the userName and pw against dataStore
+            Student s = dataStore.findStudent(userName);
+            if (s == null) {
+            return LoginResult.USER_NOT_FOUND;
+            }
+            if (!s.getPassword().equals(pw)) {
+            return LoginResult.WRONG_PASSWORD;
+            }
 
-        setCurrentStudent(s);
-        return LoginResult.SUCCESS;
+            setCurrentStudent(s);
+            return LoginResult.SUCCESS;
+        } finally {
+            LOGIN.stop(start);
+        }
     }
 
     /**
@@ -92,15 +109,20 @@ public class StudentController implements AuthController, IReportGenerator {
      */
     @Override
     public boolean updatePassword(String oldPW, String newPW) {
-        if (getCurrentStudent() == null) {
-            return false;
-        }
+        long start = UPDATE_PASSWORD.start();
+        try {
+            if (getCurrentStudent() == null) {
+                return false;
+            }
 
-        if (getCurrentStudent().getPassword().equals(oldPW)) {
-            getCurrentStudent().setPassword(newPW);
-            return true;
+            if (getCurrentStudent().getPassword().equals(oldPW)) {
+                getCurrentStudent().setPassword(newPW);
+                return true;
+            }
+            return false;
+        } finally {
+            UPDATE_PASSWORD.stop(start);
         }
-        return false;
     }
 
     /**
@@ -112,25 +134,60 @@ public class StudentController implements AuthController, IReportGenerator {
      * @return list of applicable `Internship` objects
      */
     public ArrayList<Internship> getInternshipsOpportunities() {
-        ArrayList<Internship> allInternships = dataStore.getInternshipList();
-
-        ArrayList<Internship> visibleInternships = new ArrayList<Internship>();
-        for (Internship i : allInternships) {
-            if (i.getVisibility() && i.getStatus() == InternshipStatus.APPROVED && i.isAvailable()  && i.getMajor().equalsIgnoreCase(getCurrentStudent().getMajor())) {
-                visibleInternships.add(i);
+        long start = GET_INTERNSHIPS_OPPORTUNITIES.start();
+        try {
+            ArrayList<Internship> opportunities = new ArrayList<Internship>();
+            for (Internship i : dataStore.getInternshipList()) {
+                if (isEligible(i, getCurrentStudent())) {
+                    opportunities.add(i);
+                }
             }
+            return opportunities;
+        } finally {
+            GET_INTERNSHIPS_OPPORTUNITIES.stop(start);
         }
+    }
 
-        if (getCurrentStudent().getYearOfStudy() >= 3) {
-            return visibleInternships;
-        }
-        ArrayList<Internship> basicInternships = new ArrayList<Internship>();
-        for (Internship i : visibleInternships) {
-            if (i.getLevel().equals(InternshipLevel.BASIC)) { // should change to enum?
-                basicInternships.add(i);
+    /**
+     * Returns whether a student may see and apply for an internship: it must be
+     * visible, approved, available, of the student's major and, for first and
+     * second year students, of basic level.
+     *
+     * @param i       the internship
+     * @param student the student
+     * @return true if the internship is one of the student's opportunities
+     */
+    private static boolean isEligible(Internship i, Student student) {
+        return i.getVisibility() && i.getStatus() == InternshipStatus.APPROVED && i.isAvailable()
+                && i.getMajor().equalsIgnoreCase(student.getMajor())
+                && (student.getYearOfStudy() >= 3 || i.getLevel() == InternshipLevel.BASIC);
+    }
+
+    /**
+     * Searches the current student's internship opportunities by keyword.
+     *
+     * <p>The query is matched against internship titles and descriptions. Plain
+     * words must all appear, {@code word*} matches any word with that prefix and
+     * {@code "quoted words"} must appear in sequence. Results are limited to the
+     * internships returned by {@link #getInternshipsOpportunities()}, checked
+     * on each posting the index returns, and are ranked best match first.
+     *
+     * @param query the keyword query
+     * @return ranked list of matching `Internship` objects
+     */
+    public ArrayList<Internship> searchInternships(String query) {
+        long start = SEARCH_INTERNSHIPS.start();
+        try {
+            ArrayList<Internship> results = new ArrayList<Internship>();
+            for (Internship i : dataStore.getSearchIndex().search(query)) {
+                if (isEligible(i, getCurrentStudent())) {
+                    results.add(i);
+                }
             }
+            return results;
+        } finally {
+            SEARCH_INTERNSHIPS.stop(start);
         }
-        return basicInternships;
     }
 
     /**
@@ -144,34 +201,39 @@ public class StudentController implements AuthController, IReportGenerator {
      * @return true if application was created and added, false if any validation fails
      */
     public boolean applyForInternship(Internship internship) {
-        if (internship == null || getCurrentStudent() == null) {
-            return false;
-        }
+        long start = APPLY_FOR_INTERNSHIP.start();
+        try {
+            if (internship == null || getCurrentStudent() == null) {
+                return false;
+            }
 
-        if (getCurrentStudent().getInternshipAccepted() != null){
-            return false; // already have internship
-        }
-        if (getCurrentStudent().getInternshipApplied().size() >= 3) {
-            return false; // only can apply for 3 internships
-        }
+            if (getCurrentStudent().getInternshipAccepted() != null){
+                return false; // already have internship
+            }
+            if (getCurrentStudent().getInternshipApplied().size() >= 3) {
+                return false; // only can apply for 3 internships
+            }
 
-        for (InternshipApplication app : getCurrentStudent().getInternshipApplied()) {
-            if (app.getInternship().getInternshipId().equals(internship.getInternshipId())) {
-                return false; // Already applied
+            for (InternshipApplication app : getCurrentStudent().getInternshipApplied()) {
+                if (app.getInternship().getKey() == internship.getKey()) {
+                    return false; // Already applied
+                }
             }
-        }
 
-        // Check major compatibility
-        if (!internship.getMajor().toLowerCase().equals(getCurrentStudent().getMajor().toLowerCase())) {
-            return false;
-        }
+            // Check major compatibility
+            if (!internship.getMajor().toLowerCase().equals(getCurrentStudent().getMajor().toLowerCase())) {
+                return false;
+            }
 
-        InternshipApplication newApplication = new InternshipApplication(
-                getCurrentStudent().getUserId() + "_" + internship.getInternshipId(), internship.getCompanyRep(), getCurrentStudent(),
-                internship);
-        getCurrentStudent().applyInternship(newApplication);
-        dataStore.getInternshipApplicationsList().add(newApplication);
-        return true;
+            InternshipApplication newApplication = new InternshipApplication(
+                    getCurrentStudent().getUserId() + "_" + internship.getInternshipId(), internship.getCompanyRep(), getCurrentStudent(),
+                    internship);
+            getCurrentStudent().applyInternship(newApplication);
+            dataStore.addApplication(newApplication);
+            return true;
+        } finally {
+            APPLY_FOR_INTERNSHIP.stop(start);
+        }
     }
 
     /**
@@ -194,46 +256,58 @@ public class StudentController implements AuthController, IReportGenerator {
      * @return true if the offer was accepted, false if validation fails
      */
     public boolean acceptInternshipOffer(InternshipApplication application) {
-        if (application == null || getCurrentStudent() == null) {
-            return false;
-        }
+        long start = ACCEPT_INTERNSHIP_OFFER.start();
+        try {
+            if (application == null || getCurrentStudent() == null) {
+                return false;
+            }
 
-        // Check if this application belongs to the current student
-        if (!getCurrentStudent().getInternshipApplied().contains(application)) {
-            return false;
-        }
-        // Check if the company has approved the application
-        if (application.getCompanyAccept() != InternshipStatus.APPROVED) {
-            return false;
-        }
+            // Check if this application belongs to the current student
+            if (!getCurrentStudent().getInternshipApplied().contains(application)) {
+                return false;
+            }
+            // Check if the company has approved the application
+            if (application.getCompanyAccept() != InternshipStatus.APPROVED) {
+                return false;
+            }
 
-        if (application.getInternship().getNumberOfSlotsLeft() <= 0) {
-            return false; // No slots left
-        }
-        // application.setStudentAccept("Accepted");
-        getCurrentStudent().setInternshipAccepted(application.getInternship());
-        for (InternshipApplication app : getCurrentStudent().getInternshipApplied()) {
-            // app.setApplicationId(null); // mark other applications as void
-            dataStore.getInternshipApplicationsList().remove(app);
+            if (application.getInternship().getNumberOfSlotsLeft() <= 0) {
+                return false; // No slots left
+            }
+            // application.setStudentAccept("Accepted");
+            getCurrentStudent().setInternshipAccepted(application.getInternship());
+            for (InternshipApplication app : getCurrentStudent().getInternshipApplied()) {
+                // app.setApplicationId(null); // mark other applications as void
+                dataStore.removeApplication(app);
+            }
+            getCurrentStudent().reset();
+            //
+            // application.getInternship().setNumberOfSlotsLeft(application.getInternship().getNumberOfSlotsLeft() - 1)
+            application.getInternship().addApplicant(getCurrentStudent());
+            dataStore.getDashboard().internshipChanged(application.getInternship());
+            getCurrentStudent().reset();
+            return true;
+        } finally {
+            ACCEPT_INTERNSHIP_OFFER.stop(start);
         }
-        getCurrentStudent().reset();
-        //
-        // application.getInternship().setNumberOfSlotsLeft(application.getInternship().getNumberOfSlotsLeft() - 1)
-        application.getInternship().addApplicant(getCurrentStudent());
-        getCurrentStudent().reset();
-        return true;
-
     }
 
     /**
-     * Submits a withdrawal request for the given internship application.
+     * Submits a withdrawal request for the given internship application and
+     * queues it for career center staff review.
      *
      * @param application the `InternshipApplication` for which to request withdrawal
      * @return true after marking the withdrawal as pending
      */
     public boolean wtihdraw(InternshipApplication application) {
-        application.setInternshipWithdrawalStatus(InternshipWithdrawalStatus.PENDING);
-        return true;
+        long start = WITHDRAW.start();
+        try {
+            application.setInternshipWithdrawalStatus(InternshipWithdrawalStatus.PENDING);
+            dataStore.getWithdrawalQueue().offer(application);
+            return true;
+        } finally {
+            WITHDRAW.stop(start);
+        }
     }
 
     private ReportGenerator reportGen = new ReportGenerator();
@@ -246,7 +320,12 @@ public class StudentController implements AuthController, IReportGenerator {
      */
     @Override
     public List<Internship> generateReport(ReportCriteria criteria) {
-        return reportGen.generateReport(criteria);
+        long start = GENERATE_REPORT.start();
+        try {
+            return reportGen.generateReport(criteria);
+        } finally {
+            GENERATE_REPORT.stop(start);
+        }
     }
 
     /**
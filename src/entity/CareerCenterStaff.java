@@ -8,7 +8,9 @@ package src.entity;
  * responsible for administrative actions within the career center scope.
  */
 public class CareerCenterStaff extends User {
+    private static final KeyRegistry<CareerCenterStaff> KEYS = new KeyRegistry<>();
 
+    private volatile int key = -1; // assigned on first use, see getKey()
     private String staffDepartment;
     private String role;
 
@@ -25,8 +27,60 @@ public class CareerCenterStaff extends User {
     public CareerCenterStaff(String userId, String password, String name, String email, String role,
             String staffDepartment) {
         super(userId, password, name, email);
-        this.staffDepartment = staffDepartment;
-        this.role = role;
+        setStaffDepartment(staffDepartment);
+        setStaffRole(role);
+    }
+
+    /**
+     * Returns the staff member's dense int key. The key is assigned when the
+     * data store adds the staff member, or on first use otherwise, in order
+     * starting at 0.
+     *
+     * @return the staff key
+     */
+    public int getKey() {
+        int k = key;
+        return (k >= 0) ? k : assignKey();
+    }
+
+    private int assignKey() {
+        synchronized (KEYS) {
+            if (key < 0) {
+                key = KEYS.register(this);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Returns the staff member with the given key.
+     *
+     * @param key a key returned by {@link #getKey()}
+     * @return the `CareerCenterStaff`, or null if none has that key
+     */
+    public static CareerCenterStaff forKey(int key) {
+        return KEYS.get(key);
+    }
+
+    /**
+     * Releases this staff member's key once they have been removed from the
+     * data store, so the key registry no longer keeps them alive. The staff
+     * member has no key afterwards and gets a new one if used again.
+     */
+    public void releaseKey() {
+        synchronized (KEYS) {
+            KEYS.release(key, this);
+            key = -1;
+        }
+    }
+
+    /**
+     * Restarts staff keys from 0 once every key has been released.
+     * Called by {@code DataStore.clear()} after its indexes have been
+     * replaced, so no index still holds an old key.
+     */
+    public static void resetKeys() {
+        KEYS.reset();
     }
 
     /**
@@ -44,7 +98,7 @@ public class CareerCenterStaff extends User {
      * @param staffDepartment department to set
      */
     public void setStaffDepartment(String staffDepartment) {
-        this.staffDepartment = staffDepartment;
+        this.staffDepartment = StringDictionary.DEPARTMENTS.canonicalize(staffDepartment);
     }
 
     /**
@@ -62,7 +116,7 @@ public class CareerCenterStaff extends User {
      * @param role role/title to set
      */
     public void setStaffRole(String role) {
-        this.role = role;
+        this.role = StringDictionary.ROLES.canonicalize(role);
     }
 
     /**
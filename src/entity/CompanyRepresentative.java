@@ -15,7 +15,11 @@ import src.enums.CompanyApprovalStatus;
  * representative can post up to 5 internships.
  */
 public class CompanyRepresentative extends User {
+    private static final KeyRegistry<CompanyRepresentative> KEYS = new KeyRegistry<>();
+
+    private volatile int key = -1; // assigned on first use, see getKey()
     private String companyName;
+    private String companyNameSortKey; // lower-cased company name, cached for report ordering
     private CompanyApprovalStatus companyApprovalStatus; // "pending", "approved","rejected"
     private List<Internship> internships;
     private int internshipCount; // max 5
@@ -37,17 +41,69 @@ public class CompanyRepresentative extends User {
     public CompanyRepresentative(String id, String pw, String name, String email, String companyName, String department,
             String position) {
         super(id, pw, name, email);
-        this.companyName = companyName;
+        setCompanyName(companyName);
         this.companyApprovalStatus = CompanyApprovalStatus.PENDING;
         this.internshipCount = 0;
         this.internships = new ArrayList<>();
-        this.position = position;
-        this.department = department;
+        setPosition(position);
+        setDepartment(department);
 
     }
 
     // Getter functions
 
+    /**
+     * Returns the representative's dense int key. The key is assigned when the
+     * data store adds the representative, or on first use otherwise, in order
+     * starting at 0.
+     *
+     * @return the representative key
+     */
+    public int getKey() {
+        int k = key;
+        return (k >= 0) ? k : assignKey();
+    }
+
+    private int assignKey() {
+        synchronized (KEYS) {
+            if (key < 0) {
+                key = KEYS.register(this);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Returns the representative with the given key.
+     *
+     * @param key a key returned by {@link #getKey()}
+     * @return the `CompanyRepresentative`, or null if none has that key
+     */
+    public static CompanyRepresentative forKey(int key) {
+        return KEYS.get(key);
+    }
+
+    /**
+     * Releases this representative's key once it has been removed from the data
+     * store, so the key registry no longer keeps it alive. The representative
+     * has no key afterwards; it gets a new one if used again.
+     */
+    public void releaseKey() {
+        synchronized (KEYS) {
+            KEYS.release(key, this);
+            key = -1;
+        }
+    }
+
+    /**
+     * Restarts representative keys from 0 once every key has been released.
+     * Called by {@code DataStore.clear()} after its indexes have been
+     * replaced, so no index still holds an old key.
+     */
+    public static void resetKeys() {
+        KEYS.reset();
+    }
+
     /**
      * Gets the name of the company.
      *
@@ -57,6 +113,17 @@ public class CompanyRepresentative extends User {
         return companyName;
     }
 
+    /**
+     * Gets the lower-cased company name used when ordering reports. The key is
+     * recomputed whenever the company name changes so that sorting does not
+     * allocate a new String per comparison.
+     *
+     * @return the normalized company name, or null if no name is set
+     */
+    public String getCompanyNameSortKey() {
+        return companyNameSortKey;
+    }
+
     /**
      * Gets the approval status of this company representative.
      *
@@ -110,7 +177,10 @@ public class CompanyRepresentative extends User {
      * @param companyName the company name to set
      */
     public void setCompanyName(String companyName) {
-        this.companyName = companyName;
+        this.companyName = StringDictionary.COMPANY_NAMES.canonicalize(companyName);
+        this.companyNameSortKey = (companyName != null)
+                ? StringDictionary.COMPANY_NAMES.canonicalize(companyName.toLowerCase())
+                : null;
     }
 
     /**
@@ -153,7 +223,7 @@ public class CompanyRepresentative extends User {
      * @param department the department name to set
      */
     public void setDepartment(String department) {
-        this.department = department;
+        this.department = StringDictionary.DEPARTMENTS.canonicalize(department);
     }
 
     /**
@@ -162,7 +232,7 @@ public class CompanyRepresentative extends User {
      * @param position the position/title to set
      */
     public void setPosition(String position) {
-        this.position = position;
+        this.position = StringDictionary.POSITIONS.canonicalize(position);
     }
 
     /**
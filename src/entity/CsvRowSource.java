@@ -0,0 +1,177 @@
+package src.entity;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * A CSV file whose rows can be re-read individually by byte offset.
+ *
+ * <p>
+ * Lazily loaded entities are created with their key attributes only and keep a
+ * {@link Row} pointing back at the line they came from. The first time one of
+ * their deferred fields is used, the row is read again from the file and handed
+ * to the source's hydrator, which parses the line and fills in the remaining
+ * fields. Only the file position (12 bytes plus the row object) stays resident
+ * per entity until then.
+ *
+ * <p>
+ * Rows are only valid while the file is unchanged, so every deferred entity
+ * must be hydrated before the file is rewritten.
+ *
+ * @param <T> the entity type filled in by the hydrator
+ */
+public final class CsvRowSource<T> {
+    private final Path file;
+    private final BiConsumer<T, String> hydrator;
+
+    /**
+     * Creates a row source.
+     *
+     * @param file     the CSV file
+     * @param hydrator fills an entity's deferred fields from its CSV line
+     */
+    public CsvRowSource(Path file, BiConsumer<T, String> hydrator) {
+        this.file = file;
+        this.hydrator = hydrator;
+    }
+
+    /**
+     * Opens the file for a sequential scan that reports each line's position.
+     *
+     * @return a reader positioned at the first line
+     * @throws IOException if the file cannot be opened
+     */
+    public RowReader open() throws IOException {
+        return new RowReader(Files.newInputStream(file));
+    }
+
+    /**
+     * Creates a handle to the line last returned by a reader.
+     *
+     * @param reader the reader
+     * @return a row handle for that line
+     */
+    public Row<T> row(RowReader reader) {
+        return new Row<>(this, reader.offset, reader.length);
+    }
+
+    /**
+     * Reads one line back from the file.
+     *
+     * @param offset byte offset of the line
+     * @param length byte length of the line, without the line terminator
+     * @return the decoded line
+     * @throws IOException if the file cannot be read
+     */
+    private String read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Row at offset " + offset + " is past the end of " + file);
+                }
+            }
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Position of one CSV line, able to hydrate the entity created from it.
+     *
+     * @param <T> the entity type
+     */
+    public static final class Row<T> {
+        private final CsvRowSource<T> source;
+        private final long offset;
+        private final int length;
+
+        private Row(CsvRowSource<T> source, long offset, int length) {
+            this.source = source;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Re-reads the line and passes it to the source's hydrator.
+         *
+         * @param entity the entity to fill in
+         * @throws UncheckedIOException if the line cannot be read
+         */
+        public void hydrate(T entity) {
+            String line;
+            try {
+                line = source.read(offset, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            source.hydrator.accept(entity, line);
+        }
+    }
+
+    /**
+     * Sequential line reader that tracks the byte position of each line.
+     * Lines end at {@code \n}; a trailing {@code \r} is dropped.
+     */
+    public static final class RowReader implements Closeable {
+        private final InputStream in;
+        private byte[] line = new byte[256];
+        private long position;
+        private long offset;
+        private int length;
+
+        private RowReader(InputStream in) {
+            this.in = new BufferedInputStream(in, 1 << 16);
+        }
+
+        /**
+         * Reads the next line.
+         *
+         * @return the line, or null at the end of the file
+         * @throws IOException if the file cannot be read
+         */
+        public String readLine() throws IOException {
+            offset = position;
+            int n = 0;
+            int b;
+            while ((b = in.read()) >= 0) {
+                position++;
+                if (b == '\n') {
+                    break;
+                }
+                if (n == line.length) {
+                    line = Arrays.copyOf(line, n * 2);
+                }
+                line[n++] = (byte) b;
+            }
+            if (b < 0 && n == 0) {
+                return null;
+            }
+            if (n > 0 && line[n - 1] == '\r') {
+                n--;
+            }
+            length = n;
+            return new String(line, 0, n, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Closes the file.
+         *
+         * @throws IOException if closing fails
+         */
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
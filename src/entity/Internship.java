@@ -5,11 +5,17 @@ import java.util.List;
 import java.util.ArrayList;
 import src.enums.InternshipStatus;
 import src.enums.InternshipLevel;
+import src.index.OrderedIntSet;
+import src.interfaces.InternshipRecord;
 
-public class Internship {
+public class Internship implements InternshipRecord {
+    private static final KeyRegistry<Internship> KEYS = new KeyRegistry<>();
+
+    private volatile int key = -1; // assigned on first use, see getKey()
     private String internshipId;
     private String title;
-    private String description;
+    private String titleSortKey; // lower-cased title, cached for report ordering
+    private long description = TextArena.NULL; // handle into TextArena.DESCRIPTIONS
     private InternshipLevel internshipLevel;
     private String major;
     private LocalDate openDate;
@@ -18,7 +24,8 @@ public class Internship {
     private int numberOfSlotsLeft;
     private boolean visibility;
     private CompanyRepresentative companyRep;
-    private ArrayList<Student> applicants;
+    private final OrderedIntSet applicants = new OrderedIntSet(); // student keys, in the order added
+    private volatile CsvRowSource.Row<Internship> details; // deferred description and applicants
 
     public Internship() {
     }
@@ -27,20 +34,82 @@ public class Internship {
             LocalDate openDate, LocalDate closeDate, int numberOfSlotsLeft,
             CompanyRepresentative companyRep) {
         this.internshipId = internshipId;
-        this.title = title;
-        this.description = description;
+        setTitle(title);
+        setDescription(description);
         this.internshipLevel = internshipLevel;
-        this.major = major;
+        setMajor(major);
         this.openDate = openDate;
         this.closeDate = closeDate;
         this.internshipStatus = InternshipStatus.PENDING;
         this.companyRep = companyRep;
         this.numberOfSlotsLeft = numberOfSlotsLeft;
         this.visibility = true;
-        this.applicants = new ArrayList<>();
 
     }
 
+    // dense key, assigned when the data store adds the internship (or on first use)
+    public int getKey() {
+        int k = key;
+        return (k >= 0) ? k : assignKey();
+    }
+
+    private int assignKey() {
+        synchronized (KEYS) {
+            if (key < 0) {
+                key = KEYS.register(this);
+            }
+            return key;
+        }
+    }
+
+    public static Internship forKey(int key) {
+        return KEYS.get(key);
+    }
+
+    // called once the internship has been removed from the data store;
+    // the internship has no key afterwards and gets a new one if used again
+    public void releaseKey() {
+        synchronized (KEYS) {
+            KEYS.release(key, this);
+            key = -1;
+        }
+        TextArena.DESCRIPTIONS.discard(description);
+        description = TextArena.NULL;
+    }
+
+    // called by DataStore.clear() once its indexes have been replaced
+    public static void resetKeys() {
+        KEYS.reset();
+    }
+
+    // description and applicants are read from the row on first use;
+    // numberOfSlotsLeft must already account for the deferred applicants
+    public void deferDetails(CsvRowSource.Row<Internship> row) {
+        this.details = row;
+    }
+
+    public void hydrate() {
+        if (details == null) {
+            return;
+        }
+        synchronized (this) {
+            CsvRowSource.Row<Internship> row = details;
+            if (row == null) {
+                return;
+            }
+            details = null;
+            int slots = numberOfSlotsLeft;
+            try {
+                row.hydrate(this);
+            } catch (RuntimeException e) {
+                details = row;
+                throw e;
+            } finally {
+                numberOfSlotsLeft = slots;
+            }
+        }
+    }
+
     public CompanyRepresentative getCompanyRep() {
         return this.companyRep;
     }
@@ -63,14 +132,23 @@ public class Internship {
 
     public void setTitle(String title) {
         this.title = title;
+        this.titleSortKey = (title != null) ? title.toLowerCase() : null;
     }
 
+    public String getTitleSortKey() {
+        return this.titleSortKey;
+    }
+
+    // decoded from off-heap storage on every call
     public String getDescription() {
-        return this.description;
+        hydrate();
+        return TextArena.DESCRIPTIONS.load(this.description);
     }
 
     public void setDescription(String description) {
-        this.description = description;
+        hydrate();
+        TextArena.DESCRIPTIONS.discard(this.description);
+        this.description = TextArena.DESCRIPTIONS.store(description);
     }
 
     public InternshipLevel getLevel() {
@@ -86,7 +164,7 @@ public class Internship {
     }
 
     public void setMajor(String major) {
-        this.major = major;
+        this.major = StringDictionary.MAJORS.canonicalize(major);
     }
 
     public LocalDate getOpenDate() {
@@ -130,7 +208,7 @@ public class Internship {
     }
 
     public boolean isAvailable() {
-        // if (LocalDate.now().isAfter(openDate) && LocalDate.now().isBefore(closeDate) && numberOfSlotsLeft > 0) {
+        // if (isOpenOn(LocalDate.now()) && numberOfSlotsLeft > 0) {
         if (numberOfSlotsLeft > 0) {
             return true;
         }
@@ -138,31 +216,56 @@ public class Internship {
         return false;
     }
 
+    public boolean isOpenOn(LocalDate date) {
+        return !date.isBefore(openDate) && !date.isAfter(closeDate);
+    }
+
+    // applicants in the order they were added
     public List<Student> getApplicants() {
-        return applicants;
+        hydrate();
+        int[] keys = applicants.toArray();
+        List<Student> students = new ArrayList<>(keys.length);
+        for (int key : keys) {
+            students.add(Student.forKey(key));
+        }
+        return students;
+    }
+
+    public int getApplicantCount() {
+        hydrate();
+        return applicants.size();
+    }
+
+    public boolean hasApplicant(Student student) {
+        hydrate();
+        return applicants.contains(student.getKey());
     }
 
     public void addApplicant(Student student) {
-        applicants.add(student);
-        this.numberOfSlotsLeft--;
+        hydrate();
+        if (applicants.add(student.getKey())) {
+            this.numberOfSlotsLeft--;
+        }
     }
 
     public void removeApplicant(Student student) {
-        applicants.remove(student);
-        this.numberOfSlotsLeft++;
+        hydrate();
+        if (applicants.remove(student.getKey())) {
+            this.numberOfSlotsLeft++;
+        }
     }
 
     @Override
     public String toString() {
         List<String> applicantsName = new ArrayList<>();
-        for (Student s : applicants) {
+        for (Student s : getApplicants()) {
             applicantsName.add(s.getName());
         }
 
         return "Internship{" +
                 "internshipId=" + internshipId +
                 ", title='" + title + '\'' +
-                ", description='" + description + '\'' +
+                ", description='" + getDescription() + '\'' +
                 ", internshipLevel=" + internshipLevel +
                 ", major='" + major + '\'' +
                 ", openDate=" + openDate +
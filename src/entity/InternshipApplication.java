@@ -2,8 +2,11 @@ package src.entity;
 
 import src.enums.InternshipStatus;
 import src.enums.InternshipWithdrawalStatus;
+import src.interfaces.ApplicationRecord;
+
+public class InternshipApplication implements ApplicationRecord {
+    private static final KeyRegistry<InternshipApplication> KEYS = new KeyRegistry<>();
 
-public class InternshipApplication {
     private CompanyRepresentative companyRep;
     private Student student;
     private Internship internship;
@@ -11,6 +14,7 @@ public class InternshipApplication {
     private InternshipStatus companyAccept; // e.g., "Pending", "Accepted", "Rejected"
     private InternshipWithdrawalStatus studentWithdraw;
     private String applicationId;
+    private volatile int key = -1; // assigned on first use, see getKey()
 
     /**
      * Constructs a new InternshipApplication with the provided information.
@@ -160,6 +164,69 @@ public class InternshipApplication {
      * @return the `InternshipWithdrawalStatus`
      */
 
+    /**
+     * Returns the application's dense int key. The key is assigned when the
+     * data store adds the application, or on first use otherwise, in order
+     * starting at 0.
+     *
+     * @return the application key
+     */
+    public int getKey() {
+        int k = key;
+        return (k >= 0) ? k : assignKey();
+    }
+
+    private int assignKey() {
+        synchronized (KEYS) {
+            if (key < 0) {
+                key = KEYS.register(this);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Returns the application with the given key.
+     *
+     * @param key a key returned by {@link #getKey()}
+     * @return the `InternshipApplication`, or null if none has that key
+     */
+    public static InternshipApplication forKey(int key) {
+        return KEYS.get(key);
+    }
+
+    /**
+     * Releases this application's key once it has been removed from the data
+     * store, so the key registry no longer keeps it alive. The application has
+     * no key afterwards; it gets a new one if used again.
+     */
+    public void releaseKey() {
+        synchronized (KEYS) {
+            KEYS.release(key, this);
+            key = -1;
+        }
+    }
+
+    /**
+     * Restarts application keys from 0 once every key has been released.
+     * Called by {@code DataStore.clear()} after its indexes have been
+     * replaced, so no index still holds an old key.
+     */
+    public static void resetKeys() {
+        KEYS.reset();
+    }
+
+    /**
+     * Returns the position of this application in the order applications were
+     * created, counting loaded applications in file order. Lower values are
+     * older applications. This is the application's key.
+     *
+     * @return the submission sequence number
+     */
+    public long getSubmissionOrder() {
+        return this.key;
+    }
+
     @Override
     public String toString() {
         return "InternshipApplication{" +
@@ -0,0 +1,90 @@
+package src.entity;
+
+import java.util.Arrays;
+
+/**
+ * Assigns dense int keys to entities of one type and resolves keys back to
+ * entities.
+ *
+ * <p>
+ * Keys are handed out in registration order starting at 0, so a key doubles as
+ * an index into the registry's backing array and lookups are a single array
+ * read. Entities register on first use of their key, normally when the data
+ * store adds them, so no entity is registered before its constructor has
+ * finished. A released key is not handed out again, since indexes may still
+ * hold it, until {@link #reset()} restarts the keys from 0. The data store
+ * calls it when it is cleared, after replacing its indexes, so clearing and
+ * reloading the store does not push keys ever higher.
+ *
+ * <p>
+ * {@link #get(int)} takes no lock: the backing array is published through a
+ * volatile field after every change, and copied when it grows.
+ *
+ * @param <T> the entity type
+ */
+final class KeyRegistry<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile Object[] entries = new Object[INITIAL_CAPACITY];
+    private int size; // guarded by this
+    private int live; // guarded by this
+
+    /**
+     * Registers an entity and returns its key.
+     *
+     * @param entity the entity to register
+     * @return the new key
+     */
+    synchronized int register(T entity) {
+        Object[] array = entries;
+        if (size == array.length) {
+            array = Arrays.copyOf(array, size * 2);
+        }
+        array[size] = entity;
+        entries = array;
+        live++;
+        return size++;
+    }
+
+    /**
+     * Returns the entity registered under a key.
+     *
+     * @param key the key
+     * @return the entity, or null if the key was never assigned or was released
+     */
+    @SuppressWarnings("unchecked")
+    T get(int key) {
+        Object[] array = entries;
+        return (key >= 0 && key < array.length) ? (T) array[key] : null;
+    }
+
+    /**
+     * Drops an entity from the registry. Its key is not handed out again
+     * before {@link #reset()}. Releasing an entity that is not registered
+     * under the key, e.g. releasing it twice, does nothing.
+     *
+     * @param key    the entity's key
+     * @param entity the entity
+     */
+    synchronized void release(int key, T entity) {
+        Object[] array = entries;
+        if (key < 0 || key >= size || array[key] != entity) {
+            return;
+        }
+        array[key] = null;
+        entries = array;
+        live--;
+    }
+
+    /**
+     * Restarts keys from 0 if every key has been released. Does nothing while
+     * any entity is still registered, since its key must stay unique. Callers
+     * must make sure no index still holds a released key.
+     */
+    synchronized void reset() {
+        if (live == 0) {
+            size = 0;
+            entries = new Object[INITIAL_CAPACITY];
+        }
+    }
+}
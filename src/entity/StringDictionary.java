@@ -0,0 +1,85 @@
+package src.entity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizing dictionary for highly repetitive entity attributes.
+ *
+ * <p>
+ * Values such as majors, company names, departments, roles, positions and email
+ * domains repeat across thousands of rows, yet every CSV line parsed or every
+ * setter call would otherwise keep its own `String` copy. Entity setters and
+ * constructors pass these values through the matching dictionary, which
+ * returns one shared instance per distinct value, so each distinct value is
+ * stored once no matter how many entities hold it. Lookups are a single
+ * concurrent hash probe.
+ *
+ * <p>
+ * Canonicalization can be switched off globally to compare heap footprints.
+ */
+public final class StringDictionary {
+    /** Student and internship majors. */
+    public static final StringDictionary MAJORS = new StringDictionary();
+    /** Company names of company representatives. */
+    public static final StringDictionary COMPANY_NAMES = new StringDictionary();
+    /** Departments of company representatives and career center staff. */
+    public static final StringDictionary DEPARTMENTS = new StringDictionary();
+    /** Career center staff roles. */
+    public static final StringDictionary ROLES = new StringDictionary();
+    /** Company representative positions. */
+    public static final StringDictionary POSITIONS = new StringDictionary();
+    /** Email domains (the part after the last {@code @}). */
+    public static final StringDictionary EMAIL_DOMAINS = new StringDictionary();
+
+    private static volatile boolean enabled = true;
+
+    private final Map<String, String> canonical = new ConcurrentHashMap<>();
+
+    private StringDictionary() {
+    }
+
+    /**
+     * Returns the shared instance equal to the given value, registering the
+     * value if it is new.
+     *
+     * @param value the value to canonicalize; may be null
+     * @return the canonical instance, or the value itself if null or if
+     *         canonicalization is disabled
+     */
+    public String canonicalize(String value) {
+        if (value == null || !enabled) {
+            return value;
+        }
+        String shared = canonical.putIfAbsent(value, value);
+        return (shared != null) ? shared : value;
+    }
+
+    /**
+     * Returns the number of distinct values in the dictionary.
+     *
+     * @return dictionary size
+     */
+    public int size() {
+        return canonical.size();
+    }
+
+    /**
+     * Enables or disables canonicalization for all dictionaries. Entities
+     * created while disabled keep their own copies.
+     *
+     * @param on true to share instances, false to keep every value as given
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Returns whether canonicalization is enabled.
+     *
+     * @return true if values are being shared
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -12,6 +12,9 @@ import java.util.List;
  * `InternshipApplication` objects and at most one accepted `Internship`.
  */
 public class Student extends User {
+    private static final KeyRegistry<Student> KEYS = new KeyRegistry<>();
+
+    private volatile int key = -1; // assigned on first use, see getKey()
     private int yearOfStudy;
     private String major;
     private Internship internshipAccepted; // if not null, internship accplied should be empty/null
@@ -30,11 +33,63 @@ public class Student extends User {
     public Student(String userid, String pw, String name, String email, int yearOfStudy, String major) {
         super(userid, pw, name, email);
         this.yearOfStudy = yearOfStudy;
-        this.major = major;
+        setMajor(major);
         this.internshipApplied = new ArrayList<InternshipApplication>();
         this.internshipAccepted = null;
     }
 
+    /**
+     * Returns the student's dense int key. The key is assigned when the data
+     * store adds the student, or on first use otherwise, in order starting at
+     * 0. Used in place of the String user id by compact applicant sets.
+     *
+     * @return the student key
+     */
+    public int getKey() {
+        int k = key;
+        return (k >= 0) ? k : assignKey();
+    }
+
+    private int assignKey() {
+        synchronized (KEYS) {
+            if (key < 0) {
+                key = KEYS.register(this);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Returns the student with the given key.
+     *
+     * @param key a key returned by {@link #getKey()}
+     * @return the `Student`, or null if no student has that key
+     */
+    public static Student forKey(int key) {
+        return KEYS.get(key);
+    }
+
+    /**
+     * Releases this student's key once it has been removed from the data store,
+     * so the key registry no longer keeps it alive. The student has no key
+     * afterwards; it gets a new one if used again.
+     */
+    public void releaseKey() {
+        synchronized (KEYS) {
+            KEYS.release(key, this);
+            key = -1;
+        }
+    }
+
+    /**
+     * Restarts student keys from 0 once every key has been released.
+     * Called by {@code DataStore.clear()} after its indexes have been
+     * replaced, so no index still holds an old key.
+     */
+    public static void resetKeys() {
+        KEYS.reset();
+    }
+
     /**
      * Sets the student's year of study.
      *
@@ -50,7 +105,7 @@ public class Student extends User {
      * @param major the major to set
      */
     public void setMajor(String major) {
-        this.major = major;
+        this.major = StringDictionary.MAJORS.canonicalize(major);
     }
 
     /**
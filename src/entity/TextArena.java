@@ -0,0 +1,159 @@
+package src.entity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only off-heap store for large, rarely read text.
+ *
+ * <p>
+ * Text is encoded as UTF-8, prefixed with its byte length, into direct
+ * `ByteBuffer` chunks outside the Java heap. Storing a value returns a `long`
+ * handle (chunk number in the high 32 bits, byte offset in the low 32 bits);
+ * the owner keeps only the handle and decodes the text when it is actually
+ * read. The heap therefore holds one primitive field per value instead of a
+ * `String` and its backing array, which keeps bulky text out of the old
+ * generation and out of every full collection.
+ *
+ * <p>
+ * Values are never moved or overwritten. Replacing or discarding a value
+ * leaves its bytes in place and only counts them as wasted. Once every stored
+ * value has been discarded, as when {@code DataStore.clear()} releases all
+ * internships, the arena drops its chunks and starts over, so clearing and
+ * reloading the store does not keep adding direct memory. Owners other than
+ * the data store, such as a column table, use an arena of their own, whose
+ * chunks are freed together with it. Appends are synchronized; reads are
+ * lock-free because stored bytes never change.
+ */
+public final class TextArena {
+    /** Internship descriptions. */
+    public static final TextArena DESCRIPTIONS = new TextArena(1 << 20);
+
+    /** Handle of a null value. */
+    public static final long NULL = -1L;
+
+    private final int chunkSize;
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private ByteBuffer current;
+    private int currentChunk;
+    private long usedBytes;
+    private long wastedBytes;
+    private long liveValues;
+
+    /**
+     * Creates an empty arena.
+     *
+     * @param chunkSize size in bytes of each direct buffer; longer values get
+     *                  a buffer of their own
+     */
+    public TextArena(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Encodes and stores a value.
+     *
+     * @param text the value; may be null
+     * @return the value's handle, or {@link #NULL} for null
+     */
+    public long store(String text) {
+        if (text == null) {
+            return NULL;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int size = Integer.BYTES + bytes.length;
+        synchronized (this) {
+            ByteBuffer target = current;
+            int chunk = currentChunk;
+            boolean fresh = target == null || target.remaining() < size;
+            if (fresh) {
+                target = ByteBuffer.allocateDirect(Math.max(chunkSize, size));
+                chunk = chunks.length;
+            }
+            int offset = target.position();
+            target.putInt(bytes.length).put(bytes);
+            if (fresh) {
+                // publish the chunk only after its bytes are written
+                ByteBuffer[] grown = Arrays.copyOf(chunks, chunk + 1);
+                grown[chunk] = target;
+                chunks = grown;
+                if (size < chunkSize) {
+                    current = target; // oversized values do not become the fill target
+                    currentChunk = chunk;
+                }
+            }
+            usedBytes += size;
+            liveValues++;
+            return ((long) chunk << 32) | offset;
+        }
+    }
+
+    /**
+     * Decodes a stored value.
+     *
+     * @param handle the handle returned by {@link #store(String)}
+     * @return the value, or null for {@link #NULL}
+     */
+    public String load(long handle) {
+        if (handle == NULL) {
+            return null;
+        }
+        ByteBuffer chunk = chunks[(int) (handle >>> 32)];
+        int offset = (int) handle;
+        byte[] bytes = new byte[chunk.getInt(offset)];
+        chunk.get(offset + Integer.BYTES, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Marks a stored value as no longer referenced. Discarding the last live
+     * value frees all chunks. Each handle must be discarded at most once.
+     *
+     * @param handle the value's handle
+     */
+    public synchronized void discard(long handle) {
+        if (handle == NULL) {
+            return;
+        }
+        wastedBytes += Integer.BYTES + chunks[(int) (handle >>> 32)].getInt((int) handle);
+        if (--liveValues == 0) {
+            chunks = new ByteBuffer[0];
+            current = null;
+            currentChunk = 0;
+            usedBytes = 0;
+            wastedBytes = 0;
+        }
+    }
+
+    /**
+     * Returns the bytes of values still referenced.
+     *
+     * @return live bytes
+     */
+    public synchronized long getLiveBytes() {
+        return usedBytes - wastedBytes;
+    }
+
+    /**
+     * Returns the bytes of replaced or discarded values.
+     *
+     * @return wasted bytes
+     */
+    public synchronized long getWastedBytes() {
+        return wastedBytes;
+    }
+
+    /**
+     * Returns the total off-heap capacity allocated so far.
+     *
+     * @return allocated bytes
+     */
+    public long getAllocatedBytes() {
+        long total = 0;
+        for (ByteBuffer chunk : chunks) {
+            total += chunk.capacity();
+        }
+        return total;
+    }
+}
@@ -11,7 +11,9 @@ abstract public class User {
    private String userID;
    private String password;
    private String name;
-   private String email;
+   private String emailLocal; // part before the last '@'
+   private String emailDomain; // shared via StringDictionary.EMAIL_DOMAINS; null if no '@'
+   private volatile CsvRowSource.Row<User> details; // deferred email and password; null once loaded
 
    /**
     * Constructs an empty User with default values.
@@ -31,7 +33,38 @@ abstract public class User {
       this.userID = userid;
       this.password = pw;
       this.name = name;
-      this.email = email;
+      setEmail(email);
+   }
+
+   /**
+    * Defers the email and password to a CSV row. They are read from the row
+    * the first time either is used.
+    *
+    * @param row the row this user was loaded from
+    */
+   public void deferDetails(CsvRowSource.Row<User> row) {this.details = row;}
+
+   /**
+    * Loads the deferred email and password now, if they have not been loaded
+    * yet.
+    */
+   public void hydrate() {
+      if (details == null) {
+         return;
+      }
+      synchronized (this) {
+         CsvRowSource.Row<User> row = details;
+         if (row == null) {
+            return;
+         }
+         details = null; // the hydrator goes through the setters below
+         try {
+            row.hydrate(this);
+         } catch (RuntimeException e) {
+            details = row;
+            throw e;
+         }
+      }
    }
 
    // Setter
@@ -48,7 +81,10 @@ abstract public class User {
     *
     * @param pw the password to set
     */
-   public void setPassword(String pw) {this.password = pw;}
+   public void setPassword(String pw) {
+      hydrate();
+      this.password = pw;
+   }
 
    /**
     * Sets the user's name.
@@ -58,11 +94,22 @@ abstract public class User {
    public void setName(String name) {this.name = name;}
 
    /**
-    * Sets the user's email address.
+    * Sets the user's email address. The domain is stored as a shared
+    * instance from {@link StringDictionary#EMAIL_DOMAINS}.
     *
     * @param email the email address to set
     */
-   public void setEmail(String email) {this.email = email;}
+   public void setEmail(String email) {
+      hydrate();
+      int at = (email != null) ? email.lastIndexOf('@') : -1;
+      if (at < 0) {
+         this.emailLocal = email;
+         this.emailDomain = null;
+      } else {
+         this.emailLocal = email.substring(0, at);
+         this.emailDomain = StringDictionary.EMAIL_DOMAINS.canonicalize(email.substring(at + 1));
+      }
+   }
 
    // Getter
 
@@ -78,7 +125,10 @@ abstract public class User {
     *
     * @return the password
     */
-   public String getPassword() {return this.password;}
+   public String getPassword() {
+      hydrate();
+      return this.password;
+   }
 
    /**
     * Gets the user's name.
@@ -92,7 +142,10 @@ abstract public class User {
     *
     * @return the email address
     */
-   public String getEmail() {return this.email;}
+   public String getEmail() {
+      hydrate();
+      return (emailDomain != null) ? emailLocal + "@" + emailDomain : emailLocal;
+   }
 
    /**
     * Returns a string representation of the User.
@@ -103,7 +156,7 @@ abstract public class User {
       return "User{" +
             "userID='" + userID + '\'' +
             ", name='" + name + '\'' +
-            ", email='" + email + '\'' +
+            ", email='" + getEmail() + '\'' +
             '}';
    }
 }
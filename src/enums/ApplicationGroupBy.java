@@ -0,0 +1,46 @@
+package src.enums;
+
+/**
+ * Enumeration representing the dimensions an application summary can be
+ * grouped by.
+ *
+ * <p>Application summaries count the applications matching an
+ * {@link src.report.ApplicationReportCriteria} per group, e.g. applications
+ * per student major or pending company decisions per representative.
+ */
+public enum ApplicationGroupBy {
+    /**
+     * Group by the applicant's major.
+     */
+    STUDENT_MAJOR,
+
+    /**
+     * Group by the company name of the internship.
+     */
+    COMPANY,
+
+    /**
+     * Group by the id of the company representative owning the internship.
+     */
+    COMPANY_REP,
+
+    /**
+     * Group by the id of the internship applied for.
+     */
+    INTERNSHIP,
+
+    /**
+     * Group by the company's decision on the application.
+     */
+    COMPANY_ACCEPT,
+
+    /**
+     * Group by the student's decision on the application.
+     */
+    STUDENT_ACCEPT,
+
+    /**
+     * Group by the withdrawal status of the application.
+     */
+    WITHDRAWAL_STATUS
+}
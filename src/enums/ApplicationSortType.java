@@ -0,0 +1,29 @@
+package src.enums;
+
+/**
+ * Enumeration representing sorting options for internship application reports.
+ *
+ * <p>This enum defines the fields by which application reports can be
+ * ordered. Text fields are compared case-insensitively.
+ */
+public enum ApplicationSortType {
+    /**
+     * Sort by application id in alphabetical order.
+     */
+    APPLICATION_ID,
+
+    /**
+     * Sort by applicant name in alphabetical order.
+     */
+    STUDENT,
+
+    /**
+     * Sort by company name of the internship in alphabetical order.
+     */
+    COMPANY,
+
+    /**
+     * Sort by internship title in alphabetical order.
+     */
+    INTERNSHIP
+}
@@ -0,0 +1,17 @@
+package src.enums;
+
+/**
+ * Enumeration representing the file formats a report can be exported to.
+ */
+public enum ExportFormat {
+    /**
+     * Comma-separated values with a header row. Fields containing commas,
+     * quotes or line breaks are quoted.
+     */
+    CSV,
+
+    /**
+     * A JSON array with one object per internship.
+     */
+    JSON
+}
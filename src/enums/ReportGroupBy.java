@@ -0,0 +1,30 @@
+package src.enums;
+
+/**
+ * Enumeration representing the dimensions a summary report can be grouped by.
+ *
+ * <p>Summary reports count the internships matching a
+ * {@link src.report.ReportCriteria} per group. Several dimensions can be
+ * combined, in which case each group is one distinct combination of values.
+ */
+public enum ReportGroupBy {
+    /**
+     * Group by the company name of the posting representative.
+     */
+    COMPANY,
+
+    /**
+     * Group by the major the internship is targeted at.
+     */
+    MAJOR,
+
+    /**
+     * Group by internship level.
+     */
+    LEVEL,
+
+    /**
+     * Group by internship approval status.
+     */
+    STATUS
+}
@@ -5,7 +5,9 @@ package src.enums;
  *
  * <p>This enum defines the available fields by which internship reports
  * can be sorted. Reports can be generated with results ordered by any
- * of these criteria.
+ * of these criteria, or by several of them in sequence (see
+ * {@link src.report.ReportCriteria#setSortTypes}), where later types
+ * break ties left by earlier ones.
  */
 public enum ReportSortType {
     /**
@@ -0,0 +1,20 @@
+package src.enums;
+
+/**
+ * Enumeration representing the order in which pending withdrawal requests are
+ * handed to career center staff.
+ */
+public enum WithdrawalOrder {
+    /**
+     * First in, first out. Requests are served in the order students
+     * submitted their withdrawal requests.
+     */
+    FIFO,
+
+    /**
+     * Oldest application first. Requests are served in the order the
+     * underlying applications were originally submitted, regardless of when
+     * withdrawal was requested.
+     */
+    OLDEST_FIRST
+}
@@ -0,0 +1,162 @@
+package src.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import src.entity.CompanyRepresentative;
+import src.entity.Internship;
+import src.entity.InternshipApplication;
+
+/**
+ * Reverse indexes from internships and company representatives to their
+ * applications.
+ *
+ * <p>
+ * Each internship and each representative maps to a primitive set of the keys
+ * of its live applications, so the applications of one internship or one
+ * representative are found in O(k) instead of by scanning every application,
+ * and adding or removing an application is O(1). The sets are held in arrays
+ * indexed by the internship or representative key, so finding a set is a
+ * single array read. Students already keep their own applications in
+ * {@link src.entity.Student#getInternshipApplied()}.
+ *
+ * <p>
+ * Application keys are assigned in submission order, so applications are
+ * returned oldest first.
+ */
+public class ApplicationIndex {
+    private IntSet[] byInternship = new IntSet[16];
+    private IntSet[] byRep = new IntSet[16];
+
+    /**
+     * Indexes an application under its internship and representative.
+     *
+     * @param app the application to add
+     */
+    public synchronized void add(InternshipApplication app) {
+        int internship = app.getInternship().getKey();
+        int rep = app.getCompanyRep().getKey();
+        byInternship = ensure(byInternship, internship);
+        byRep = ensure(byRep, rep);
+        add(byInternship, internship, app.getKey());
+        add(byRep, rep, app.getKey());
+    }
+
+    /**
+     * Removes an application from the index.
+     *
+     * @param app the application to remove
+     */
+    public synchronized void remove(InternshipApplication app) {
+        removeFrom(byInternship, app.getInternship().getKey(), app.getKey());
+        removeFrom(byRep, app.getCompanyRep().getKey(), app.getKey());
+    }
+
+    /**
+     * Returns the applications for an internship, oldest first.
+     *
+     * @param internship the internship
+     * @return a copy of its applications; empty if there are none
+     */
+    public synchronized List<InternshipApplication> forInternship(Internship internship) {
+        return resolve(get(byInternship, internship.getKey()));
+    }
+
+    /**
+     * Returns the applications addressed to a company representative, oldest
+     * first.
+     *
+     * @param rep the company representative
+     * @return a copy of the representative's applications; empty if there are
+     *         none
+     */
+    public synchronized List<InternshipApplication> forRep(CompanyRepresentative rep) {
+        return resolve(get(byRep, rep.getKey()));
+    }
+
+    /**
+     * Returns the number of applications for an internship.
+     *
+     * @param internship the internship
+     * @return its application count
+     */
+    public synchronized int countForInternship(Internship internship) {
+        IntSet apps = get(byInternship, internship.getKey());
+        return (apps != null) ? apps.size() : 0;
+    }
+
+    /**
+     * Returns the set filed under a key.
+     *
+     * @param sets the index array
+     * @param key  the internship or representative key
+     * @return the set, or null if there is none
+     */
+    private static IntSet get(IntSet[] sets, int key) {
+        return (key < sets.length) ? sets[key] : null;
+    }
+
+    /**
+     * Grows an index array so that it can hold a key.
+     *
+     * @param sets the index array
+     * @param key  the key that must fit
+     * @return the same array, or a larger copy
+     */
+    private static IntSet[] ensure(IntSet[] sets, int key) {
+        if (key < sets.length) {
+            return sets;
+        }
+        return Arrays.copyOf(sets, Math.max(key + 1, sets.length * 2));
+    }
+
+    /**
+     * Adds an application key to one key's set, creating the set if needed.
+     *
+     * @param sets the index array, already large enough
+     * @param key  the key the application is filed under
+     * @param app  the application key
+     */
+    private static void add(IntSet[] sets, int key, int app) {
+        if (sets[key] == null) {
+            sets[key] = new IntSet();
+        }
+        sets[key].add(app);
+    }
+
+    /**
+     * Removes an application key from one key's set, dropping the set when
+     * empty.
+     *
+     * @param sets the index array
+     * @param key  the key the application is filed under
+     * @param app  the application key
+     */
+    private static void removeFrom(IntSet[] sets, int key, int app) {
+        IntSet apps = get(sets, key);
+        if (apps != null) {
+            apps.remove(app);
+            if (apps.isEmpty()) {
+                sets[key] = null;
+            }
+        }
+    }
+
+    /**
+     * Resolves a set of application keys to applications, oldest first.
+     *
+     * @param apps the application keys; may be null
+     * @return the applications; empty if there are none
+     */
+    private static List<InternshipApplication> resolve(IntSet apps) {
+        if (apps == null) {
+            return new ArrayList<>();
+        }
+        int[] keys = apps.toArray();
+        List<InternshipApplication> result = new ArrayList<>(keys.length);
+        for (int key : keys) {
+            result.add(InternshipApplication.forKey(key));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,244 @@
+package src.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import src.entity.Internship;
+
+/**
+ * Index over internship application windows (open date to close date).
+ *
+ * <p>
+ * Windows are kept in a treap, a randomly balanced binary search tree ordered
+ * by open epoch day, where every node also records the latest and earliest
+ * close day in its subtree. A query walks only the open-day range it asks for
+ * and skips every subtree whose close days cannot match: "open on D" skips
+ * subtrees closing before D, "closes on or before Y" skips subtrees closing
+ * after Y, and "opens on or after X" does not enter the part of the tree that
+ * opens before X. A subtree is only entered if it holds a match or lies on the
+ * boundary of the open-day range, so a stabbing query, a range query on either
+ * date, or both range bounds together cost O(log n) plus O(log n) per match,
+ * however long the windows are. Adding, updating and removing a window costs
+ * O(log n).
+ *
+ * <p>
+ * Nodes hold internship keys ({@link Internship#getKey()}). Keys are assigned
+ * in creation order, so sorting the matching keys returns results in catalog
+ * order.
+ */
+public class DateWindowIndex {
+    private final Map<Integer, Node> nodes = new HashMap<>();
+    private final Random priorities = new Random();
+    private Node root;
+
+    /**
+     * Indexes an internship's window, replacing any previous entry for it.
+     * Internships without both dates are not indexed.
+     *
+     * @param internship the internship to index
+     */
+    public synchronized void add(Internship internship) {
+        removeWindow(internship);
+        if (internship.getOpenDate() == null || internship.getCloseDate() == null) {
+            return;
+        }
+        Node node = new Node(internship.getOpenDate().toEpochDay(), internship.getCloseDate().toEpochDay(),
+                internship.getKey(), priorities.nextInt());
+        nodes.put(node.key, node);
+        Node[] parts = new Node[2];
+        split(root, node.open, node.key, false, parts);
+        root = merge(merge(parts[0], node), parts[1]);
+    }
+
+    /**
+     * Re-indexes an internship after its dates changed. The internship keeps
+     * its original position in catalog order.
+     *
+     * @param internship the edited internship
+     */
+    public synchronized void update(Internship internship) {
+        add(internship);
+    }
+
+    /**
+     * Removes an internship from the index.
+     *
+     * @param internship the internship to remove
+     */
+    public synchronized void remove(Internship internship) {
+        removeWindow(internship);
+    }
+
+    /**
+     * Returns the internships matching all of the given date conditions, in
+     * the order they were added. At least one condition must be set.
+     *
+     * @param openOn     if set, the window must contain this date (inclusive)
+     * @param opensFrom  if set, the open date must be on or after this date
+     * @param closesBy   if set, the close date must be on or before this date
+     * @return the matching internships
+     */
+    public synchronized List<Internship> find(LocalDate openOn, LocalDate opensFrom, LocalDate closesBy) {
+        Query q = new Query();
+        q.openFrom = (opensFrom != null) ? opensFrom.toEpochDay() : Long.MIN_VALUE;
+        q.openTo = (openOn != null) ? openOn.toEpochDay() : Long.MAX_VALUE;
+        q.closeFrom = (openOn != null) ? openOn.toEpochDay() : Long.MIN_VALUE;
+        q.closeTo = (closesBy != null) ? closesBy.toEpochDay() : Long.MAX_VALUE;
+        collect(root, q);
+
+        Arrays.sort(q.keys, 0, q.n);
+        List<Internship> matches = new ArrayList<>(q.n);
+        for (int i = 0; i < q.n; i++) {
+            matches.add(Internship.forKey(q.keys[i]));
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the keys of the matching windows in a subtree to a query's result.
+     *
+     * @param t the subtree
+     * @param q the query
+     */
+    private static void collect(Node t, Query q) {
+        if (t == null || t.maxClose < q.closeFrom || t.minClose > q.closeTo) {
+            return;
+        }
+        if (t.open >= q.openFrom) {
+            collect(t.left, q);
+        }
+        if (t.open >= q.openFrom && t.open <= q.openTo && t.close >= q.closeFrom && t.close <= q.closeTo) {
+            if (q.n == q.keys.length) {
+                q.keys = Arrays.copyOf(q.keys, q.n * 2);
+            }
+            q.keys[q.n++] = t.key;
+        }
+        if (t.open <= q.openTo) {
+            collect(t.right, q);
+        }
+    }
+
+    /**
+     * Drops the currently indexed window of an internship.
+     *
+     * @param internship the internship whose window is removed
+     */
+    private void removeWindow(Internship internship) {
+        Node node = nodes.remove(internship.getKey());
+        if (node == null) {
+            return;
+        }
+        Node[] before = new Node[2];
+        Node[] after = new Node[2];
+        split(root, node.open, node.key, false, before);
+        split(before[1], node.open, node.key, true, after);
+        root = merge(before[0], after[1]);
+    }
+
+    /**
+     * Splits a subtree into the nodes ordered before a position, or at it as
+     * well if inclusive, and the rest.
+     *
+     * @param t         the subtree
+     * @param open      open day of the position
+     * @param key       internship key of the position, breaking ties on open day
+     * @param inclusive whether a node at the position goes to the first part
+     * @param out       receives the first part at index 0 and the rest at 1
+     */
+    private static void split(Node t, long open, int key, boolean inclusive, Node[] out) {
+        if (t == null) {
+            out[0] = null;
+            out[1] = null;
+            return;
+        }
+        int c = (t.open != open) ? Long.compare(t.open, open) : Integer.compare(t.key, key);
+        if (c < 0 || (inclusive && c == 0)) {
+            split(t.right, open, key, inclusive, out);
+            t.right = out[0];
+            t.update();
+            out[0] = t;
+        } else {
+            split(t.left, open, key, inclusive, out);
+            t.left = out[1];
+            t.update();
+            out[1] = t;
+        }
+    }
+
+    /**
+     * Joins two subtrees where every node of the first is ordered before every
+     * node of the second.
+     *
+     * @param a the first subtree
+     * @param b the second subtree
+     * @return the joined tree
+     */
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            a.update();
+            return a;
+        }
+        b.left = merge(a, b.left);
+        b.update();
+        return b;
+    }
+
+    /**
+     * One indexed window, ordered by open day and then internship key.
+     */
+    private static final class Node {
+        final long open;
+        final long close;
+        final int key;
+        final int priority;
+        Node left;
+        Node right;
+        long maxClose; // latest close day in this subtree
+        long minClose; // earliest close day in this subtree
+
+        Node(long open, long close, int key, int priority) {
+            this.open = open;
+            this.close = close;
+            this.key = key;
+            this.priority = priority;
+            this.maxClose = close;
+            this.minClose = close;
+        }
+
+        void update() {
+            maxClose = close;
+            minClose = close;
+            if (left != null) {
+                maxClose = Math.max(maxClose, left.maxClose);
+                minClose = Math.min(minClose, left.minClose);
+            }
+            if (right != null) {
+                maxClose = Math.max(maxClose, right.maxClose);
+                minClose = Math.min(minClose, right.minClose);
+            }
+        }
+    }
+
+    /**
+     * Bounds of a query, inclusive, and the keys matched so far.
+     */
+    private static final class Query {
+        long openFrom;
+        long openTo;
+        long closeFrom;
+        long closeTo;
+        int[] keys = new int[16];
+        int n;
+    }
+}
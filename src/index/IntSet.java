@@ -0,0 +1,307 @@
+package src.index;
+
+import java.util.Arrays;
+
+/**
+ * Compact set of non-negative ints.
+ *
+ * <p>
+ * Small sets are open-addressing hash tables of primitive ints with linear
+ * probing (about 4 to 5 bytes per element, no boxing). Removal shifts
+ * following entries back instead of leaving tombstones, so the table never
+ * degrades. When a set becomes dense relative to its largest key, i.e. a
+ * bitmap covering 0..max would be no larger than the hash table, the set
+ * switches to a bitmap (one bit per possible key). Adding a key beyond the
+ * bitmap switches back to the hash table if the grown bitmap would be larger
+ * than the table, so one large key never inflates a small set. All operations
+ * are O(1) in either representation. An empty set holds no arrays at all.
+ *
+ * <p>
+ * Not thread-safe.
+ */
+public class IntSet {
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 4;
+
+    private int[] table; // hash mode; null when empty or in bitmap mode
+    private long[] bits; // bitmap mode
+    private int size;
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value, which must not be negative
+     * @return true if the value was not already present
+     */
+    public boolean add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        if (bits != null) {
+            int word = value >>> 6;
+            if (word >= bits.length) {
+                int capacity = tableCapacity(size + 1);
+                if ((long) (word + 1) * 2 > capacity) {
+                    // A bitmap reaching this key would be larger than a hash table
+                    toTable(capacity);
+                    return add(value);
+                }
+                bits = Arrays.copyOf(bits, Math.max(word + 1, Math.min(bits.length * 2, capacity / 2)));
+            }
+            long mask = 1L << value;
+            if ((bits[word] & mask) != 0) {
+                return false;
+            }
+            bits[word] |= mask;
+            size++;
+            return true;
+        }
+        if (table == null) {
+            table = newTable(MIN_CAPACITY);
+        }
+        int mask = table.length - 1;
+        int i = slot(value, mask);
+        while (table[i] != EMPTY) {
+            if (table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+        size++;
+        if (size * 4 > table.length * 3) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param value the value
+     * @return true if the value was present
+     */
+    public boolean remove(int value) {
+        if (value < 0 || size == 0) {
+            return false;
+        }
+        if (bits != null) {
+            int word = value >>> 6;
+            long mask = 1L << value;
+            if (word >= bits.length || (bits[word] & mask) == 0) {
+                return false;
+            }
+            bits[word] &= ~mask;
+            if (--size == 0) {
+                bits = null;
+            }
+            return true;
+        }
+        int mask = table.length - 1;
+        int i = slot(value, mask);
+        while (table[i] != EMPTY) {
+            if (table[i] == value) {
+                deleteAt(i, mask);
+                if (--size == 0) {
+                    table = null;
+                }
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a value is present.
+     *
+     * @param value the value
+     * @return true if present
+     */
+    public boolean contains(int value) {
+        if (value < 0 || size == 0) {
+            return false;
+        }
+        if (bits != null) {
+            int word = value >>> 6;
+            return word < bits.length && (bits[word] & (1L << value)) != 0;
+        }
+        int mask = table.length - 1;
+        int i = slot(value, mask);
+        while (table[i] != EMPTY) {
+            if (table[i] == value) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return set size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the values in ascending order.
+     *
+     * @return a new array of the values
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int n = 0;
+        if (bits != null) {
+            for (int w = 0; w < bits.length; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    values[n++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+        } else if (table != null) {
+            for (int v : table) {
+                if (v != EMPTY) {
+                    values[n++] = v;
+                }
+            }
+            Arrays.sort(values);
+        }
+        return values;
+    }
+
+    /**
+     * Doubles the hash table, or converts to a bitmap if that is no larger.
+     */
+    private void grow() {
+        int max = 0;
+        for (int v : table) {
+            max = Math.max(max, v);
+        }
+        int newCapacity = table.length * 2;
+        int words = (max >>> 6) + 1;
+        if (words * 2 <= newCapacity) {
+            long[] bitmap = new long[words];
+            for (int v : table) {
+                if (v != EMPTY) {
+                    bitmap[v >>> 6] |= 1L << v;
+                }
+            }
+            bits = bitmap;
+            table = null;
+            return;
+        }
+        int[] old = table;
+        table = newTable(newCapacity);
+        int mask = newCapacity - 1;
+        for (int v : old) {
+            if (v != EMPTY) {
+                int i = slot(v, mask);
+                while (table[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = v;
+            }
+        }
+    }
+
+    /**
+     * Converts the bitmap back to a hash table.
+     *
+     * @param capacity power-of-two capacity of the table
+     */
+    private void toTable(int capacity) {
+        int[] t = newTable(capacity);
+        int mask = capacity - 1;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                int v = (w << 6) + Long.numberOfTrailingZeros(word);
+                int i = slot(v, mask);
+                while (t[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                t[i] = v;
+                word &= word - 1;
+            }
+        }
+        table = t;
+        bits = null;
+    }
+
+    /**
+     * Returns the hash table capacity that holds the given number of values
+     * within the load factor.
+     *
+     * @param values number of values
+     * @return power-of-two capacity
+     */
+    private static int tableCapacity(int values) {
+        int capacity = MIN_CAPACITY;
+        while (values * 4 > capacity * 3) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Empties slot {@code gap} and shifts back later entries of the same probe
+     * run whose home slot is not between the gap and their current slot.
+     *
+     * @param gap  the slot being emptied
+     * @param mask table length minus one
+     */
+    private void deleteAt(int gap, int mask) {
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            int v = table[j];
+            if (v == EMPTY) {
+                break;
+            }
+            int home = slot(v, mask);
+            boolean movable = (j > gap) ? (home <= gap || home > j) : (home <= gap && home > j);
+            if (movable) {
+                table[gap] = v;
+                gap = j;
+            }
+        }
+        table[gap] = EMPTY;
+    }
+
+    /**
+     * Returns the home slot of a value.
+     *
+     * @param value the value
+     * @param mask  table length minus one
+     * @return the slot index
+     */
+    private static int slot(int value, int mask) {
+        int h = value * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Allocates an empty hash table.
+     *
+     * @param capacity power-of-two capacity
+     * @return the table filled with the empty marker
+     */
+    private static int[] newTable(int capacity) {
+        int[] t = new int[capacity];
+        Arrays.fill(t, EMPTY);
+        return t;
+    }
+}
@@ -0,0 +1,319 @@
+package src.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import src.entity.Internship;
+
+/**
+ * Inverted index over internship titles and descriptions for keyword search.
+ *
+ * <p>
+ * Text is split into lower-case alphanumeric tokens. For every token the index
+ * keeps a postings list mapping each internship that contains it to the token
+ * positions within that internship (title first, then description, with a gap
+ * so phrases never span the two fields). The vocabulary is sorted, which makes
+ * prefix queries a range scan.
+ *
+ * <p>
+ * Queries are a space-separated list of clauses that must all match:
+ * <ul>
+ * <li>{@code java} - a single term</li>
+ * <li>{@code dev*} - any term starting with the prefix</li>
+ * <li>{@code "data analyst"} - the terms in this exact sequence</li>
+ * </ul>
+ * Matches are ranked with BM25 over the query terms. The index is updated
+ * incrementally by {@link #add}, {@link #update} and {@link #remove}.
+ */
+public class InternshipSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final TreeMap<String, Map<Internship, int[]>> postings = new TreeMap<>();
+    private final Map<Internship, String[]> documentTerms = new HashMap<>();
+    private final Map<Internship, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Indexes a new internship. Indexing an internship that is already present
+     * replaces its previous entry.
+     *
+     * @param internship the internship to index
+     */
+    public synchronized void add(Internship internship) {
+        add(internship, internship.getDescription());
+    }
+
+    /**
+     * Indexes a new internship using a description supplied by the caller, so
+     * that a lazily loaded internship can be indexed without loading its
+     * description. Indexing an internship that is already present replaces its
+     * previous entry.
+     *
+     * @param internship  the internship to index
+     * @param description the internship's description
+     */
+    public synchronized void add(Internship internship, String description) {
+        if (documentTerms.containsKey(internship)) {
+            remove(internship);
+        }
+        List<String> titleTokens = tokenize(internship.getTitle());
+        List<String> descriptionTokens = tokenize(description);
+
+        Map<String, List<Integer>> positions = new LinkedHashMap<>();
+        int pos = 0;
+        for (String t : titleTokens) {
+            positions.computeIfAbsent(t, k -> new ArrayList<>()).add(pos++);
+        }
+        pos++; // gap between title and description
+        for (String t : descriptionTokens) {
+            positions.computeIfAbsent(t, k -> new ArrayList<>()).add(pos++);
+        }
+
+        for (Map.Entry<String, List<Integer>> e : positions.entrySet()) {
+            int[] p = e.getValue().stream().mapToInt(Integer::intValue).toArray();
+            postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(internship, p);
+        }
+        int length = titleTokens.size() + descriptionTokens.size();
+        documentTerms.put(internship, positions.keySet().toArray(new String[0]));
+        documentLengths.put(internship, length);
+        totalLength += length;
+    }
+
+    /**
+     * Re-indexes an internship after its title or description changed.
+     *
+     * @param internship the edited internship
+     */
+    public synchronized void update(Internship internship) {
+        add(internship);
+    }
+
+    /**
+     * Removes an internship from the index. Does nothing if it is not indexed.
+     *
+     * @param internship the internship to remove
+     */
+    public synchronized void remove(Internship internship) {
+        String[] terms = documentTerms.remove(internship);
+        if (terms == null) {
+            return;
+        }
+        for (String t : terms) {
+            Map<Internship, int[]> list = postings.get(t);
+            if (list != null) {
+                list.remove(internship);
+                if (list.isEmpty()) {
+                    postings.remove(t);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(internship);
+    }
+
+    /**
+     * Returns the number of indexed internships.
+     *
+     * @return indexed document count
+     */
+    public synchronized int size() {
+        return documentTerms.size();
+    }
+
+    /**
+     * Searches the index and returns matching internships, best match first.
+     * Internships with equal scores are ordered by title.
+     *
+     * @param query the query string (terms, {@code prefix*} and {@code "phrases"})
+     * @return ranked list of matching internships; empty if the query has no terms
+     */
+    public synchronized List<Internship> search(String query) {
+        List<List<String>> phrases = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        parse(query, phrases, prefixes);
+        if (phrases.isEmpty() && prefixes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Internship, Double> scores = null;
+        for (List<String> phrase : phrases) {
+            Map<Internship, Double> clause = scorePhrase(phrase);
+            scores = intersect(scores, clause);
+        }
+        for (String prefix : prefixes) {
+            Map<Internship, Double> clause = new HashMap<>();
+            for (Map.Entry<String, Map<Internship, int[]>> e : postings
+                    .subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+                addScores(clause, e.getValue(), e.getValue().keySet());
+            }
+            scores = intersect(scores, clause);
+        }
+
+        List<Map.Entry<Internship, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort((a, b) -> {
+            int cmp = Double.compare(b.getValue(), a.getValue());
+            return (cmp != 0) ? cmp : a.getKey().getTitleSortKey().compareTo(b.getKey().getTitleSortKey());
+        });
+        List<Internship> result = new ArrayList<>(ranked.size());
+        for (Map.Entry<Internship, Double> e : ranked) {
+            result.add(e.getKey());
+        }
+        return result;
+    }
+
+    /**
+     * Scores the internships containing all terms of a phrase in sequence. A
+     * single-term phrase is a plain term query.
+     *
+     * @param phrase the terms of the phrase
+     * @return BM25 scores of the matching internships
+     */
+    private Map<Internship, Double> scorePhrase(List<String> phrase) {
+        Map<Internship, Double> scores = new HashMap<>();
+        Map<Internship, int[]> first = postings.get(phrase.get(0));
+        if (first == null) {
+            return scores;
+        }
+        List<Internship> matches = new ArrayList<>();
+        for (Map.Entry<Internship, int[]> doc : first.entrySet()) {
+            if (containsPhrase(doc.getKey(), doc.getValue(), phrase)) {
+                matches.add(doc.getKey());
+            }
+        }
+        for (String term : phrase) {
+            addScores(scores, postings.get(term), matches);
+        }
+        return scores;
+    }
+
+    /**
+     * Checks whether a phrase starts at any of the given positions of its
+     * first term.
+     *
+     * @param doc            the internship being checked
+     * @param firstPositions positions of the first phrase term in the internship
+     * @param phrase         the phrase terms
+     * @return true if all terms follow each other at consecutive positions
+     */
+    private boolean containsPhrase(Internship doc, int[] firstPositions, List<String> phrase) {
+        if (phrase.size() == 1) {
+            return true;
+        }
+        int[][] rest = new int[phrase.size() - 1][];
+        for (int t = 1; t < phrase.size(); t++) {
+            Map<Internship, int[]> list = postings.get(phrase.get(t));
+            rest[t - 1] = (list == null) ? null : list.get(doc);
+            if (rest[t - 1] == null) {
+                return false;
+            }
+        }
+        for (int start : firstPositions) {
+            boolean all = true;
+            for (int t = 0; t < rest.length && all; t++) {
+                all = Arrays.binarySearch(rest[t], start + t + 1) >= 0;
+            }
+            if (all) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the BM25 contribution of one term to the scores of the given
+     * internships.
+     *
+     * @param scores  scores to add to
+     * @param list    postings list of the term
+     * @param targets internships to score
+     */
+    private void addScores(Map<Internship, Double> scores, Map<Internship, int[]> list,
+            Iterable<Internship> targets) {
+        int n = documentTerms.size();
+        double avgLength = (n == 0) ? 1 : Math.max(1.0, (double) totalLength / n);
+        double idf = Math.log(1 + (n - list.size() + 0.5) / (list.size() + 0.5));
+        for (Internship doc : targets) {
+            int tf = list.get(doc).length;
+            double norm = K1 * (1 - B + B * documentLengths.get(doc) / avgLength);
+            scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+        }
+    }
+
+    /**
+     * Keeps only internships present in both score maps, summing their scores.
+     *
+     * @param acc    scores so far, or null for the first clause
+     * @param clause scores of the next clause
+     * @return the combined scores
+     */
+    private Map<Internship, Double> intersect(Map<Internship, Double> acc, Map<Internship, Double> clause) {
+        if (acc == null) {
+            return clause;
+        }
+        acc.keySet().retainAll(clause.keySet());
+        acc.replaceAll((doc, score) -> score + clause.get(doc));
+        return acc;
+    }
+
+    /**
+     * Splits a query into phrase clauses (including single terms) and prefix
+     * clauses.
+     *
+     * @param query    the raw query
+     * @param phrases  receives phrase and term clauses
+     * @param prefixes receives prefix clauses
+     */
+    private static void parse(String query, List<List<String>> phrases, List<String> prefixes) {
+        if (query == null) {
+            return;
+        }
+        String[] quoted = query.split("\"", -1);
+        for (int q = 0; q < quoted.length; q++) {
+            if (q % 2 == 1) { // inside quotes
+                List<String> phrase = tokenize(quoted[q]);
+                if (!phrase.isEmpty()) phrases.add(phrase);
+                continue;
+            }
+            for (String word : quoted[q].trim().split("\\s+")) {
+                if (word.endsWith("*")) {
+                    List<String> tokens = tokenize(word.substring(0, word.length() - 1));
+                    if (tokens.size() == 1) {
+                        prefixes.add(tokens.get(0));
+                        continue;
+                    }
+                }
+                for (String t : tokenize(word)) {
+                    phrases.add(List.of(t));
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits text into lower-case alphanumeric tokens.
+     *
+     * @param text the text to split, may be null
+     * @return the tokens in order
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,102 @@
+package src.index;
+
+import java.util.Arrays;
+
+/**
+ * Compact set of non-negative ints that remembers the order values were added.
+ *
+ * <p>
+ * Membership is an {@link IntSet}, so {@link #contains(int)} and the duplicate
+ * check in {@link #add(int)} are O(1). The values themselves are kept in a
+ * dense int array in insertion order, which {@link #toArray()} returns as is.
+ * Removing a value closes its gap in that array, which is O(n); the sets this
+ * is meant for, such as the applicants of one internship, are small. An empty
+ * set holds no arrays at all.
+ *
+ * <p>
+ * Not thread-safe.
+ */
+public class OrderedIntSet {
+    private final IntSet members = new IntSet();
+    private int[] order; // null when empty
+
+    /**
+     * Adds a value after the values already present.
+     *
+     * @param value the value, which must not be negative
+     * @return true if the value was not already present
+     */
+    public boolean add(int value) {
+        if (!members.add(value)) {
+            return false;
+        }
+        int n = members.size() - 1;
+        if (order == null) {
+            order = new int[4];
+        } else if (n == order.length) {
+            order = Arrays.copyOf(order, n * 2);
+        }
+        order[n] = value;
+        return true;
+    }
+
+    /**
+     * Removes a value, keeping the order of the others.
+     *
+     * @param value the value
+     * @return true if the value was present
+     */
+    public boolean remove(int value) {
+        if (!members.remove(value)) {
+            return false;
+        }
+        int n = members.size();
+        if (n == 0) {
+            order = null;
+            return true;
+        }
+        int i = 0;
+        while (order[i] != value) {
+            i++;
+        }
+        System.arraycopy(order, i + 1, order, i, n - i);
+        return true;
+    }
+
+    /**
+     * Returns whether a value is present.
+     *
+     * @param value the value
+     * @return true if present
+     */
+    public boolean contains(int value) {
+        return members.contains(value);
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return set size
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    /**
+     * Returns the values in the order they were added.
+     *
+     * @return a new array of the values
+     */
+    public int[] toArray() {
+        return (order == null) ? new int[0] : Arrays.copyOf(order, members.size());
+    }
+}
@@ -0,0 +1,254 @@
+package src.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import src.entity.CompanyRepresentative;
+import src.entity.Internship;
+import src.entity.InternshipApplication;
+import src.enums.CompanyApprovalStatus;
+import src.enums.InternshipStatus;
+import src.enums.WithdrawalOrder;
+
+/**
+ * Incrementally maintained counters and work queues for the career center
+ * staff screens.
+ *
+ * <p>
+ * Instead of scanning every representative, internship and application to find
+ * the pending ones, the dashboard keeps insertion-ordered sets of pending
+ * company representatives and pending internships, reads pending withdrawals
+ * from the shared {@link WithdrawalQueue} and application counts from the
+ * {@link ApplicationIndex}, and keeps the open slots of approved internships
+ * per company. Every mutation reports the changed entity and
+ * the dashboard re-derives only that entity's contribution, so updates, counts
+ * and taking the next pending item are all O(1).
+ *
+ * <p>
+ * The data store reports additions and removals; controllers report in-place
+ * status changes.
+ */
+public class StaffDashboard {
+    private final LinkedHashSet<CompanyRepresentative> pendingReps = new LinkedHashSet<>();
+    private final LinkedHashSet<Internship> pendingInternships = new LinkedHashSet<>();
+    private final Map<String, Long> openSlotsByCompany = new HashMap<>();
+    private final Map<Internship, Integer> slotContributions = new HashMap<>();
+    private final WithdrawalQueue withdrawals;
+    private final ApplicationIndex applications;
+    private long totalOpenSlots;
+
+    /**
+     * Creates a dashboard that reports pending withdrawals and application
+     * counts from the given shared structures.
+     *
+     * @param withdrawals  the queue of pending withdrawal requests
+     * @param applications the reverse index of applications
+     */
+    public StaffDashboard(WithdrawalQueue withdrawals, ApplicationIndex applications) {
+        this.withdrawals = withdrawals;
+        this.applications = applications;
+    }
+
+    /**
+     * Records the current approval status of a company representative.
+     *
+     * @param rep the added or changed representative
+     */
+    public synchronized void repChanged(CompanyRepresentative rep) {
+        if (rep.getApproval() == CompanyApprovalStatus.PENDING) {
+            pendingReps.add(rep);
+        } else {
+            pendingReps.remove(rep);
+        }
+    }
+
+    /**
+     * Forgets a removed company representative.
+     *
+     * @param rep the removed representative
+     */
+    public synchronized void repRemoved(CompanyRepresentative rep) {
+        pendingReps.remove(rep);
+    }
+
+    /**
+     * Records the current status and remaining slots of an internship.
+     *
+     * @param internship the added or changed internship
+     */
+    public synchronized void internshipChanged(Internship internship) {
+        if (internship.getStatus() == InternshipStatus.PENDING) {
+            pendingInternships.add(internship);
+        } else {
+            pendingInternships.remove(internship);
+        }
+        int slots = (internship.getStatus() == InternshipStatus.APPROVED)
+                ? Math.max(internship.getNumberOfSlotsLeft(), 0)
+                : 0;
+        setSlotContribution(internship, slots);
+    }
+
+    /**
+     * Forgets a removed internship.
+     *
+     * @param internship the removed internship
+     */
+    public synchronized void internshipRemoved(Internship internship) {
+        pendingInternships.remove(internship);
+        setSlotContribution(internship, 0);
+    }
+
+    /**
+     * Returns the number of company representatives awaiting approval.
+     *
+     * @return pending representative count
+     */
+    public synchronized int getPendingRepCount() {
+        return pendingReps.size();
+    }
+
+    /**
+     * Returns the number of internships awaiting approval.
+     *
+     * @return pending internship count
+     */
+    public synchronized int getPendingInternshipCount() {
+        return pendingInternships.size();
+    }
+
+    /**
+     * Returns the number of applications with a pending withdrawal request.
+     *
+     * @return pending withdrawal count
+     */
+    public int getPendingWithdrawalCount() {
+        return withdrawals.size();
+    }
+
+    /**
+     * Returns the longest-waiting company representative awaiting approval.
+     *
+     * @return the next pending representative, or null if there is none
+     */
+    public synchronized CompanyRepresentative nextPendingRep() {
+        return first(pendingReps);
+    }
+
+    /**
+     * Returns the longest-waiting internship awaiting approval.
+     *
+     * @return the next pending internship, or null if there is none
+     */
+    public synchronized Internship nextPendingInternship() {
+        return first(pendingInternships);
+    }
+
+    /**
+     * Returns the next pending withdrawal request in the given order.
+     *
+     * @param order FIFO or oldest-first
+     * @return the next pending withdrawal, or null if there is none
+     */
+    public InternshipApplication nextPendingWithdrawal(WithdrawalOrder order) {
+        return withdrawals.peek(order);
+    }
+
+    /**
+     * Returns the company representatives awaiting approval, longest-waiting
+     * first.
+     *
+     * @return a copy of the pending representatives
+     */
+    public synchronized List<CompanyRepresentative> getPendingReps() {
+        return new ArrayList<>(pendingReps);
+    }
+
+    /**
+     * Returns the internships awaiting approval, longest-waiting first.
+     *
+     * @return a copy of the pending internships
+     */
+    public synchronized List<Internship> getPendingInternships() {
+        return new ArrayList<>(pendingInternships);
+    }
+
+    /**
+     * Returns the applications with a pending withdrawal request in the given
+     * order.
+     *
+     * @param order FIFO or oldest-first
+     * @return a copy of the pending withdrawals
+     */
+    public List<InternshipApplication> getPendingWithdrawals(WithdrawalOrder order) {
+        return withdrawals.toList(order);
+    }
+
+    /**
+     * Returns the remaining slots over all approved internships of a company.
+     *
+     * @param companyName the company name
+     * @return open slots of the company
+     */
+    public synchronized long getOpenSlots(String companyName) {
+        return openSlotsByCompany.getOrDefault(companyName, 0L);
+    }
+
+    /**
+     * Returns the remaining slots of approved internships per company.
+     *
+     * @return a copy of the company name to open slots map
+     */
+    public synchronized Map<String, Long> getOpenSlotsByCompany() {
+        return new HashMap<>(openSlotsByCompany);
+    }
+
+    /**
+     * Returns the remaining slots over all approved internships.
+     *
+     * @return total open slots
+     */
+    public synchronized long getTotalOpenSlots() {
+        return totalOpenSlots;
+    }
+
+    /**
+     * Returns the number of live applications for an internship.
+     *
+     * @param internship the internship
+     * @return its application count
+     */
+    public int getApplicationCount(Internship internship) {
+        return applications.countForInternship(internship);
+    }
+
+    /**
+     * Replaces the open slots an internship contributes to its company total.
+     *
+     * @param internship the internship
+     * @param slots      its new contribution
+     */
+    private void setSlotContribution(Internship internship, int slots) {
+        Integer old = (slots == 0) ? slotContributions.remove(internship) : slotContributions.put(internship, slots);
+        int delta = slots - ((old != null) ? old : 0);
+        if (delta == 0 || internship.getCompanyRep() == null) {
+            return;
+        }
+        totalOpenSlots += delta;
+        openSlotsByCompany.merge(internship.getCompanyRep().getCompanyName(), (long) delta,
+                (a, b) -> (a + b == 0) ? null : a + b);
+    }
+
+    /**
+     * Returns the first element of an insertion-ordered set.
+     *
+     * @param set the set
+     * @return its oldest element, or null if empty
+     */
+    private static <T> T first(LinkedHashSet<T> set) {
+        Iterator<T> it = set.iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+}
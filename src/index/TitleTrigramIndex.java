@@ -0,0 +1,139 @@
+package src.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import src.entity.Internship;
+
+/**
+ * Trigram index over lower-cased internship titles for substring matching.
+ *
+ * <p>
+ * Every run of three consecutive characters of a normalized title is a
+ * trigram, and the index maps each trigram to the internships whose title
+ * contains it. A substring query of at least three characters can only match
+ * titles that contain all of the query's trigrams, so candidates are found by
+ * intersecting those postings (smallest first) and then verified with
+ * {@link String#contains}. The result is exactly the case-folded substring
+ * match used by the report title filter.
+ *
+ * <p>
+ * Postings hold internship keys ({@link Internship#getKey()}) in primitive
+ * sets. Keys are assigned in creation order, so walking a posting in ascending
+ * key order returns candidates in catalog order without sorting.
+ */
+public class TitleTrigramIndex {
+    private final Map<String, IntSet> postings = new HashMap<>();
+    private final Map<Integer, String> indexedTitles = new HashMap<>();
+
+    /**
+     * Indexes an internship's title, replacing any previous entry for it.
+     *
+     * @param internship the internship to index
+     */
+    public synchronized void add(Internship internship) {
+        removeTitle(internship);
+        String title = internship.getTitleSortKey();
+        if (title == null) {
+            return;
+        }
+        int key = internship.getKey();
+        indexedTitles.put(key, title);
+        for (String gram : trigrams(title)) {
+            postings.computeIfAbsent(gram, k -> new IntSet()).add(key);
+        }
+    }
+
+    /**
+     * Re-indexes an internship after its title changed. The internship keeps
+     * its original position in catalog order.
+     *
+     * @param internship the edited internship
+     */
+    public synchronized void update(Internship internship) {
+        add(internship);
+    }
+
+    /**
+     * Removes an internship from the index.
+     *
+     * @param internship the internship to remove
+     */
+    public synchronized void remove(Internship internship) {
+        removeTitle(internship);
+    }
+
+    /**
+     * Returns the internships whose lower-cased title contains the lower-cased
+     * query, in the order they were added.
+     *
+     * @param query the substring to look for
+     * @return the matching internships, or null if the query is shorter than
+     *         three characters and the caller should scan instead
+     */
+    public synchronized List<Internship> findContaining(String query) {
+        String q = query.toLowerCase();
+        if (q.length() < 3) {
+            return null;
+        }
+        List<IntSet> lists = new ArrayList<>();
+        for (String gram : trigrams(q)) {
+            IntSet list = postings.get(gram);
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        List<Internship> matches = new ArrayList<>();
+        for (int candidate : lists.get(0).toArray()) {
+            boolean inAll = true;
+            for (int l = 1; l < lists.size() && inAll; l++) {
+                inAll = lists.get(l).contains(candidate);
+            }
+            if (inAll && indexedTitles.get(candidate).contains(q)) {
+                matches.add(Internship.forKey(candidate));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Drops the postings of the title currently indexed for an internship.
+     *
+     * @param internship the internship whose title postings are removed
+     */
+    private void removeTitle(Internship internship) {
+        String old = indexedTitles.remove(internship.getKey());
+        if (old == null) {
+            return;
+        }
+        for (String gram : trigrams(old)) {
+            IntSet list = postings.get(gram);
+            if (list != null) {
+                list.remove(internship.getKey());
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of a string.
+     *
+     * @param s the normalized string
+     * @return its trigrams; empty if shorter than three characters
+     */
+    private static Set<String> trigrams(String s) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            grams.add(s.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,129 @@
+package src.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import src.entity.InternshipApplication;
+import src.enums.WithdrawalOrder;
+
+/**
+ * Concurrent work queue of applications with a pending withdrawal request.
+ *
+ * <p>
+ * Students add to the queue when they request a withdrawal and staff take from
+ * it when they approve or reject one, so triage costs O(pending) instead of a
+ * scan over every student's applications. The queue keeps two sorted views of
+ * the same entries: by request sequence (FIFO) and by the application's
+ * submission order (oldest first). Updates are serialized on the queue so the
+ * two views always agree, while reads ({@link #peek}, {@link #contains},
+ * {@link #toList}, {@link #size}) are lock-free. {@link #remove} succeeds for
+ * exactly one caller, so two staff members cannot both act on the same
+ * request.
+ */
+public class WithdrawalQueue {
+    private final ConcurrentSkipListMap<Long, InternshipApplication> byRequest = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Long, InternshipApplication> byAge = new ConcurrentSkipListMap<>();
+    private final Map<InternshipApplication, Long> requestSequence = new ConcurrentHashMap<>();
+    private long nextSequence;
+
+    /**
+     * Adds an application to the queue. Adding an application that is already
+     * queued keeps its original position.
+     *
+     * @param app the application whose withdrawal is pending
+     * @return true if the application was added, false if already queued
+     */
+    public synchronized boolean offer(InternshipApplication app) {
+        if (requestSequence.containsKey(app)) {
+            return false;
+        }
+        long sequence = nextSequence++;
+        requestSequence.put(app, sequence);
+        byRequest.put(sequence, app);
+        byAge.put(app.getSubmissionOrder(), app);
+        return true;
+    }
+
+    /**
+     * Removes an application from the queue. When several threads remove the
+     * same application concurrently only one of them gets true.
+     *
+     * @param app the application to remove
+     * @return true if this call removed the application
+     */
+    public synchronized boolean remove(InternshipApplication app) {
+        Long sequence = requestSequence.remove(app);
+        if (sequence == null) {
+            return false;
+        }
+        byRequest.remove(sequence);
+        byAge.remove(app.getSubmissionOrder());
+        return true;
+    }
+
+    /**
+     * Returns whether an application is queued.
+     *
+     * @param app the application
+     * @return true if its withdrawal is pending in this queue
+     */
+    public boolean contains(InternshipApplication app) {
+        return requestSequence.containsKey(app);
+    }
+
+    /**
+     * Returns the next application in the given order without removing it.
+     *
+     * @param order FIFO or oldest-first
+     * @return the head of the queue, or null if it is empty
+     */
+    public InternshipApplication peek(WithdrawalOrder order) {
+        Map.Entry<Long, InternshipApplication> head = view(order).firstEntry();
+        return (head != null) ? head.getValue() : null;
+    }
+
+    /**
+     * Removes and returns the next application in the given order.
+     *
+     * @param order FIFO or oldest-first
+     * @return the removed head of the queue, or null if it is empty
+     */
+    public synchronized InternshipApplication poll(WithdrawalOrder order) {
+        InternshipApplication head = peek(order);
+        if (head != null) {
+            remove(head);
+        }
+        return head;
+    }
+
+    /**
+     * Returns the queued applications in the given order.
+     *
+     * @param order FIFO or oldest-first
+     * @return a copy of the queue contents
+     */
+    public List<InternshipApplication> toList(WithdrawalOrder order) {
+        return new ArrayList<>(view(order).values());
+    }
+
+    /**
+     * Returns the number of queued applications.
+     *
+     * @return queue size
+     */
+    public int size() {
+        return requestSequence.size();
+    }
+
+    /**
+     * Returns the sorted view for an order.
+     *
+     * @param order FIFO or oldest-first
+     * @return the backing map for that order
+     */
+    private ConcurrentSkipListMap<Long, InternshipApplication> view(WithdrawalOrder order) {
+        return (order == WithdrawalOrder.OLDEST_FIRST) ? byAge : byRequest;
+    }
+}
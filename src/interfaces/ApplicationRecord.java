@@ -0,0 +1,64 @@
+package src.interfaces;
+
+import src.entity.CompanyRepresentative;
+import src.entity.Student;
+import src.enums.InternshipStatus;
+import src.enums.InternshipWithdrawalStatus;
+
+/**
+ * Read-only view of one internship application's attributes.
+ *
+ * <p>This interface is implemented both by the
+ * {@link src.entity.InternshipApplication} entity and by the flyweight views
+ * of the columnar {@link src.store.ApplicationTable}.
+ */
+public interface ApplicationRecord {
+    /**
+     * Returns the application id.
+     *
+     * @return the unique application identifier
+     */
+    String getApplicationId();
+
+    /**
+     * Returns the student who applied.
+     *
+     * @return the {@link src.entity.Student}
+     */
+    Student getStudent();
+
+    /**
+     * Returns the company representative who owns the internship.
+     *
+     * @return the {@link src.entity.CompanyRepresentative}
+     */
+    CompanyRepresentative getCompanyRep();
+
+    /**
+     * Returns the internship applied for.
+     *
+     * @return the internship
+     */
+    InternshipRecord getInternship();
+
+    /**
+     * Returns the company's decision.
+     *
+     * @return the company's {@link src.enums.InternshipStatus}
+     */
+    InternshipStatus getCompanyAccept();
+
+    /**
+     * Returns the student's decision.
+     *
+     * @return the student's {@link src.enums.InternshipStatus}
+     */
+    InternshipStatus getStudentAccept();
+
+    /**
+     * Returns the withdrawal status.
+     *
+     * @return the {@link src.enums.InternshipWithdrawalStatus}
+     */
+    InternshipWithdrawalStatus getInternshipWithdrawalStatus();
+}
@@ -0,0 +1,110 @@
+package src.interfaces;
+
+import java.time.LocalDate;
+
+import src.entity.CompanyRepresentative;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+
+/**
+ * Read-only view of one internship's attributes.
+ *
+ * <p>This interface is implemented both by the {@link src.entity.Internship}
+ * entity and by the flyweight views of the columnar
+ * {@link src.store.InternshipTable}, so read-only code such as report
+ * printing can work with either storage engine.
+ */
+public interface InternshipRecord {
+    /**
+     * Returns the internship id.
+     *
+     * @return the unique internship identifier
+     */
+    String getInternshipId();
+
+    /**
+     * Returns the internship title.
+     *
+     * @return the title
+     */
+    String getTitle();
+
+    /**
+     * Returns the lower-cased title used for case-insensitive ordering and
+     * matching.
+     *
+     * @return the lower-cased title
+     */
+    String getTitleSortKey();
+
+    /**
+     * Returns the internship description.
+     *
+     * @return the description
+     */
+    String getDescription();
+
+    /**
+     * Returns the internship level.
+     *
+     * @return the {@link src.enums.InternshipLevel}
+     */
+    InternshipLevel getLevel();
+
+    /**
+     * Returns the preferred major.
+     *
+     * @return the major
+     */
+    String getMajor();
+
+    /**
+     * Returns the first day applications are accepted.
+     *
+     * @return the open date
+     */
+    LocalDate getOpenDate();
+
+    /**
+     * Returns the last day applications are accepted.
+     *
+     * @return the close date
+     */
+    LocalDate getCloseDate();
+
+    /**
+     * Returns the approval status.
+     *
+     * @return the {@link src.enums.InternshipStatus}
+     */
+    InternshipStatus getStatus();
+
+    /**
+     * Returns the number of slots still open.
+     *
+     * @return remaining slots
+     */
+    int getNumberOfSlotsLeft();
+
+    /**
+     * Returns whether the internship is visible to students.
+     *
+     * @return the visibility flag
+     */
+    boolean getVisibility();
+
+    /**
+     * Returns the company representative who posted the internship.
+     *
+     * @return the {@link src.entity.CompanyRepresentative}
+     */
+    CompanyRepresentative getCompanyRep();
+
+    /**
+     * Returns whether applications are accepted on the given date.
+     *
+     * @param date the date to check
+     * @return true if the date lies within the application window
+     */
+    boolean isOpenOn(LocalDate date);
+}
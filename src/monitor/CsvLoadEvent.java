@@ -0,0 +1,51 @@
+package src.monitor;
+
+import java.io.File;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for loading one CSV file into the data store.
+ *
+ * <p>
+ * Used as {@code event.begin()} before reading and
+ * {@link #finish(String, int)} afterwards; the file size is only looked up
+ * when a recording wants the event.
+ */
+@Name("src.CsvLoad")
+@Label("CSV Load")
+@Category({ "Internship System", "Persistence" })
+@Description("Loading of one CSV file into the data store")
+public class CsvLoadEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("Rows")
+    @Description("Entities added to the data store")
+    int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Ends the event and commits it if it is enabled and over its threshold.
+     *
+     * @param filename the file that was read
+     * @param rows     number of entities added
+     */
+    public void finish(String filename, int rows) {
+        end();
+        if (shouldCommit()) {
+            this.file = filename;
+            this.rows = rows;
+            this.bytes = new File(filename).length();
+            commit();
+        }
+    }
+}
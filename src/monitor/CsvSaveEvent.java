@@ -0,0 +1,51 @@
+package src.monitor;
+
+import java.io.File;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for writing one data store CSV file.
+ *
+ * <p>
+ * Used as {@code event.begin()} before writing and
+ * {@link #finish(String, int)} afterwards; the file size is only looked up
+ * when a recording wants the event.
+ */
+@Name("src.CsvSave")
+@Label("CSV Save")
+@Category({ "Internship System", "Persistence" })
+@Description("Writing of one data store CSV file")
+public class CsvSaveEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("Rows")
+    @Description("Entities written")
+    int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Ends the event and commits it if it is enabled and over its threshold.
+     *
+     * @param filename the file that was written
+     * @param rows     number of entities written
+     */
+    public void finish(String filename, int rows) {
+        end();
+        if (shouldCommit()) {
+            this.file = filename;
+            this.rows = rows;
+            this.bytes = new File(filename).length();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,521 @@
+package src.monitor;
+
+import java.lang.instrument.Instrumentation;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import src.DataStore;
+import src.entity.CareerCenterStaff;
+import src.entity.CompanyRepresentative;
+import src.entity.Internship;
+import src.entity.InternshipApplication;
+import src.entity.StringDictionary;
+import src.entity.Student;
+import src.entity.TextArena;
+
+/**
+ * Estimates the heap held by the data store, per component and per class.
+ *
+ * <p>
+ * The estimator walks the object graph from each root with an identity set,
+ * so shared objects are counted once per walk. Shallow sizes come from
+ * {@link Instrumentation#getObjectSize(Object)} when the class was loaded as a
+ * Java agent ({@code -javaagent} with {@code Premain-Class:
+ * src.monitor.FootprintEstimator}); otherwise they are computed from the
+ * field layout, assuming HotSpot headers, 8-byte alignment and compressed
+ * references when the VM reports them.
+ *
+ * <p>
+ * JDK objects cannot be opened by reflection, so strings are sized from their
+ * length and the standard collections from their size and the node layout of
+ * their implementation; their elements are walked through the public API.
+ * Classes, enum constants, lambdas and the data store itself are shared with
+ * the rest of the application and are never counted.
+ *
+ * <p>
+ * The retained size of a component is the total of all roots minus the total
+ * of all roots without it, so an estimate costs two walks per component. It is
+ * meant for an administrator's occasional look, not for frequent polling.
+ */
+public class FootprintEstimator {
+    private static volatile Instrumentation instrumentation;
+
+    private final int refSize;
+    private final int objectHeader;
+    private final int arrayHeader;
+    private final Map<Class<?>, Long> shallowSizes = new HashMap<>();
+    private final Map<Class<?>, Field[]> referenceFields = new HashMap<>();
+
+    /**
+     * Creates an estimator for the running VM's object layout.
+     */
+    public FootprintEstimator() {
+        boolean compressedOops = vmFlag("UseCompressedOops");
+        boolean compressedClasses = vmFlag("UseCompressedClassPointers");
+        refSize = compressedOops ? 4 : 8;
+        objectHeader = compressedClasses ? 12 : 16;
+        arrayHeader = align(objectHeader + 4);
+    }
+
+    /**
+     * Agent entry point used with {@code -javaagent}.
+     *
+     * @param args ignored
+     * @param inst the instrumentation instance
+     */
+    public static void premain(String args, Instrumentation inst) {
+        instrumentation = inst;
+    }
+
+    /**
+     * Agent entry point used when attaching to a running VM.
+     *
+     * @param args ignored
+     * @param inst the instrumentation instance
+     */
+    public static void agentmain(String args, Instrumentation inst) {
+        instrumentation = inst;
+    }
+
+    /**
+     * Returns whether sizes are measured with {@link Instrumentation}.
+     *
+     * @return true if running as an agent
+     */
+    public static boolean isInstrumented() {
+        return instrumentation != null;
+    }
+
+    /**
+     * Estimates the footprint of a data store.
+     *
+     * @param dataStore the data store
+     * @return the report
+     */
+    public FootprintReport estimate(DataStore dataStore) {
+        List<String> names = new ArrayList<>();
+        List<String> kinds = new ArrayList<>();
+        List<Object> roots = new ArrayList<>();
+        collectRoots(dataStore, names, kinds, roots);
+
+        Walk all = new Walk(dataStore, true);
+        for (Object root : roots) {
+            all.walk(root);
+        }
+
+        List<FootprintReport.Component> components = new ArrayList<>();
+        for (int i = 0; i < roots.size(); i++) {
+            Walk deep = new Walk(dataStore, false);
+            deep.walk(roots.get(i));
+            Walk others = new Walk(dataStore, false);
+            for (int j = 0; j < roots.size(); j++) {
+                if (j != i) {
+                    others.walk(roots.get(j));
+                }
+            }
+            components.add(new FootprintReport.Component(names.get(i), kinds.get(i), deep.bytes,
+                    Math.max(0, all.bytes - others.bytes)));
+        }
+
+        List<FootprintReport.ClassStats> classes = new ArrayList<>();
+        for (Map.Entry<Class<?>, long[]> e : all.histogram.entrySet()) {
+            classes.add(new FootprintReport.ClassStats(e.getKey().getName(), e.getValue()[0], e.getValue()[1]));
+        }
+        classes.sort((a, b) -> Long.compare(b.getBytes(), a.getBytes()));
+
+        return new FootprintReport(components, classes, all.bytes, TextArena.DESCRIPTIONS.getAllocatedBytes(),
+                isInstrumented());
+    }
+
+    /**
+     * Collects the data store's instance fields and the shared entity caches
+     * as roots.
+     *
+     * @param dataStore the data store
+     * @param names     receives the root names
+     * @param kinds     receives the root kinds
+     * @param roots     receives the roots
+     */
+    private static void collectRoots(DataStore dataStore, List<String> names, List<String> kinds,
+            List<Object> roots) {
+        for (Field field : DataStore.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Object value = read(field, dataStore);
+            if (value == null) {
+                continue;
+            }
+            names.add(field.getName());
+            kinds.add((value instanceof Map) ? "lookup" : (value instanceof Collection) ? "entities" : "index");
+            roots.add(value);
+        }
+        for (Field field : StringDictionary.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == StringDictionary.class) {
+                names.add("StringDictionary." + field.getName());
+                kinds.add("cache");
+                roots.add(read(field, null));
+            }
+        }
+        Class<?>[] keyed = { Student.class, CompanyRepresentative.class, CareerCenterStaff.class, Internship.class,
+                InternshipApplication.class };
+        for (Class<?> cls : keyed) {
+            try {
+                Object registry = read(cls.getDeclaredField("KEYS"), null);
+                if (registry != null) {
+                    names.add(cls.getSimpleName() + ".KEYS");
+                    kinds.add("cache");
+                    roots.add(registry);
+                }
+            } catch (NoSuchFieldException e) {
+                // keys are inherited from a superclass registry
+            }
+        }
+    }
+
+    /**
+     * Reads a field, opening it first.
+     *
+     * @param field  the field
+     * @param target the instance, or null for a static field
+     * @return the value
+     */
+    private static Object read(Field field, Object target) {
+        try {
+            field.setAccessible(true);
+            return field.get(target);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a boolean HotSpot flag, or true if it cannot be read.
+     *
+     * @param name the flag name
+     * @return its value
+     */
+    private static boolean vmFlag(String name) {
+        try {
+            HotSpotDiagnosticMXBean hotspot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(hotspot.getVMOption(name).getValue());
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    /**
+     * One traversal of the object graph with its own visited set.
+     */
+    private final class Walk {
+        private final DataStore dataStore;
+        private final Map<Class<?>, long[]> histogram;
+        private final IdentityHashMap<Object, Boolean> visited = new IdentityHashMap<>();
+        private final ArrayDeque<Object> pending = new ArrayDeque<>();
+        private long bytes;
+
+        Walk(DataStore dataStore, boolean withHistogram) {
+            this.dataStore = dataStore;
+            this.histogram = withHistogram ? new HashMap<>() : null;
+        }
+
+        /**
+         * Adds everything reachable from a root that this walk has not seen.
+         *
+         * @param root the root
+         */
+        void walk(Object root) {
+            push(root);
+            while (!pending.isEmpty()) {
+                Object obj = pending.pop();
+                long size = visit(obj);
+                bytes += size;
+                if (histogram != null) {
+                    long[] stats = histogram.computeIfAbsent(obj.getClass(), c -> new long[2]);
+                    stats[0]++;
+                    stats[1] += size;
+                }
+            }
+        }
+
+        private void push(Object obj) {
+            if (obj == null || obj == dataStore || isShared(obj.getClass())) {
+                return;
+            }
+            if (visited.put(obj, Boolean.TRUE) == null) {
+                pending.push(obj);
+            }
+        }
+
+        /**
+         * Queues an object's references and returns its size.
+         *
+         * @param obj the object
+         * @return its size, including collection internals and string bytes
+         */
+        private long visit(Object obj) {
+            Class<?> cls = obj.getClass();
+            if (cls.isArray()) {
+                int length = Array.getLength(obj);
+                Class<?> component = cls.getComponentType();
+                if (!component.isPrimitive()) {
+                    Object[] elements = (Object[]) obj;
+                    for (Object element : elements) {
+                        push(element);
+                    }
+                }
+                return measured(obj, array(component, length));
+            }
+            if (obj instanceof String) {
+                String s = (String) obj;
+                return measured(obj, shallow(cls)) + array(isLatin1(s) ? byte.class : char.class, s.length());
+            }
+            if (cls.getModule().isNamed()) {
+                long size = measured(obj, shallow(cls));
+                try {
+                    if (obj instanceof Map) {
+                        Map<?, ?> map = (Map<?, ?>) obj;
+                        for (Map.Entry<?, ?> e : map.entrySet()) {
+                            push(e.getKey());
+                            push(e.getValue());
+                        }
+                        size += mapInternals(map, map.size());
+                    } else if (obj instanceof Collection) {
+                        Collection<?> collection = (Collection<?>) obj;
+                        for (Object element : collection) {
+                            push(element);
+                        }
+                        size += collectionInternals(collection, collection.size());
+                    }
+                } catch (ConcurrentModificationException e) {
+                    // changed while walked; the elements seen so far stand
+                }
+                return size;
+            }
+            for (Field field : referenceFields(cls)) {
+                try {
+                    push(field.get(obj));
+                } catch (IllegalAccessException e) {
+                    // not opened; counted as a reference only
+                }
+            }
+            return measured(obj, shallow(cls));
+        }
+    }
+
+    /**
+     * Returns whether instances of a class are shared application-wide and
+     * must not be attributed to any component.
+     *
+     * @param cls the class
+     * @return true for classes, class loaders, threads, enums and lambdas
+     */
+    private static boolean isShared(Class<?> cls) {
+        return cls == Class.class || ClassLoader.class.isAssignableFrom(cls) || Thread.class.isAssignableFrom(cls)
+                || cls.isEnum() || (cls.getSuperclass() != null && cls.getSuperclass().isEnum())
+                || cls.isHidden() || cls.isSynthetic() || DataStore.class.isAssignableFrom(cls);
+    }
+
+    /**
+     * Returns the instrumented size of an object, or the computed estimate.
+     *
+     * @param obj      the object
+     * @param estimate the computed size
+     * @return the size
+     */
+    private static long measured(Object obj, long estimate) {
+        Instrumentation inst = instrumentation;
+        return (inst != null) ? inst.getObjectSize(obj) : estimate;
+    }
+
+    private static boolean isLatin1(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the instance size of a class from its field layout.
+     *
+     * @param cls the class
+     * @return shallow bytes per instance
+     */
+    private long shallow(Class<?> cls) {
+        Long cached = shallowSizes.get(cls);
+        if (cached != null) {
+            return cached;
+        }
+        long size = objectHeader;
+        for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += width(field.getType());
+                }
+            }
+        }
+        size = align(size);
+        shallowSizes.put(cls, size);
+        return size;
+    }
+
+    /**
+     * Returns the opened reference-typed instance fields of a class and its
+     * superclasses.
+     *
+     * @param cls the class
+     * @return the fields
+     */
+    private Field[] referenceFields(Class<?> cls) {
+        Field[] fields = referenceFields.get(cls);
+        if (fields == null) {
+            List<Field> list = new ArrayList<>();
+            for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()
+                            && field.trySetAccessible()) {
+                        list.add(field);
+                    }
+                }
+            }
+            fields = list.toArray(new Field[0]);
+            referenceFields.put(cls, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the bytes a standard collection allocates besides its own
+     * instance: backing arrays, nodes and any wrapped map.
+     *
+     * @param collection the collection
+     * @param size       its element count
+     * @return internal bytes
+     */
+    private long collectionInternals(Collection<?> collection, int size) {
+        if (collection instanceof LinkedHashSet) {
+            return shallow(LinkedHashMap.class) + hashTable(size) + (long) size * linkedHashNode();
+        }
+        if (collection instanceof HashSet) {
+            return shallow(HashMap.class) + hashTable(size) + (long) size * hashNode();
+        }
+        if (collection instanceof TreeSet) {
+            return shallow(TreeMap.class) + (long) size * treeNode();
+        }
+        if (collection instanceof ConcurrentSkipListSet) {
+            return shallow(ConcurrentSkipListMap.class) + skipListNodes(size);
+        }
+        if (collection instanceof LinkedList) {
+            return (long) size * align(objectHeader + 3L * refSize);
+        }
+        if (collection instanceof ArrayDeque) {
+            return array(Object.class, Math.max(16, Integer.highestOneBit(size) * 2));
+        }
+        return array(Object.class, size); // ArrayList and other array-backed lists
+    }
+
+    /**
+     * Returns the bytes a standard map allocates besides its own instance.
+     *
+     * @param map  the map
+     * @param size its entry count
+     * @return internal bytes
+     */
+    private long mapInternals(Map<?, ?> map, int size) {
+        if (map instanceof LinkedHashMap) {
+            return hashTable(size) + (long) size * linkedHashNode();
+        }
+        if (map instanceof TreeMap) {
+            return (long) size * treeNode();
+        }
+        if (map instanceof ConcurrentSkipListMap) {
+            return skipListNodes(size);
+        }
+        if (map instanceof IdentityHashMap) {
+            return array(Object.class, 2 * tableCapacity(size));
+        }
+        if (map instanceof EnumMap) {
+            return array(Object.class, size);
+        }
+        return hashTable(size) + (long) size * hashNode(); // HashMap, ConcurrentHashMap, Hashtable
+    }
+
+    private long hashTable(int size) {
+        return array(Object.class, tableCapacity(size));
+    }
+
+    private static int tableCapacity(int size) {
+        int needed = (int) Math.min(1 << 30, (long) (size / 0.75f) + 1);
+        return Math.max(16, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    private long hashNode() {
+        return align(objectHeader + 4L + 3L * refSize); // hash, key, value, next
+    }
+
+    private long linkedHashNode() {
+        return align(hashNode() + 2L * refSize); // plus before, after
+    }
+
+    private long treeNode() {
+        return align(objectHeader + 5L * refSize + 1); // key, value, left, right, parent, color
+    }
+
+    private long skipListNodes(int size) {
+        long node = align(objectHeader + 3L * refSize); // key, value, next
+        long index = align(objectHeader + 3L * refSize); // node, down, right; about one per four nodes
+        return size * node + (size / 4) * index;
+    }
+
+    private long array(Class<?> component, int length) {
+        long element = component.isPrimitive() ? width(component) : refSize;
+        return align(arrayHeader + element * length);
+    }
+
+    private long width(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return refSize;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+}
@@ -0,0 +1,64 @@
+package src.monitor;
+
+import java.util.Map;
+
+/**
+ * JMX view of the data store's estimated memory footprint, registered as
+ * {@code src.monitor:type=Footprint}.
+ *
+ * <p>
+ * The attributes describe the last estimate; {@link #refresh()} takes a new
+ * one. The first attribute read takes an estimate if none exists yet.
+ */
+public interface FootprintMXBean {
+
+    /**
+     * @return estimated heap bytes held by the data store
+     */
+    long getTotalBytes();
+
+    /**
+     * @return direct memory allocated for internship descriptions
+     */
+    long getOffHeapAllocatedBytes();
+
+    /**
+     * @return off-heap bytes still referenced by internships
+     */
+    long getOffHeapLiveBytes();
+
+    /**
+     * @return off-heap bytes of replaced or discarded descriptions
+     */
+    long getOffHeapWastedBytes();
+
+    /**
+     * @return bytes reachable from each component, by component name
+     */
+    Map<String, Long> getDeepBytes();
+
+    /**
+     * @return bytes reachable only through each component, by component name
+     */
+    Map<String, Long> getRetainedBytes();
+
+    /**
+     * @return bytes of all reachable instances, by class name
+     */
+    Map<String, Long> getBytesByClass();
+
+    /**
+     * @return whether sizes were measured by a Java agent
+     */
+    boolean isInstrumented();
+
+    /**
+     * @return epoch milliseconds of the last estimate
+     */
+    long getEstimateTime();
+
+    /**
+     * Takes a new estimate.
+     */
+    void refresh();
+}
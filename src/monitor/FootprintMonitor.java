@@ -0,0 +1,141 @@
+package src.monitor;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import src.DataStore;
+import src.entity.TextArena;
+
+/**
+ * Keeps the last footprint estimate of the data store and publishes it over
+ * JMX.
+ *
+ * <p>
+ * There is one monitor per process, created and registered with the platform
+ * MBean server by the first call to {@link #getInstance(DataStore)}. If
+ * registration fails, e.g. because JMX is unavailable, the monitor still works
+ * for in-process callers such as the staff menu.
+ */
+public class FootprintMonitor implements FootprintMXBean {
+    /** JMX name of the monitor. */
+    public static final String OBJECT_NAME = "src.monitor:type=Footprint";
+
+    private static FootprintMonitor instance;
+
+    private final DataStore dataStore;
+    private volatile FootprintReport report;
+
+    private FootprintMonitor(DataStore dataStore) {
+        this.dataStore = dataStore;
+    }
+
+    /**
+     * Returns the process-wide monitor, creating and registering it on first
+     * use.
+     *
+     * @param dataStore the data store to measure
+     * @return the monitor
+     */
+    public static synchronized FootprintMonitor getInstance(DataStore dataStore) {
+        if (instance == null) {
+            instance = new FootprintMonitor(dataStore);
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = new ObjectName(OBJECT_NAME);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(instance, name);
+                }
+            } catch (JMException | SecurityException e) {
+                System.out.println("Footprint monitor not registered with JMX: " + e.getMessage());
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Takes a new estimate and returns it.
+     *
+     * @return the new report
+     */
+    public synchronized FootprintReport estimate() {
+        report = new FootprintEstimator().estimate(dataStore);
+        return report;
+    }
+
+    /**
+     * Returns the last estimate, taking one if there is none.
+     *
+     * @return the report
+     */
+    public FootprintReport getReport() {
+        FootprintReport r = report;
+        return (r != null) ? r : estimate();
+    }
+
+    @Override
+    public void refresh() {
+        estimate();
+    }
+
+    @Override
+    public long getTotalBytes() {
+        return getReport().getTotalBytes();
+    }
+
+    @Override
+    public long getOffHeapAllocatedBytes() {
+        return TextArena.DESCRIPTIONS.getAllocatedBytes();
+    }
+
+    @Override
+    public long getOffHeapLiveBytes() {
+        return TextArena.DESCRIPTIONS.getLiveBytes();
+    }
+
+    @Override
+    public long getOffHeapWastedBytes() {
+        return TextArena.DESCRIPTIONS.getWastedBytes();
+    }
+
+    @Override
+    public Map<String, Long> getDeepBytes() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        for (FootprintReport.Component c : getReport().getComponents()) {
+            sizes.put(c.getName(), c.getDeepBytes());
+        }
+        return sizes;
+    }
+
+    @Override
+    public Map<String, Long> getRetainedBytes() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        for (FootprintReport.Component c : getReport().getComponents()) {
+            sizes.put(c.getName(), c.getRetainedBytes());
+        }
+        return sizes;
+    }
+
+    @Override
+    public Map<String, Long> getBytesByClass() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        for (FootprintReport.ClassStats c : getReport().getClasses()) {
+            sizes.put(c.getClassName(), c.getBytes());
+        }
+        return sizes;
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return getReport().isInstrumented();
+    }
+
+    @Override
+    public long getEstimateTime() {
+        return getReport().getTimestamp();
+    }
+}
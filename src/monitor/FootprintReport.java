@@ -0,0 +1,154 @@
+package src.monitor;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of one heap-footprint estimate of the data store.
+ *
+ * <p>
+ * For every component (an entity collection, id lookup, index or cache) the
+ * report gives its deep size, i.e. everything reachable from it, and its
+ * retained size, i.e. what would become unreachable if only that component
+ * were dropped. Objects shared between components count towards the deep size
+ * of each of them but towards the retained size of none. The class histogram
+ * attributes every reachable object exactly once to its class.
+ */
+public class FootprintReport {
+    private final List<Component> components;
+    private final List<ClassStats> classes;
+    private final long totalBytes;
+    private final long offHeapBytes;
+    private final boolean instrumented;
+    private final long timestamp;
+
+    /**
+     * Creates a report.
+     *
+     * @param components   per-component sizes
+     * @param classes      per-class sizes, largest first
+     * @param totalBytes   size of everything reachable from any component
+     * @param offHeapBytes direct memory allocated for off-heap text
+     * @param instrumented whether shallow sizes came from `Instrumentation`
+     */
+    FootprintReport(List<Component> components, List<ClassStats> classes, long totalBytes, long offHeapBytes,
+            boolean instrumented) {
+        this.components = Collections.unmodifiableList(components);
+        this.classes = Collections.unmodifiableList(classes);
+        this.totalBytes = totalBytes;
+        this.offHeapBytes = offHeapBytes;
+        this.instrumented = instrumented;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the per-component sizes in data store field order.
+     *
+     * @return the components
+     */
+    public List<Component> getComponents() { return components; }
+
+    /**
+     * Returns the per-class sizes, largest first.
+     *
+     * @return the class histogram
+     */
+    public List<ClassStats> getClasses() { return classes; }
+
+    /**
+     * Returns the estimated heap held by all components together.
+     *
+     * @return total bytes
+     */
+    public long getTotalBytes() { return totalBytes; }
+
+    /**
+     * Returns the direct memory allocated outside the heap for internship
+     * descriptions.
+     *
+     * @return off-heap bytes
+     */
+    public long getOffHeapBytes() { return offHeapBytes; }
+
+    /**
+     * Returns whether object sizes were measured with
+     * `Instrumentation.getObjectSize` rather than computed from field layouts.
+     *
+     * @return true if a Java agent supplied instrumentation
+     */
+    public boolean isInstrumented() { return instrumented; }
+
+    /**
+     * Returns when the estimate was taken.
+     *
+     * @return epoch milliseconds
+     */
+    public long getTimestamp() { return timestamp; }
+
+    /**
+     * Sizes of one root of the data store.
+     */
+    public static class Component {
+        private final String name;
+        private final String kind;
+        private final long deepBytes;
+        private final long retainedBytes;
+
+        Component(String name, String kind, long deepBytes, long retainedBytes) {
+            this.name = name;
+            this.kind = kind;
+            this.deepBytes = deepBytes;
+            this.retainedBytes = retainedBytes;
+        }
+
+        /**
+         * @return the component's name, e.g. the data store field name
+         */
+        public String getName() { return name; }
+
+        /**
+         * @return "entities", "lookup", "index" or "cache"
+         */
+        public String getKind() { return kind; }
+
+        /**
+         * @return bytes reachable from the component
+         */
+        public long getDeepBytes() { return deepBytes; }
+
+        /**
+         * @return bytes reachable only through the component
+         */
+        public long getRetainedBytes() { return retainedBytes; }
+    }
+
+    /**
+     * Instance count and total size of one class.
+     */
+    public static class ClassStats {
+        private final String className;
+        private final long instances;
+        private final long bytes;
+
+        ClassStats(String className, long instances, long bytes) {
+            this.className = className;
+            this.instances = instances;
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return the class name
+         */
+        public String getClassName() { return className; }
+
+        /**
+         * @return number of reachable instances
+         */
+        public long getInstances() { return instances; }
+
+        /**
+         * @return total size of the instances
+         */
+        public long getBytes() { return bytes; }
+    }
+}
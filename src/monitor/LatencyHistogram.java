@@ -0,0 +1,152 @@
+package src.monitor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ *
+ * <p>
+ * Buckets are log-linear in the manner of HdrHistogram: values below 16 get
+ * a bucket each, and every power of two above is split into 16 equal
+ * sub-buckets, so any recorded value is known to within 1/16 (about 6%)
+ * across the whole range of a {@code long} with 960 counters. Recording is an
+ * atomic increment of one counter plus two adder updates; percentiles are
+ * computed from a scan of the counters and report the upper bound of the
+ * bucket they fall in, capped at the largest value recorded.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration; negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucket(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean recorded duration.
+     *
+     * @return mean nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long n = count.sum();
+        return (n > 0) ? (double) sum.sum() / n : 0;
+    }
+
+    /**
+     * Returns the largest recorded duration.
+     *
+     * @return maximum nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the duration below or at which the given fraction of recorded
+     * durations fall.
+     *
+     * @param fraction between 0 and 1, e.g. 0.99
+     * @return the percentile in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double fraction) {
+        return getPercentile(snapshot(), fraction);
+    }
+
+    /**
+     * Returns a copy of the bucket counters. Subtracting an earlier copy
+     * gives the counters of the durations recorded in between, for
+     * {@link #getPercentile(long[], double)}.
+     *
+     * @return the counters, indexed by bucket
+     */
+    long[] snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a percentile of the durations counted in a set of bucket
+     * counters, such as a {@link #snapshot()} or the difference of two.
+     *
+     * @param buckets  the counters, indexed by bucket
+     * @param fraction between 0 and 1, e.g. 0.99
+     * @return the percentile in nanoseconds, or 0 if the counters are empty
+     */
+    long getPercentile(long[] buckets, double fraction) {
+        long total = 0;
+        for (long n : buckets) {
+            total += n;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket of a value.
+     *
+     * @param value a non-negative value
+     * @return bucket index
+     */
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BITS + 1) << SUB_BITS) + sub;
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     *
+     * @param bucket bucket index
+     * @return upper bound
+     */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BITS) - 1;
+        long lower = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,117 @@
+package src.monitor;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of operation timers.
+ *
+ * <p>
+ * Metrics are disabled by default; they are enabled with
+ * {@code -Dmetrics.enabled=true}, the {@code --metrics} command-line flag or
+ * {@link #setEnabled(boolean)}. Every timer is published over JMX when it is
+ * created. While enabled, a daemon thread logs one line every
+ * {@code metrics.logSeconds} seconds (default 60, 0 for never) with the
+ * throughput and percentiles of each operation called in the interval.
+ */
+public final class Metrics {
+    private static final Logger LOG = Logger.getLogger(Metrics.class.getName());
+    private static final Map<String, OperationTimer> TIMERS = new ConcurrentSkipListMap<>();
+    private static final long LOG_SECONDS = Long.getLong("metrics.logSeconds", 60);
+
+    private static volatile boolean enabled;
+    private static ScheduledExecutorService reporter;
+
+    static {
+        if (Boolean.getBoolean("metrics.enabled")) {
+            setEnabled(true);
+        }
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns whether calls are being timed.
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables timing, starting the periodic log line on first
+     * enable. Durations already recorded are kept.
+     *
+     * @param on true to time calls
+     */
+    public static synchronized void setEnabled(boolean on) {
+        enabled = on;
+        if (on && reporter == null && LOG_SECONDS > 0) {
+            reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "metrics-reporter");
+                t.setDaemon(true);
+                return t;
+            });
+            reporter.scheduleAtFixedRate(Metrics::report, LOG_SECONDS, LOG_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Returns the timer of an operation, creating and publishing it on first
+     * use.
+     *
+     * @param name operation name, e.g. {@code student.login}
+     * @return the timer
+     */
+    public static OperationTimer timer(String name) {
+        return TIMERS.computeIfAbsent(name, n -> {
+            OperationTimer timer = new OperationTimer(n);
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                server.registerMBean(timer, new ObjectName("src.monitor:type=Operation,name=" + n));
+            } catch (JMException | SecurityException e) {
+                LOG.fine("Timer " + n + " not registered with JMX: " + e.getMessage());
+            }
+            return timer;
+        });
+    }
+
+    /**
+     * Returns all timers by operation name.
+     *
+     * @return the timers, sorted by name
+     */
+    public static Map<String, OperationTimer> getTimers() {
+        return TIMERS;
+    }
+
+    /**
+     * Closes the current reporting interval and logs the operations called in
+     * it.
+     */
+    static void report() {
+        StringBuilder line = new StringBuilder("metrics:");
+        for (OperationTimer timer : TIMERS.values()) {
+            long calls = timer.tick();
+            if (calls > 0) {
+                line.append(String.format(" %s n=%d %.1f/s p50=%.1fus p99=%.1fus p999=%.1fus;", timer.getName(),
+                        calls, timer.getIntervalThroughput(), timer.getIntervalPercentileMicros(0.50),
+                        timer.getIntervalPercentileMicros(0.99), timer.getIntervalPercentileMicros(0.999)));
+            }
+        }
+        if (line.length() > "metrics:".length()) {
+            LOG.info(line.toString());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package src.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one controller or data store operation. Emitted
+ * by {@link OperationTimer} for every timed call while a recording enables it,
+ * whether or not metrics are enabled.
+ */
+@Name("src.Operation")
+@Label("Operation")
+@Category({ "Internship System", "Operations" })
+@Description("One call of a timed controller or data store operation")
+public class OperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+}
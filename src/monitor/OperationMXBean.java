@@ -0,0 +1,54 @@
+package src.monitor;
+
+/**
+ * JMX view of one timed operation, registered as
+ * {@code src.monitor:type=Operation,name=<operation>}.
+ *
+ * <p>
+ * Counts and percentiles cover every call timed since metrics were enabled;
+ * throughput covers the time since the previous read of it.
+ */
+public interface OperationMXBean {
+
+    /**
+     * @return the operation name, e.g. {@code student.applyForInternship}
+     */
+    String getName();
+
+    /**
+     * @return number of timed calls
+     */
+    long getCount();
+
+    /**
+     * @return calls per second since the previous read, or since the timer
+     *         was created on the first read; reads less than a second apart
+     *         return the previous value
+     */
+    double getThroughput();
+
+    /**
+     * @return mean latency in microseconds
+     */
+    double getMeanMicros();
+
+    /**
+     * @return median latency in microseconds
+     */
+    double getP50Micros();
+
+    /**
+     * @return 99th percentile latency in microseconds
+     */
+    double getP99Micros();
+
+    /**
+     * @return 99.9th percentile latency in microseconds
+     */
+    double getP999Micros();
+
+    /**
+     * @return largest latency in microseconds
+     */
+    double getMaxMicros();
+}
@@ -0,0 +1,200 @@
+package src.monitor;
+
+import java.util.ArrayDeque;
+
+/**
+ * Times calls of one operation into a {@link LatencyHistogram}.
+ *
+ * <p>
+ * Timers are obtained once from {@link Metrics#timer(String)}, typically into
+ * a static field, and used around the timed code:
+ *
+ * <pre>
+ * long start = TIMER.start();
+ * try {
+ *     ...
+ * } finally {
+ *     TIMER.stop(start);
+ * }
+ * </pre>
+ *
+ * While metrics are disabled {@link #start()} returns 0 without reading the
+ * clock and {@link #stop(long)} ignores it, so a disabled timer costs one
+ * volatile read and the inlined Flight Recorder enabled check.
+ *
+ * <p>
+ * While a recording enables {@link OperationEvent}, each call also begins an
+ * event that is kept on a per-thread stack until {@code stop}; timed calls
+ * nest strictly inside each other, so the top of the stack is always the
+ * call being stopped. No event is created while the event type is disabled.
+ *
+ * <p>
+ * {@link #getThroughput()} is computed when it is read, over the time since
+ * the previous read, so it does not depend on the periodic log line.
+ */
+public class OperationTimer implements OperationMXBean {
+    private static final ThreadLocal<ArrayDeque<OperationEvent>> OPEN_EVENTS =
+            ThreadLocal.withInitial(ArrayDeque::new);
+    // Only asked whether the event type is enabled, never begun or committed
+    private static final OperationEvent PROBE = new OperationEvent();
+    // Shorter read intervals return the previous throughput
+    private static final long MIN_THROUGHPUT_NANOS = 1_000_000_000L;
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    // Reporting interval of the periodic log line, closed by Metrics
+    private long lastCount;
+    private long lastTick = System.nanoTime();
+    private long[] lastBuckets;
+    private long[] intervalBuckets;
+    private double intervalThroughput;
+
+    // Throughput window of getThroughput(), closed when it is read
+    private long lastReadCount;
+    private long lastRead = lastTick;
+    private double throughput;
+
+    OperationTimer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Starts timing a call.
+     *
+     * @return the start time, or 0 if neither metrics nor the operation event
+     *         are enabled
+     */
+    public long start() {
+        if (PROBE.isEnabled()) {
+            OperationEvent event = new OperationEvent();
+            event.operation = name;
+            event.begin();
+            OPEN_EVENTS.get().push(event);
+            return System.nanoTime();
+        }
+        return Metrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a call started with {@link #start()}.
+     *
+     * @param start the value returned by {@code start()}
+     */
+    public void stop(long start) {
+        if (start == 0L) {
+            return;
+        }
+        if (Metrics.isEnabled()) {
+            histogram.record(System.nanoTime() - start);
+        }
+        ArrayDeque<OperationEvent> open = OPEN_EVENTS.get();
+        OperationEvent event = open.peek();
+        if (event != null && event.operation == name) {
+            open.pop();
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the histogram of recorded durations.
+     *
+     * @return the histogram
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Closes a reporting interval and computes its throughput and bucket
+     * counters, read by {@link #getIntervalThroughput()} and
+     * {@link #getIntervalPercentileMicros(double)}.
+     *
+     * @return calls recorded in the interval
+     */
+    synchronized long tick() {
+        long now = System.nanoTime();
+        long count = histogram.getCount();
+        long[] buckets = histogram.snapshot();
+        long calls = count - lastCount;
+        intervalThroughput = (now > lastTick) ? calls * 1e9 / (now - lastTick) : 0;
+        intervalBuckets = buckets.clone();
+        if (lastBuckets != null) {
+            for (int i = 0; i < buckets.length; i++) {
+                intervalBuckets[i] -= lastBuckets[i];
+            }
+        }
+        lastBuckets = buckets;
+        lastCount = count;
+        lastTick = now;
+        return calls;
+    }
+
+    /**
+     * Returns a latency percentile of the calls recorded in the reporting
+     * interval last closed by {@link #tick()}.
+     *
+     * @param fraction between 0 and 1, e.g. 0.99
+     * @return the percentile in microseconds, or 0 before the first tick
+     */
+    synchronized double getIntervalPercentileMicros(double fraction) {
+        return (intervalBuckets == null) ? 0 : histogram.getPercentile(intervalBuckets, fraction) / 1e3;
+    }
+
+    /**
+     * Returns the throughput of the reporting interval last closed by
+     * {@link #tick()}.
+     *
+     * @return calls per second
+     */
+    synchronized double getIntervalThroughput() {
+        return intervalThroughput;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public synchronized double getThroughput() {
+        long now = System.nanoTime();
+        if (now - lastRead >= MIN_THROUGHPUT_NANOS) {
+            long count = histogram.getCount();
+            throughput = (count - lastReadCount) * 1e9 / (now - lastRead);
+            lastReadCount = count;
+            lastRead = now;
+        }
+        return throughput;
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return histogram.getMean() / 1e3;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return histogram.getPercentile(0.50) / 1e3;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return histogram.getPercentile(0.99) / 1e3;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return histogram.getPercentile(0.999) / 1e3;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return histogram.getMax() / 1e3;
+    }
+}
@@ -0,0 +1,35 @@
+package src.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one generated internship report.
+ */
+@Name("src.Report")
+@Label("Report Generation")
+@Category({ "Internship System", "Reports" })
+@Description("Filtering and sorting of one internship report")
+public class ReportEvent extends Event {
+    @Label("Criteria")
+    @Description("Filters set and sort order, without their values")
+    public String criteria;
+
+    @Label("Source")
+    @Description("objects, columns or table")
+    public String source;
+
+    @Label("Rows Scanned")
+    public int scanned;
+
+    @Label("Rows Returned")
+    public int returned;
+
+    @Label("Sort Time")
+    @Timespan
+    public long sortTime;
+}
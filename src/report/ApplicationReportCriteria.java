@@ -0,0 +1,154 @@
+package src.report;
+
+import src.enums.ApplicationSortType;
+import src.enums.InternshipStatus;
+import src.enums.InternshipWithdrawalStatus;
+
+/**
+ * Encapsulates criteria for filtering and sorting internship application reports.
+ *
+ * <p>Allows specifying optional filters on the application's own decisions
+ * (company acceptance, student acceptance, withdrawal status) and on attributes
+ * of the linked student, internship and company representative. Also supports
+ * specifying a sort order for results.
+ */
+public class ApplicationReportCriteria {
+
+    private InternshipStatus companyAccept;
+    private InternshipStatus studentAccept;
+    private InternshipWithdrawalStatus withdrawalStatus;
+    private String studentId;
+    private String studentMajor;
+    private String internshipId;
+    private String companyName;
+    private String companyRepId;
+    private ApplicationSortType sortType;
+
+    // ---------- Setters ----------
+    /**
+     * Sets the company decision filter.
+     *
+     * @param companyAccept `InternshipStatus` of the company's decision to filter by
+     */
+    public void setCompanyAccept(InternshipStatus companyAccept) { this.companyAccept = companyAccept; }
+
+    /**
+     * Sets the student decision filter.
+     *
+     * @param studentAccept `InternshipStatus` of the student's decision to filter by
+     */
+    public void setStudentAccept(InternshipStatus studentAccept) { this.studentAccept = studentAccept; }
+
+    /**
+     * Sets the withdrawal status filter.
+     *
+     * @param withdrawalStatus `InternshipWithdrawalStatus` to filter by
+     */
+    public void setWithdrawalStatus(InternshipWithdrawalStatus withdrawalStatus) { this.withdrawalStatus = withdrawalStatus; }
+
+    /**
+     * Sets the applicant id filter.
+     *
+     * @param studentId student id to filter by
+     */
+    public void setStudentId(String studentId) { this.studentId = studentId; }
+
+    /**
+     * Sets the applicant major filter (case-insensitive).
+     *
+     * @param studentMajor major to filter by
+     */
+    public void setStudentMajor(String studentMajor) { this.studentMajor = studentMajor; }
+
+    /**
+     * Sets the internship id filter.
+     *
+     * @param internshipId internship id to filter by
+     */
+    public void setInternshipId(String internshipId) { this.internshipId = internshipId; }
+
+    /**
+     * Sets the company name filter (case-insensitive).
+     *
+     * @param companyName company name to filter by
+     */
+    public void setCompanyName(String companyName) { this.companyName = companyName; }
+
+    /**
+     * Sets the company representative id filter.
+     *
+     * @param companyRepId company representative id to filter by
+     */
+    public void setCompanyRepId(String companyRepId) { this.companyRepId = companyRepId; }
+
+    /**
+     * Sets the sort order for report results.
+     *
+     * @param sortType the `ApplicationSortType` for sorting
+     */
+    public void setSortType(ApplicationSortType sortType) { this.sortType = sortType; }
+
+    // ---------- Getters ----------
+    /**
+     * Returns the company decision filter.
+     *
+     * @return the `InternshipStatus` to filter by, or null if not set
+     */
+    public InternshipStatus getCompanyAccept() { return companyAccept; }
+
+    /**
+     * Returns the student decision filter.
+     *
+     * @return the `InternshipStatus` to filter by, or null if not set
+     */
+    public InternshipStatus getStudentAccept() { return studentAccept; }
+
+    /**
+     * Returns the withdrawal status filter.
+     *
+     * @return the `InternshipWithdrawalStatus` to filter by, or null if not set
+     */
+    public InternshipWithdrawalStatus getWithdrawalStatus() { return withdrawalStatus; }
+
+    /**
+     * Returns the applicant id filter.
+     *
+     * @return the student id to filter by, or null if not set
+     */
+    public String getStudentId() { return studentId; }
+
+    /**
+     * Returns the applicant major filter.
+     *
+     * @return the major to filter by, or null if not set
+     */
+    public String getStudentMajor() { return studentMajor; }
+
+    /**
+     * Returns the internship id filter.
+     *
+     * @return the internship id to filter by, or null if not set
+     */
+    public String getInternshipId() { return internshipId; }
+
+    /**
+     * Returns the company name filter.
+     *
+     * @return the company name to filter by, or null if not set
+     */
+    public String getCompanyName() { return companyName; }
+
+    /**
+     * Returns the company representative id filter.
+     *
+     * @return the company representative id to filter by, or null if not set
+     */
+    public String getCompanyRepId() { return companyRepId; }
+
+    /**
+     * Returns the sort type, defaulting to APPLICATION_ID if not set.
+     *
+     * @return the `ApplicationSortType`
+     */
+    public ApplicationSortType getSortType() { return sortType != null ? sortType : ApplicationSortType.APPLICATION_ID; }
+}
@@ -0,0 +1,180 @@
+package src.report;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import src.DataStore;
+import src.entity.CompanyRepresentative;
+import src.entity.Internship;
+import src.entity.InternshipApplication;
+import src.enums.ApplicationGroupBy;
+import src.enums.ApplicationSortType;
+
+/**
+ * Generates internship application reports by filtering, sorting and grouping
+ * applications based on specified criteria.
+ *
+ * <p>Each application already holds direct references to its student,
+ * internship and company representative, so joining to their attributes is a
+ * constant-time field access per application rather than a lookup through the
+ * `DataStore` lists.
+ */
+public class ApplicationReportGenerator {
+
+    private DataStore dataStore;
+
+    /**
+     * Constructs the ApplicationReportGenerator and acquires the shared `DataStore` instance.
+     */
+    public ApplicationReportGenerator() {
+        this.dataStore = DataStore.getInstance();
+    }
+
+    /**
+     * Generates a filtered and sorted report of applications based on the provided criteria.
+     *
+     * @param c the `ApplicationReportCriteria` specifying filters and sort order
+     * @return a `List<InternshipApplication>` matching the criteria and sorted as requested
+     */
+    public List<InternshipApplication> generateReport(ApplicationReportCriteria c) {
+        return generateReport(candidates(c), c);
+    }
+
+    /**
+     * Generates a filtered and sorted report over the given applications rather
+     * than the shared `DataStore` collection.
+     *
+     * @param applications the applications to report on
+     * @param c            the `ApplicationReportCriteria` specifying filters and sort order
+     * @return a `List<InternshipApplication>` matching the criteria and sorted as requested
+     */
+    public List<InternshipApplication> generateReport(Collection<InternshipApplication> applications,
+            ApplicationReportCriteria c) {
+        return applications.stream()
+            .filter(app -> matches(app, c))
+            .sorted(getComparator(c.getSortType()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the applications matching the criteria per group, e.g. applications
+     * per student major or withdrawal backlog per company.
+     *
+     * @param c       the `ApplicationReportCriteria` specifying filters
+     * @param groupBy the dimensions to group on, outermost first
+     * @return application counts keyed by dimension values, ordered by key
+     */
+    public Map<List<Object>, Long> generateSummary(ApplicationReportCriteria c, ApplicationGroupBy... groupBy) {
+        return generateSummary(candidates(c), c, groupBy);
+    }
+
+    /**
+     * Counts the given applications matching the criteria per group.
+     *
+     * @param applications the applications to summarise
+     * @param c            the `ApplicationReportCriteria` specifying filters
+     * @param groupBy      the dimensions to group on, outermost first
+     * @return application counts keyed by dimension values, ordered by key
+     */
+    public Map<List<Object>, Long> generateSummary(Collection<InternshipApplication> applications,
+            ApplicationReportCriteria c, ApplicationGroupBy... groupBy) {
+        Map<List<Object>, Long> counts = applications.stream()
+            .filter(app -> matches(app, c))
+            .collect(Collectors.groupingBy(app -> keyOf(app, groupBy), Collectors.counting()));
+
+        List<List<Object>> keys = new ArrayList<>(counts.keySet());
+        keys.sort(ReportGroup::compareKeys);
+        Map<List<Object>, Long> ordered = new LinkedHashMap<>();
+        for (List<Object> key : keys) {
+            ordered.put(key, counts.get(key));
+        }
+        return ordered;
+    }
+
+    /**
+     * Returns the applications worth checking against the criteria. When an
+     * internship or company representative filter is set and resolves to a
+     * known entity, only that entity's applications are returned from the
+     * reverse index; otherwise all applications are.
+     *
+     * @param c the `ApplicationReportCriteria` specifying filters
+     * @return a superset of the matching applications, in insertion order
+     */
+    private Collection<InternshipApplication> candidates(ApplicationReportCriteria c) {
+        if (c.getInternshipId() != null) {
+            Internship internship = dataStore.findInternship(c.getInternshipId());
+            if (internship != null) {
+                return dataStore.getApplicationIndex().forInternship(internship);
+            }
+        }
+        if (c.getCompanyRepId() != null) {
+            CompanyRepresentative rep = dataStore.findCompanyRep(c.getCompanyRepId());
+            if (rep != null) {
+                return dataStore.getApplicationIndex().forRep(rep);
+            }
+        }
+        return dataStore.getInternshipApplications();
+    }
+
+    /**
+     * Checks a single application against every filter set on the criteria.
+     *
+     * @param app the application to check
+     * @param c   the `ApplicationReportCriteria` specifying filters
+     * @return true if the application passes all filters
+     */
+    private boolean matches(InternshipApplication app, ApplicationReportCriteria c) {
+        if (c.getCompanyAccept() != null && app.getCompanyAccept() != c.getCompanyAccept()) return false;
+        if (c.getStudentAccept() != null && app.getStudentAccept() != c.getStudentAccept()) return false;
+        if (c.getWithdrawalStatus() != null && app.getInternshipWithdrawalStatus() != c.getWithdrawalStatus()) return false;
+        if (c.getStudentId() != null && !app.getStudent().getUserId().equals(c.getStudentId())) return false;
+        if (c.getStudentMajor() != null && !app.getStudent().getMajor().equalsIgnoreCase(c.getStudentMajor())) return false;
+        if (c.getInternshipId() != null && !c.getInternshipId().equals(app.getInternship().getInternshipId())) return false;
+        if (c.getCompanyRepId() != null && !app.getCompanyRep().getUserId().equals(c.getCompanyRepId())) return false;
+        if (c.getCompanyName() != null && !app.getCompanyRep().getCompanyName().equalsIgnoreCase(c.getCompanyName())) return false;
+        return true;
+    }
+
+    /**
+     * Builds the group key of an application for the given dimensions.
+     *
+     * @param app     the application
+     * @param groupBy the grouping dimensions
+     * @return the list of dimension values
+     */
+    private List<Object> keyOf(InternshipApplication app, ApplicationGroupBy[] groupBy) {
+        List<Object> key = new ArrayList<>(groupBy.length);
+        for (ApplicationGroupBy d : groupBy) {
+            key.add(switch (d) {
+                case STUDENT_MAJOR -> app.getStudent().getMajor();
+                case COMPANY -> app.getCompanyRep().getCompanyName();
+                case COMPANY_REP -> app.getCompanyRep().getUserId();
+                case INTERNSHIP -> app.getInternship().getInternshipId();
+                case COMPANY_ACCEPT -> app.getCompanyAccept();
+                case STUDENT_ACCEPT -> app.getStudentAccept();
+                case WITHDRAWAL_STATUS -> app.getInternshipWithdrawalStatus();
+            });
+        }
+        return key;
+    }
+
+    /**
+     * Provides a comparator for sorting applications by the specified sort type.
+     *
+     * @param type the `ApplicationSortType` to sort by
+     * @return a `Comparator<InternshipApplication>` for that field
+     */
+    private Comparator<InternshipApplication> getComparator(ApplicationSortType type) {
+        return switch (type) {
+            case APPLICATION_ID -> Comparator.comparing(InternshipApplication::getApplicationId,
+                    String.CASE_INSENSITIVE_ORDER);
+            case STUDENT -> Comparator.comparing(app -> app.getStudent().getName(), String.CASE_INSENSITIVE_ORDER);
+            case COMPANY -> Comparator.comparing(app -> app.getCompanyRep().getCompanyNameSortKey());
+            case INTERNSHIP -> Comparator.comparing(app -> app.getInternship().getTitleSortKey());
+        };
+    }
+}
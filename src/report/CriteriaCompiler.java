@@ -0,0 +1,184 @@
+package src.report;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import src.entity.Internship;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+
+/**
+ * Compiles a {@link ReportCriteria} into a single predicate over internships.
+ *
+ * <p>
+ * Only the filters that are actually set take part in the compiled predicate,
+ * so an unset filter costs nothing per row. Values that the row-by-row filters
+ * used to recompute for every internship (e.g. the lower-cased title) are
+ * computed once when the predicate is bound.
+ *
+ * <p>
+ * The set of filters present forms the criteria's shape. For every shape the
+ * compiler builds a binder once and caches it; binding a binder to concrete
+ * criteria values then only allocates the few lambdas of that shape.
+ */
+public final class CriteriaCompiler {
+    private static final int TITLE = 1;
+    private static final int MAJOR = 1 << 1;
+    private static final int LEVEL = 1 << 2;
+    private static final int STATUS = 1 << 3;
+    private static final int VISIBILITY = 1 << 4;
+    private static final int COMPANY_REP = 1 << 5;
+    private static final int OPEN_DATE = 1 << 6;
+    private static final int CLOSE_DATE = 1 << 7;
+    private static final int OPEN_ON = 1 << 8;
+    private static final int MIN_SLOTS = 1 << 9;
+
+    private static final Map<Integer, Function<ReportCriteria, Predicate<Internship>>> CACHE = new ConcurrentHashMap<>();
+
+    private CriteriaCompiler() {
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the internships the criteria's
+     * filters accept.
+     *
+     * @param c the `ReportCriteria` to compile
+     * @return the compiled predicate
+     */
+    public static Predicate<Internship> compile(ReportCriteria c) {
+        return CACHE.computeIfAbsent(shapeOf(c), CriteriaCompiler::binderFor).apply(c);
+    }
+
+    /**
+     * Returns the bit mask of the filters set on the criteria.
+     *
+     * @param c the `ReportCriteria` to inspect
+     * @return the shape of the criteria
+     */
+    static int shapeOf(ReportCriteria c) {
+        int shape = 0;
+        if (c.getTitle() != null) shape |= TITLE;
+        if (c.getMajor() != null) shape |= MAJOR;
+        if (c.getLevel() != null) shape |= LEVEL;
+        if (c.getStatus() != null) shape |= STATUS;
+        if (c.getVisibility() != null) shape |= VISIBILITY;
+        if (c.getCompanyRepId() != null) shape |= COMPANY_REP;
+        if (c.getOpenDate() != null) shape |= OPEN_DATE;
+        if (c.getCloseDate() != null) shape |= CLOSE_DATE;
+        if (c.getOpenOn() != null) shape |= OPEN_ON;
+        if (c.getMinSlots() != null) shape |= MIN_SLOTS;
+        return shape;
+    }
+
+    /**
+     * Builds the binder for one shape: a function turning criteria of that
+     * shape into the fused predicate.
+     *
+     * @param shape the filter bit mask
+     * @return the binder for the shape
+     */
+    private static Function<ReportCriteria, Predicate<Internship>> binderFor(int shape) {
+        List<Function<ReportCriteria, Predicate<Internship>>> parts = new ArrayList<>();
+        if ((shape & STATUS) != 0) {
+            parts.add(c -> {
+                InternshipStatus status = c.getStatus();
+                return i -> i.getStatus() == status;
+            });
+        }
+        if ((shape & LEVEL) != 0) {
+            parts.add(c -> {
+                InternshipLevel level = c.getLevel();
+                return i -> i.getLevel() == level;
+            });
+        }
+        if ((shape & VISIBILITY) != 0) {
+            parts.add(c -> {
+                boolean visibility = c.getVisibility();
+                return i -> i.getVisibility() == visibility;
+            });
+        }
+        if ((shape & MIN_SLOTS) != 0) {
+            parts.add(c -> {
+                int minSlots = c.getMinSlots();
+                return i -> i.getNumberOfSlotsLeft() >= minSlots;
+            });
+        }
+        if ((shape & OPEN_DATE) != 0) {
+            parts.add(c -> {
+                LocalDate openDate = c.getOpenDate();
+                return i -> !i.getOpenDate().isBefore(openDate);
+            });
+        }
+        if ((shape & CLOSE_DATE) != 0) {
+            parts.add(c -> {
+                LocalDate closeDate = c.getCloseDate();
+                return i -> !i.getCloseDate().isAfter(closeDate);
+            });
+        }
+        if ((shape & OPEN_ON) != 0) {
+            parts.add(c -> {
+                LocalDate openOn = c.getOpenOn();
+                return i -> i.isOpenOn(openOn);
+            });
+        }
+        if ((shape & MAJOR) != 0) {
+            parts.add(c -> {
+                String major = c.getMajor();
+                return i -> i.getMajor().equalsIgnoreCase(major);
+            });
+        }
+        if ((shape & COMPANY_REP) != 0) {
+            parts.add(c -> {
+                String repId = c.getCompanyRepId();
+                return i -> i.getCompanyRep() != null && i.getCompanyRep().getUserId().equals(repId);
+            });
+        }
+        if ((shape & TITLE) != 0) {
+            parts.add(c -> {
+                String needle = c.getTitle().toLowerCase();
+                return i -> i.getTitleSortKey().contains(needle);
+            });
+        }
+
+        switch (parts.size()) {
+            case 0:
+                return c -> i -> true;
+            case 1:
+                return parts.get(0);
+            case 2: {
+                Function<ReportCriteria, Predicate<Internship>> f0 = parts.get(0), f1 = parts.get(1);
+                return c -> {
+                    Predicate<Internship> p0 = f0.apply(c), p1 = f1.apply(c);
+                    return i -> p0.test(i) && p1.test(i);
+                };
+            }
+            case 3: {
+                Function<ReportCriteria, Predicate<Internship>> f0 = parts.get(0), f1 = parts.get(1),
+                        f2 = parts.get(2);
+                return c -> {
+                    Predicate<Internship> p0 = f0.apply(c), p1 = f1.apply(c), p2 = f2.apply(c);
+                    return i -> p0.test(i) && p1.test(i) && p2.test(i);
+                };
+            }
+            default:
+                return c -> {
+                    // An array rather than a list keeps the per-row loop free of iterators
+                    @SuppressWarnings({ "unchecked", "rawtypes" })
+                    Predicate<Internship>[] ps = new Predicate[parts.size()];
+                    for (int k = 0; k < ps.length; k++) {
+                        ps[k] = parts.get(k).apply(c);
+                    }
+                    return i -> {
+                        for (Predicate<Internship> p : ps) {
+                            if (!p.test(i)) return false;
+                        }
+                        return true;
+                    };
+                };
+        }
+    }
+}
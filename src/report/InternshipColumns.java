@@ -0,0 +1,100 @@
+package src.report;
+
+import java.util.List;
+import src.entity.Internship;
+
+/**
+ * Column-oriented snapshot of the numeric internship fields used by report
+ * filters.
+ *
+ * <p>
+ * Remaining slots, open date and close date are copied into parallel
+ * {@code int} arrays (dates as epoch days) so that numeric filters can scan
+ * contiguous primitive memory with {@link NumericFilterKernel} instead of
+ * dereferencing one object and two {@code LocalDate}s per row. Row {@code r}
+ * of every column describes {@code getRow(r)}.
+ *
+ * <p>
+ * The snapshot reflects the values at the time it was taken. Callers that need
+ * live results re-check the selected rows against the internship objects.
+ */
+public class InternshipColumns {
+    private final Internship[] rows;
+    private final int[] slots;
+    private final int[] openDays;
+    private final int[] closeDays;
+
+    /**
+     * Builds columns directly from primitive arrays. All arrays must have the
+     * same length; {@code rows} may be null when only the numeric columns are
+     * needed (e.g. for benchmarks).
+     *
+     * @param rows      the internship of each row, or null
+     * @param slots     remaining slots per row
+     * @param openDays  open date per row as epoch day
+     * @param closeDays close date per row as epoch day
+     */
+    public InternshipColumns(Internship[] rows, int[] slots, int[] openDays, int[] closeDays) {
+        this.rows = rows;
+        this.slots = slots;
+        this.openDays = openDays;
+        this.closeDays = closeDays;
+    }
+
+    /**
+     * Takes a snapshot of the given internships, in list order.
+     *
+     * @param internships the internships to copy
+     * @return the column snapshot
+     */
+    public static InternshipColumns of(List<Internship> internships) {
+        int n = internships.size();
+        Internship[] rows = internships.toArray(new Internship[n]);
+        int[] slots = new int[n];
+        int[] openDays = new int[n];
+        int[] closeDays = new int[n];
+        for (int r = 0; r < n; r++) {
+            Internship i = rows[r];
+            slots[r] = i.getNumberOfSlotsLeft();
+            openDays[r] = (int) i.getOpenDate().toEpochDay();
+            closeDays[r] = (int) i.getCloseDate().toEpochDay();
+        }
+        return new InternshipColumns(rows, slots, openDays, closeDays);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return row count
+     */
+    public int size() { return slots.length; }
+
+    /**
+     * Returns the internship of a row.
+     *
+     * @param row the row number
+     * @return the internship
+     */
+    public Internship getRow(int row) { return rows[row]; }
+
+    /**
+     * Returns the remaining-slots column.
+     *
+     * @return slots per row
+     */
+    public int[] getSlots() { return slots; }
+
+    /**
+     * Returns the open-date column.
+     *
+     * @return open date per row as epoch day
+     */
+    public int[] getOpenDays() { return openDays; }
+
+    /**
+     * Returns the close-date column.
+     *
+     * @return close date per row as epoch day
+     */
+    public int[] getCloseDays() { return closeDays; }
+}
@@ -0,0 +1,95 @@
+package src.report;
+
+/**
+ * Branch-free filter kernel over the numeric columns of an
+ * {@link InternshipColumns} snapshot.
+ *
+ * <p>
+ * Each row is tested against the bounds
+ * {@code slots >= minSlots}, {@code openLo <= open <= openHi} and
+ * {@code closeLo <= close <= closeHi} with plain arithmetic instead of
+ * branches: every bound is turned into a difference that is negative exactly
+ * when the bound is violated, the differences are OR-ed together and the sign
+ * bit gives the row's verdict. The verdicts are packed 64 rows per
+ * {@code long} word of the selection mask, so a full word is produced without
+ * a single data-dependent branch and the loop is friendly to the JIT's
+ * auto-vectorizer.
+ *
+ * <p>
+ * Unused bounds take {@link Integer#MIN_VALUE} or {@link Integer#MAX_VALUE}
+ * so they always hold.
+ */
+public final class NumericFilterKernel {
+
+    private NumericFilterKernel() {
+    }
+
+    /**
+     * Builds the selection mask for the given bounds. Bit {@code r % 64} of word
+     * {@code r / 64} is set when row {@code r} satisfies every bound.
+     *
+     * @param columns  the column snapshot to scan
+     * @param minSlots minimum remaining slots
+     * @param openLo   earliest open date (epoch day)
+     * @param openHi   latest open date (epoch day)
+     * @param closeLo  earliest close date (epoch day)
+     * @param closeHi  latest close date (epoch day)
+     * @return the selection mask
+     */
+    public static long[] select(InternshipColumns columns, int minSlots, int openLo, int openHi,
+            int closeLo, int closeHi) {
+        int[] slots = columns.getSlots();
+        int[] open = columns.getOpenDays();
+        int[] close = columns.getCloseDays();
+        int n = slots.length;
+        long[] mask = new long[(n + 63) >>> 6];
+
+        for (int base = 0; base < n; base += 64) {
+            int end = Math.min(base + 64, n);
+            long word = 0;
+            for (int r = base; r < end; r++) {
+                long o = open[r];
+                long c = close[r];
+                long violated = ((long) slots[r] - minSlots)
+                        | (o - openLo) | (openHi - o)
+                        | (c - closeLo) | (closeHi - c);
+                word |= ((violated >>> 63) ^ 1L) << (r - base);
+            }
+            mask[base >>> 6] = word;
+        }
+        return mask;
+    }
+
+    /**
+     * Counts the selected rows of a mask.
+     *
+     * @param mask the selection mask
+     * @return number of set bits
+     */
+    public static int count(long[] mask) {
+        int total = 0;
+        for (long word : mask) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the selected row numbers of a mask in ascending order.
+     *
+     * @param mask the selection mask
+     * @return the selected rows
+     */
+    public static int[] rows(long[] mask) {
+        int[] rows = new int[count(mask)];
+        int k = 0;
+        for (int w = 0; w < mask.length; w++) {
+            long word = mask[w];
+            while (word != 0) {
+                rows[k++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return rows;
+    }
+}
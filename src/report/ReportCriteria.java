@@ -1,6 +1,9 @@
 package src.report;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import src.enums.InternshipLevel;
 import src.enums.InternshipStatus;
 import src.enums.ReportSortType;
@@ -22,9 +25,11 @@ public class ReportCriteria {
     private InternshipStatus status;
     private LocalDate openDate;
     private LocalDate closeDate;
+    private LocalDate openOn;
     private Boolean visibility;
     private Integer minSlots; // Minimum number of slots left
-    private ReportSortType sortType;
+    private List<ReportSortType> sortTypes = new ArrayList<>(); // primary first, then tie-breakers
+    private boolean catalogOrderExport;
 
     // ---------- Setters ----------
     /**
@@ -83,6 +88,14 @@ public class ReportCriteria {
      */
     public void setCloseDate(LocalDate closeDate) { this.closeDate = closeDate; }
 
+    /**
+     * Sets the application-window filter: only internships whose open and
+     * close dates enclose this date (inclusive) are included.
+     *
+     * @param openOn date on which the internship must be open for applications
+     */
+    public void setOpenOn(LocalDate openOn) { this.openOn = openOn; }
+
     /**
      * Sets the visibility filter.
      *
@@ -102,7 +115,32 @@ public class ReportCriteria {
      *
      * @param sortType the `ReportSortType` for sorting
      */
-    public void setSortType(ReportSortType sortType) { this.sortType = sortType; }
+    public void setSortType(ReportSortType sortType) { setSortTypes(sortType); }
+
+    /**
+     * Sets a composite sort order for report results. The first type is the
+     * primary ordering; each following type breaks ties left by the ones
+     * before it (e.g. COMPANY then CLOSE_DATE). Null entries are ignored.
+     *
+     * @param sortTypes the `ReportSortType` values in order of precedence
+     */
+    public void setSortTypes(ReportSortType... sortTypes) {
+        this.sortTypes = new ArrayList<>();
+        if (sortTypes == null) return;
+        for (ReportSortType t : sortTypes) {
+            if (t != null && !this.sortTypes.contains(t)) this.sortTypes.add(t);
+        }
+    }
+
+    /**
+     * Sets whether exports are written in catalog order, as matches are found,
+     * instead of in the sort order. An export in sort order holds every match
+     * in memory until it is sorted; one in catalog order does not. Reports
+     * shown on screen are always sorted.
+     *
+     * @param catalogOrderExport true to export in catalog order
+     */
+    public void setCatalogOrderExport(boolean catalogOrderExport) { this.catalogOrderExport = catalogOrderExport; }
 
     // ---------- Helper methods ----------
     /**
@@ -161,6 +199,13 @@ public class ReportCriteria {
      */
     public boolean hasCloseDate() { return closeDate != null; }
 
+    /**
+     * Checks whether an application-window filter is set.
+     *
+     * @return true if openOn is not null
+     */
+    public boolean hasOpenOn() { return openOn != null; }
+
     /**
      * Checks whether a visibility filter is set.
      *
@@ -175,12 +220,55 @@ public class ReportCriteria {
      */
     public boolean hasMinSlots() { return minSlots != null; }
 
+    /**
+     * Checks whether exports skip the sort order.
+     *
+     * @return true if exports are written in catalog order
+     */
+    public boolean isCatalogOrderExport() { return catalogOrderExport; }
+
     /**
      * Returns the sort type, defaulting to TITLE if not set.
      *
      * @return the `ReportSortType` or `ReportSortType.TITLE` if none specified
      */
-    public ReportSortType getSortType() { return sortType != null ? sortType : ReportSortType.TITLE; }
+    public ReportSortType getSortType() { return sortTypes.isEmpty() ? ReportSortType.TITLE : sortTypes.get(0); }
+
+    /**
+     * Returns the full sort order, defaulting to TITLE if none was set.
+     *
+     * @return the `ReportSortType` values in order of precedence
+     */
+    public List<ReportSortType> getSortTypes() {
+        return sortTypes.isEmpty() ? Arrays.asList(ReportSortType.TITLE) : new ArrayList<>(sortTypes);
+    }
+
+    /**
+     * Describes which filters are set and the sort order, without the filter
+     * values, e.g. {@code major,status by COMPANY,CLOSE_DATE}.
+     *
+     * @return the shape of these criteria
+     */
+    public String getShape() {
+        List<String> filters = new ArrayList<>();
+        if (hasTitle()) filters.add("title");
+        if (hasMajor()) filters.add("major");
+        if (hasLevel()) filters.add("level");
+        if (hasCompanyName()) filters.add("company");
+        if (hasCompanyRepId()) filters.add("rep");
+        if (hasInternshipStatus()) filters.add("status");
+        if (hasOpenDate()) filters.add("openDate");
+        if (hasCloseDate()) filters.add("closeDate");
+        if (hasOpenOn()) filters.add("openOn");
+        if (hasVisibility()) filters.add("visibility");
+        if (hasMinSlots()) filters.add("minSlots");
+        StringBuilder shape = new StringBuilder(filters.isEmpty() ? "all" : String.join(",", filters)).append(" by ");
+        List<ReportSortType> order = getSortTypes();
+        for (int i = 0; i < order.size(); i++) {
+            shape.append((i > 0) ? "," : "").append(order.get(i).name());
+        }
+        return shape.toString();
+    }
 
     // ---------- Getters ----------
     /**
@@ -239,6 +327,13 @@ public class ReportCriteria {
      */
     public LocalDate getCloseDate() { return closeDate; }
 
+    /**
+     * Returns the application-window filter.
+     *
+     * @return the date the internship must be open on, or null if not set
+     */
+    public LocalDate getOpenOn() { return openOn; }
+
     /**
      * Returns the visibility filter.
      *
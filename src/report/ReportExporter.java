@@ -0,0 +1,360 @@
+package src.report;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import src.entity.Internship;
+import src.enums.ExportFormat;
+
+/**
+ * Streams internship reports to CSV or JSON files.
+ *
+ * <p>
+ * Rows are pulled one at a time from the report stream and written field by
+ * field into a buffered writer on a file channel, so the exporter itself does
+ * not hold the report and no per-row line String is built. Memory use then
+ * depends on the stream: a report stream in report order holds every match
+ * before the first is written, while one in catalog order (see
+ * {@link ReportCriteria#setCatalogOrderExport}) finds rows as they are
+ * written. Output can
+ * optionally be gzip-compressed. With more than one compression thread the rows
+ * are cut into chunks that are encoded and compressed concurrently and written
+ * in order as consecutive gzip members; standard gzip readers decode the
+ * concatenation as one stream. Only a bounded number of chunks is in flight at
+ * any time.
+ */
+public class ReportExporter {
+    private static final int CHUNK_ROWS = 8_192;
+    private static final String[] CSV_HEADER = { "ID", "Title", "Description", "Level", "Major", "OpenDate",
+            "CloseDate", "SlotsLeft", "Company", "RepID", "Status", "Visibility" };
+
+    private final char[] digits = new char[11];
+
+    /**
+     * Exports the rows to a file, replacing it if it exists.
+     *
+     * @param rows               the internships to export, consumed in order
+     * @param file               the file to write
+     * @param format             CSV or JSON
+     * @param gzip               whether to gzip the output
+     * @param compressionThreads threads used to compress chunks in parallel;
+     *                           1 or less compresses on the calling thread
+     * @return number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public static long export(Stream<Internship> rows, Path file, ExportFormat format, boolean gzip,
+            int compressionThreads) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream out = Channels.newOutputStream(channel)) {
+            if (gzip && compressionThreads > 1) {
+                return exportParallel(rows.iterator(), out, format, compressionThreads);
+            }
+            OutputStream target = gzip ? new GZIPOutputStream(out, 1 << 16) : out;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 1 << 16);
+            ReportExporter encoder = new ReportExporter();
+            long count = 0;
+            encoder.writeStart(writer, format);
+            for (Iterator<Internship> it = rows.iterator(); it.hasNext();) {
+                encoder.writeRow(writer, format, it.next(), count++ == 0);
+            }
+            encoder.writeEnd(writer, format);
+            writer.flush();
+            if (target != out) {
+                ((GZIPOutputStream) target).finish();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Encodes and compresses chunks of rows on a thread pool and writes the
+     * compressed members in order.
+     *
+     * @param rows    the rows to export
+     * @param out     the file output
+     * @param format  CSV or JSON
+     * @param threads number of compression threads
+     * @return number of rows written
+     * @throws IOException if the file cannot be written or a chunk fails
+     */
+    private static long exportParallel(Iterator<Internship> rows, OutputStream out, ExportFormat format,
+            int threads) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ArrayDeque<Future<byte[]>> inFlight = new ArrayDeque<>();
+        long count = 0;
+        try {
+            inFlight.add(pool.submit(() -> compress(null, format, true, false)));
+            while (rows.hasNext()) {
+                List<Internship> chunk = new ArrayList<>(CHUNK_ROWS);
+                while (rows.hasNext() && chunk.size() < CHUNK_ROWS) {
+                    chunk.add(rows.next());
+                }
+                boolean first = count == 0;
+                count += chunk.size();
+                inFlight.add(pool.submit(() -> compress(chunk, format, false, first)));
+                while (inFlight.size() > threads * 2) {
+                    out.write(inFlight.poll().get());
+                }
+            }
+            inFlight.add(pool.submit(() -> compress(null, format, false, false)));
+            while (!inFlight.isEmpty()) {
+                out.write(inFlight.poll().get());
+            }
+            return count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to compress export chunk", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Encodes one chunk as a complete gzip member. A null chunk encodes the
+     * document start (if {@code start}) or end.
+     *
+     * @param chunk    rows of the chunk, or null for the start/end member
+     * @param format   CSV or JSON
+     * @param start    whether a null chunk is the document start
+     * @param firstRow whether the chunk holds the first row of the document
+     * @return the compressed bytes
+     * @throws IOException never for in-memory output
+     */
+    private static byte[] compress(List<Internship> chunk, ExportFormat format, boolean start, boolean firstRow)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GZIPOutputStream gz = new GZIPOutputStream(bytes, 1 << 16);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gz, StandardCharsets.UTF_8), 1 << 16);
+        ReportExporter encoder = new ReportExporter();
+        if (chunk == null) {
+            if (start) encoder.writeStart(writer, format);
+            else encoder.writeEnd(writer, format);
+        } else {
+            boolean first = firstRow;
+            for (Internship i : chunk) {
+                encoder.writeRow(writer, format, i, first);
+                first = false;
+            }
+        }
+        writer.flush();
+        gz.finish();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the CSV header row or the opening bracket of the JSON array.
+     *
+     * @param w      the output
+     * @param format CSV or JSON
+     * @throws IOException if writing fails
+     */
+    private void writeStart(Writer w, ExportFormat format) throws IOException {
+        if (format == ExportFormat.JSON) {
+            w.write('[');
+            return;
+        }
+        for (int f = 0; f < CSV_HEADER.length; f++) {
+            if (f > 0) w.write(',');
+            w.write(CSV_HEADER[f]);
+        }
+        w.write('\n');
+    }
+
+    /**
+     * Writes the closing bracket of the JSON array; CSV has no trailer.
+     *
+     * @param w      the output
+     * @param format CSV or JSON
+     * @throws IOException if writing fails
+     */
+    private void writeEnd(Writer w, ExportFormat format) throws IOException {
+        if (format == ExportFormat.JSON) {
+            w.write("]\n");
+        }
+    }
+
+    /**
+     * Writes one internship as a CSV line or JSON object.
+     *
+     * @param w      the output
+     * @param format CSV or JSON
+     * @param i      the internship
+     * @param first  whether this is the first row of the document
+     * @throws IOException if writing fails
+     */
+    private void writeRow(Writer w, ExportFormat format, Internship i, boolean first) throws IOException {
+        String company = (i.getCompanyRep() != null) ? i.getCompanyRep().getCompanyName() : null;
+        String repId = (i.getCompanyRep() != null) ? i.getCompanyRep().getUserId() : null;
+        if (format == ExportFormat.CSV) {
+            csv(w, i.getInternshipId()); w.write(',');
+            csv(w, i.getTitle()); w.write(',');
+            csv(w, i.getDescription()); w.write(',');
+            csv(w, (i.getLevel() != null) ? i.getLevel().name() : null); w.write(',');
+            csv(w, i.getMajor()); w.write(',');
+            date(w, i.getOpenDate()); w.write(',');
+            date(w, i.getCloseDate()); w.write(',');
+            number(w, i.getNumberOfSlotsLeft()); w.write(',');
+            csv(w, company); w.write(',');
+            csv(w, repId); w.write(',');
+            csv(w, (i.getStatus() != null) ? i.getStatus().name() : null); w.write(',');
+            w.write(i.getVisibility() ? "true" : "false");
+            w.write('\n');
+            return;
+        }
+        w.write(first ? "\n{" : ",\n{");
+        w.write("\"id\":"); json(w, i.getInternshipId());
+        w.write(",\"title\":"); json(w, i.getTitle());
+        w.write(",\"description\":"); json(w, i.getDescription());
+        w.write(",\"level\":"); json(w, (i.getLevel() != null) ? i.getLevel().name() : null);
+        w.write(",\"major\":"); json(w, i.getMajor());
+        w.write(",\"openDate\":"); jsonDate(w, i.getOpenDate());
+        w.write(",\"closeDate\":"); jsonDate(w, i.getCloseDate());
+        w.write(",\"slotsLeft\":"); number(w, i.getNumberOfSlotsLeft());
+        w.write(",\"company\":"); json(w, company);
+        w.write(",\"repId\":"); json(w, repId);
+        w.write(",\"status\":"); json(w, (i.getStatus() != null) ? i.getStatus().name() : null);
+        w.write(",\"visibility\":"); w.write(i.getVisibility() ? "true" : "false");
+        w.write('}');
+    }
+
+    /**
+     * Writes a CSV field, quoting it if it contains a comma, quote or line break.
+     *
+     * @param w     the output
+     * @param value the field value; null is written as an empty field
+     * @throws IOException if writing fails
+     */
+    private static void csv(Writer w, String value) throws IOException {
+        if (value == null) return;
+        boolean quote = false;
+        for (int k = 0; k < value.length() && !quote; k++) {
+            char ch = value.charAt(k);
+            quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+        }
+        if (!quote) {
+            w.write(value);
+            return;
+        }
+        w.write('"');
+        for (int k = 0; k < value.length(); k++) {
+            char ch = value.charAt(k);
+            if (ch == '"') w.write('"');
+            w.write(ch);
+        }
+        w.write('"');
+    }
+
+    /**
+     * Writes a JSON string literal, or {@code null}.
+     *
+     * @param w     the output
+     * @param value the string value
+     * @throws IOException if writing fails
+     */
+    private static void json(Writer w, String value) throws IOException {
+        if (value == null) {
+            w.write("null");
+            return;
+        }
+        w.write('"');
+        for (int k = 0; k < value.length(); k++) {
+            char ch = value.charAt(k);
+            switch (ch) {
+                case '"' -> w.write("\\\"");
+                case '\\' -> w.write("\\\\");
+                case '\n' -> w.write("\\n");
+                case '\r' -> w.write("\\r");
+                case '\t' -> w.write("\\t");
+                default -> {
+                    if (ch < 0x20) {
+                        w.write("\\u00");
+                        w.write(Character.forDigit(ch >> 4, 16));
+                        w.write(Character.forDigit(ch & 0xF, 16));
+                    } else {
+                        w.write(ch);
+                    }
+                }
+            }
+        }
+        w.write('"');
+    }
+
+    /**
+     * Writes a date as a JSON string, or {@code null}.
+     *
+     * @param w    the output
+     * @param date the date, or null
+     * @throws IOException if writing fails
+     */
+    private void jsonDate(Writer w, LocalDate date) throws IOException {
+        if (date == null) {
+            w.write("null");
+            return;
+        }
+        w.write('"');
+        date(w, date);
+        w.write('"');
+    }
+
+    /**
+     * Writes a date as {@code yyyy-MM-dd} without formatting it to a String.
+     *
+     * @param w    the output
+     * @param date the date; null writes nothing
+     * @throws IOException if writing fails
+     */
+    private void date(Writer w, LocalDate date) throws IOException {
+        if (date == null) return;
+        number(w, date.getYear());
+        w.write(date.getMonthValue() < 10 ? "-0" : "-");
+        number(w, date.getMonthValue());
+        w.write(date.getDayOfMonth() < 10 ? "-0" : "-");
+        number(w, date.getDayOfMonth());
+    }
+
+    /**
+     * Writes a decimal integer using a reused digit buffer.
+     *
+     * @param w     the output
+     * @param value the number
+     * @throws IOException if writing fails
+     */
+    private void number(Writer w, int value) throws IOException {
+        if (value == Integer.MIN_VALUE) {
+            w.write(Integer.toString(value));
+            return;
+        }
+        if (value < 0) {
+            w.write('-');
+            value = -value;
+        }
+        int pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        w.write(digits, pos, digits.length - pos);
+    }
+}
@@ -1,20 +1,41 @@
 package src.report;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Comparator;
-import java.util.stream.Collectors;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import src.entity.CompanyRepresentative;
 import src.entity.Internship;
+import src.enums.ReportGroupBy;
+import src.enums.ReportSortType;
 import src.DataStore;
+import src.monitor.ReportEvent;
+import src.store.CodeDictionary;
+import src.store.InternshipTable;
 
 /**
  * Generates internship reports by filtering and sorting based on specified criteria.
  *
  * <p>Uses Java streams to apply multiple filters (title, major, level, status,
  * visibility, company, dates, slots) and sorts results by various fields.
+ * Catalogs at or above the parallel threshold are evaluated with a parallel
+ * stream: the fork/join pool filters chunks of the list concurrently and the
+ * sorted runs are merged back. Because the stream stays ordered and the sort
+ * is stable, the result is identical to the sequential path.
  */
 public class ReportGenerator {
 
+    /**
+     * Default number of internships at which report evaluation switches to a
+     * parallel stream. Below this the fork/join overhead outweighs the gain.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20_000;
+
     private DataStore dataStore;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 
     /**
      * Constructs the ReportGenerator and acquires the shared `DataStore` instance.
@@ -23,77 +44,431 @@ public class ReportGenerator {
         this.dataStore = DataStore.getInstance();
     }
 
+    /**
+     * Sets the catalog size at which reports are evaluated in parallel. Use
+     * {@link Integer#MAX_VALUE} to always run sequentially, or 0 to always run
+     * in parallel.
+     *
+     * @param parallelThreshold minimum number of internships for the parallel path
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Returns the catalog size at which reports are evaluated in parallel.
+     *
+     * @return the parallel threshold
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
     /**
      * Generates a filtered and sorted report of internships based on the provided criteria.
      *
      * <p>Filters are applied for title (substring match), major, level, status,
-     * visibility, company representative, open/close dates, and minimum slots.
+     * visibility, company representative, open/close dates, open-on date, and
+     * minimum slots.
      * Results are sorted according to the specified sort type (defaults to title).
      *
      * @param c the `ReportCriteria` specifying filters and sort order
      * @return a `List<Internship>` matching the criteria and sorted as requested
      */
     public List<Internship> generateReport(ReportCriteria c) {
-        return dataStore.getInternshipList().stream()
+        return generateReport(candidates(c), c);
+    }
 
-            // Title contains
-            .filter(i -> c.getTitle() == null ||
-                         i.getTitle().toLowerCase().contains(c.getTitle().toLowerCase()))
+    /**
+     * Generates a filtered and sorted report over the given internships rather
+     * than the shared `DataStore` catalog.
+     *
+     * @param internships the internships to report on
+     * @param c           the `ReportCriteria` specifying filters and sort order
+     * @return a `List<Internship>` matching the criteria and sorted as requested
+     */
+    public List<Internship> generateReport(List<Internship> internships, ReportCriteria c) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        return filterAndSort(internships, c, event, "objects", internships.size());
+    }
 
-            // Major filter
-            .filter(i -> c.getMajor() == null ||
-                         i.getMajor().equalsIgnoreCase(c.getMajor()))
+    /**
+     * Returns the report for the criteria as a lazy stream, for consumers such
+     * as {@link ReportExporter} that write rows out one at a time instead of
+     * holding the whole result list.
+     *
+     * <p>The stream is in report order, by the criteria's sort order or TITLE
+     * by default, and has to hold all matches before it can return the first
+     * one. If the criteria ask for a catalog order export, the matches are
+     * streamed in catalog order as they are found instead, so memory use does
+     * not depend on the report size.
+     *
+     * @param c the `ReportCriteria` specifying filters and sort order
+     * @return the matching internships, in report order unless the criteria
+     *         ask for a catalog order export
+     */
+    public Stream<Internship> streamReport(ReportCriteria c) {
+        Stream<Internship> matches = filter(source(candidates(c)), c);
+        return c.isCatalogOrderExport() ? matches : matches.sorted(getComparator(c));
+    }
 
-            // Level filter
-            .filter(i -> c.getLevel() == null ||
-                         i.getLevel() == c.getLevel())
+    /**
+     * Generates a filtered and sorted report over a column snapshot.
+     *
+     * <p>The slot and date filters are evaluated first by
+     * {@link NumericFilterKernel} over the primitive columns; only the rows it
+     * selects are then checked against the full criteria on the live
+     * internship objects and sorted. Internships whose numeric fields changed
+     * after the snapshot was taken are judged by their snapshot values in the
+     * first step.
+     *
+     * @param columns the column snapshot to report on
+     * @param c       the `ReportCriteria` specifying filters and sort order
+     * @return a `List<Internship>` matching the criteria and sorted as requested
+     */
+    public List<Internship> generateReport(InternshipColumns columns, ReportCriteria c) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        int openLo = Integer.MIN_VALUE, openHi = Integer.MAX_VALUE;
+        int closeLo = Integer.MIN_VALUE, closeHi = Integer.MAX_VALUE;
+        if (c.getOpenDate() != null) openLo = (int) c.getOpenDate().toEpochDay();
+        if (c.getCloseDate() != null) closeHi = (int) c.getCloseDate().toEpochDay();
+        if (c.getOpenOn() != null) {
+            int day = (int) c.getOpenOn().toEpochDay();
+            openHi = day;
+            closeLo = day;
+        }
+        int minSlots = (c.getMinSlots() != null) ? c.getMinSlots() : Integer.MIN_VALUE;
 
-            // Status filter
-            .filter(i -> c.getStatus() == null ||
-                         i.getStatus() == c.getStatus())
+        long[] mask = NumericFilterKernel.select(columns, minSlots, openLo, openHi, closeLo, closeHi);
+        List<Internship> selected = new ArrayList<>(NumericFilterKernel.count(mask));
+        for (int row : NumericFilterKernel.rows(mask)) {
+            selected.add(columns.getRow(row));
+        }
+        return filterAndSort(selected, c, event, "columns", columns.size());
+    }
 
-            // Visibility filter
-            .filter(i -> c.getVisibility() == null ||
-                         i.getVisibility() == c.getVisibility())
+    /**
+     * Generates a filtered and sorted report over a columnar
+     * {@link InternshipTable}.
+     *
+     * <p>Every filter is evaluated on the table's primitive columns: enum
+     * fields compare ordinals, dates compare epoch days, and the title and
+     * major filters are resolved once per dictionary code rather than once
+     * per row. Sorting compares the same columns, and titles by their
+     * lower-cased dictionary values. Apart from the result array and the
+     * per-code tables, the scan allocates nothing per row. The result matches
+     * {@link #generateReport(List, ReportCriteria)} over the same internships.
+     *
+     * @param table the internship table to report on
+     * @param c     the `ReportCriteria` specifying filters and sort order
+     * @return the matching rows of the table, in report order
+     */
+    public int[] generateReport(InternshipTable table, ReportCriteria c) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        int status = (c.getStatus() != null) ? c.getStatus().ordinal() : -1;
+        int level = (c.getLevel() != null) ? c.getLevel().ordinal() : -1;
+        int visibility = (c.getVisibility() != null) ? (c.getVisibility() ? 1 : 0) : -1;
+        int minSlots = (c.getMinSlots() != null) ? c.getMinSlots() : Integer.MIN_VALUE;
+        int openLo = Integer.MIN_VALUE, openHi = Integer.MAX_VALUE;
+        int closeLo = Integer.MIN_VALUE, closeHi = Integer.MAX_VALUE;
+        if (c.getOpenDate() != null) openLo = (int) c.getOpenDate().toEpochDay();
+        if (c.getCloseDate() != null) closeHi = (int) c.getCloseDate().toEpochDay();
+        if (c.getOpenOn() != null) {
+            int day = (int) c.getOpenOn().toEpochDay();
+            openHi = Math.min(openHi, day);
+            closeLo = day;
+        }
+        boolean[] majorOk = null;
+        if (c.getMajor() != null) {
+            CodeDictionary majors = table.getMajors();
+            majorOk = new boolean[majors.size()];
+            for (int code = 0; code < majorOk.length; code++) {
+                majorOk[code] = majors.decode(code).equalsIgnoreCase(c.getMajor());
+            }
+        }
+        boolean[] titleOk = null;
+        if (c.getTitle() != null) {
+            String needle = c.getTitle().toLowerCase();
+            CodeDictionary titles = table.getTitles();
+            titleOk = new boolean[titles.size()];
+            for (int code = 0; code < titleOk.length; code++) {
+                titleOk[code] = titles.lower(code).contains(needle);
+            }
+        }
+        String repId = c.getCompanyRepId();
+        int lastRepKey = -1;
+        boolean lastRepOk = false; // rows of one representative are usually adjacent
 
-            // Filter by CompanyRep ID
-            .filter(i -> c.getCompanyRepId() == null ||
-                (i.getCompanyRep() != null &&
-                 i.getCompanyRep().getUserId().equals(c.getCompanyRepId())))
+        int[] rows = new int[table.size()];
+        int n = 0;
+        for (int r = 0; r < rows.length; r++) {
+            if (status >= 0 && table.statusAt(r) != status) continue;
+            if (level >= 0 && table.levelAt(r) != level) continue;
+            if (visibility >= 0 && (table.visibleAt(r) ? 1 : 0) != visibility) continue;
+            if (table.slotsAt(r) < minSlots) continue;
+            int open = table.openDayAt(r), close = table.closeDayAt(r);
+            if (open < openLo || open > openHi || close < closeLo || close > closeHi) continue;
+            if (majorOk != null && (table.majorCodeAt(r) < 0 || !majorOk[table.majorCodeAt(r)])) continue;
+            if (repId != null) {
+                int repKey = table.repKeyAt(r);
+                if (repKey != lastRepKey) {
+                    CompanyRepresentative rep = CompanyRepresentative.forKey(repKey);
+                    lastRepKey = repKey;
+                    lastRepOk = rep != null && rep.getUserId().equals(repId);
+                }
+                if (!lastRepOk) continue;
+            }
+            if (titleOk != null && (table.titleCodeAt(r) < 0 || !titleOk[table.titleCodeAt(r)])) continue;
+            rows[n++] = r;
+        }
+        rows = Arrays.copyOf(rows, n);
+        long sortStart = event.isEnabled() ? System.nanoTime() : 0L;
+        sortRows(rows, getRowComparator(table, c));
+        commit(event, c, "table", table.size(), n, sortStart);
+        return rows;
+    }
 
-            // Open date filter
-            .filter(i -> c.getOpenDate() == null ||
-                         !i.getOpenDate().isBefore(c.getOpenDate()))
+    /**
+     * Generates a grouped summary of the internships matching the criteria.
+     *
+     * <p>Matching internships are grouped on the requested dimensions in a single
+     * pass; each group keeps a posting count, the total of remaining slots and the
+     * earliest/latest close date. Groups are looked up by the dimension values
+     * packed into a primitive key, so only the first row of a group allocates.
+     * On large catalogs the pass runs in parallel and the per-thread partial
+     * groups are merged. Groups are returned ordered by
+     * their key values. The sort types of the criteria are ignored.
+     *
+     * @param c       the `ReportCriteria` specifying filters
+     * @param groupBy the dimensions to group on, outermost first
+     * @return the `ReportGroup` rows of the summary
+     */
+    public List<ReportGroup> generateSummary(ReportCriteria c, ReportGroupBy... groupBy) {
+        return generateSummary(candidates(c), c, groupBy);
+    }
 
-            // Close date filter
-            .filter(i -> c.getCloseDate() == null ||
-                         !i.getCloseDate().isAfter(c.getCloseDate()))
+    /**
+     * Generates a grouped summary over the given internships rather than the
+     * shared `DataStore` catalog.
+     *
+     * @param internships the internships to summarise
+     * @param c           the `ReportCriteria` specifying filters
+     * @param groupBy     the dimensions to group on, outermost first
+     * @return the `ReportGroup` rows of the summary
+     */
+    public List<ReportGroup> generateSummary(List<Internship> internships, ReportCriteria c,
+            ReportGroupBy... groupBy) {
+        SummaryAccumulator groups = filter(source(internships), c)
+            .collect(Collector.of(
+                () -> new SummaryAccumulator(groupBy, internships.size()),
+                SummaryAccumulator::add,
+                SummaryAccumulator::merge));
 
-            // Slots >= minSlots
-            .filter(i -> c.getMinSlots() == null ||
-                         i.getNumberOfSlotsLeft() >= c.getMinSlots())
+        List<ReportGroup> rows = groups.groups();
+        rows.sort(null);
+        return rows;
+    }
 
-            // Sorting
-            .sorted(getComparator(c))
+    /**
+     * Filters the internships and sorts the matches. Large catalogs are
+     * filtered with a parallel stream and sorted with a parallel merge sort;
+     * both keep the order of equal elements, so the result matches the
+     * sequential path.
+     *
+     * @param internships the internships to report on
+     * @param c           the criteria
+     * @param event       the begun report event
+     * @param source      the representation reported on, for the event
+     * @param scanned     rows the report looked at, for the event
+     * @return the matching internships in report order
+     */
+    private List<Internship> filterAndSort(List<Internship> internships, ReportCriteria c, ReportEvent event,
+            String source, int scanned) {
+        Internship[] matched = filter(source(internships), c).toArray(Internship[]::new);
 
-            .collect(Collectors.toList());
+        // Sorting
+        long sortStart = event.isEnabled() ? System.nanoTime() : 0L;
+        if (internships.size() >= parallelThreshold) {
+            Arrays.parallelSort(matched, getComparator(c));
+        } else {
+            Arrays.sort(matched, getComparator(c));
+        }
+        commit(event, c, source, scanned, matched.length, sortStart);
+        return new ArrayList<>(Arrays.asList(matched));
+    }
+
+    /**
+     * Ends a report event and commits it if a recording wants it.
+     *
+     * @param event     the begun event
+     * @param c         the criteria
+     * @param source    the representation reported on
+     * @param scanned   rows looked at
+     * @param returned  rows returned
+     * @param sortStart {@code System.nanoTime()} before sorting, or 0
+     */
+    private static void commit(ReportEvent event, ReportCriteria c, String source, int scanned, int returned,
+            long sortStart) {
+        long sortTime = (sortStart != 0L) ? System.nanoTime() - sortStart : 0L;
+        event.end();
+        if (event.shouldCommit()) {
+            event.criteria = c.getShape();
+            event.source = source;
+            event.scanned = scanned;
+            event.returned = returned;
+            event.sortTime = sortTime;
+            event.commit();
+        }
+    }
+
+    /**
+     * Narrows the `DataStore` catalog to the internships that can possibly
+     * match the criteria using the available indexes. A title filter of three
+     * or more characters is answered by the trigram index and date filters by
+     * the date-window index; when both apply the smaller candidate list is
+     * used. Without such filters the whole catalog is returned. Candidates keep
+     * catalog order, and every filter is still applied to them afterwards.
+     *
+     * @param c the `ReportCriteria` specifying filters
+     * @return the internships to run the filters over
+     */
+    private List<Internship> candidates(ReportCriteria c) {
+        List<Internship> best = null;
+        if (c.getTitle() != null) {
+            best = dataStore.getTitleIndex().findContaining(c.getTitle());
+        }
+        if (c.getOpenOn() != null || c.getOpenDate() != null || c.getCloseDate() != null) {
+            List<Internship> byDate = dataStore.getDateIndex().find(c.getOpenOn(), c.getOpenDate(), c.getCloseDate());
+            if (best == null || byDate.size() < best.size()) {
+                best = byDate;
+            }
+        }
+        return (best != null) ? best : dataStore.getInternshipList();
+    }
+
+    /**
+     * Returns a sequential or parallel stream over the internships depending on
+     * the parallel threshold.
+     *
+     * @param internships the internships to stream
+     * @return a stream over the internships, in list order
+     */
+    private Stream<Internship> source(List<Internship> internships) {
+        return internships.size() >= parallelThreshold
+                ? internships.parallelStream()
+                : internships.stream();
     }
 
     /**
-     * Provides a comparator for sorting internships based on the specified sort type.
+     * Applies every filter of the criteria to the stream. The filters are
+     * compiled into one predicate by {@link CriteriaCompiler}, which skips the
+     * filters that are not set.
+     *
+     * @param source the internships to filter
+     * @param c      the `ReportCriteria` specifying filters
+     * @return the stream of matching internships, in source order
+     */
+    private Stream<Internship> filter(Stream<Internship> source, ReportCriteria c) {
+        return source.filter(CriteriaCompiler.compile(c));
+    }
+
+    /**
+     * Provides a comparator for sorting internships based on the specified sort types.
      *
      * <p>Supports sorting by title (default), company name, open date, close date,
-     * or remaining slots. Comparisons are case-insensitive for text fields.
+     * or remaining slots. When several sort types are given, each later type breaks
+     * ties left by the earlier ones. Text fields are compared case-insensitively
+     * using the lower-cased keys cached on the entities.
      *
-     * @param c the `ReportCriteria` specifying the desired sort type
+     * @param c the `ReportCriteria` specifying the desired sort types
      * @return a `Comparator<Internship>` for the requested sort order
      */
     private Comparator<Internship> getComparator(ReportCriteria c) {
-        if (c.getSortType() == null) return Comparator.comparing(i -> i.getTitle().toLowerCase());
+        Comparator<Internship> comparator = null;
+        for (ReportSortType type : c.getSortTypes()) {
+            Comparator<Internship> next = getComparator(type);
+            comparator = (comparator == null) ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    /**
+     * Provides a row comparator over an {@link InternshipTable} for the
+     * specified sort types, ordering rows exactly like
+     * {@link #getComparator(ReportCriteria)} orders internships.
+     *
+     * @param table the internship table
+     * @param c     the `ReportCriteria` specifying the desired sort types
+     * @return a comparator of row numbers
+     */
+    private IntBinaryOperator getRowComparator(InternshipTable table, ReportCriteria c) {
+        List<ReportSortType> types = c.getSortTypes();
+        IntBinaryOperator[] parts = new IntBinaryOperator[types.size()];
+        for (int k = 0; k < parts.length; k++) {
+            parts[k] = switch (types.get(k)) {
+                case TITLE -> {
+                    CodeDictionary titles = table.getTitles();
+                    yield (a, b) -> titles.lower(table.titleCodeAt(a)).compareTo(titles.lower(table.titleCodeAt(b)));
+                }
+                case COMPANY -> {
+                    CodeDictionary companies = table.getCompanies();
+                    yield (a, b) -> companies.decode(table.companyCodeAt(a))
+                            .compareTo(companies.decode(table.companyCodeAt(b)));
+                }
+                case OPEN_DATE -> (a, b) -> Integer.compare(table.openDayAt(a), table.openDayAt(b));
+                case CLOSE_DATE -> (a, b) -> Integer.compare(table.closeDayAt(a), table.closeDayAt(b));
+                case SLOTS_LEFT -> (a, b) -> Integer.compare(table.slotsAt(a), table.slotsAt(b));
+            };
+        }
+        if (parts.length == 1) {
+            return parts[0];
+        }
+        return (a, b) -> {
+            for (IntBinaryOperator part : parts) {
+                int cmp = part.applyAsInt(a, b);
+                if (cmp != 0) return cmp;
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Sorts row numbers with a stable merge sort, so rows that compare equal
+     * keep table order as the stream sort keeps list order.
+     *
+     * @param rows       the rows to sort in place
+     * @param comparator the row comparator
+     */
+    private static void sortRows(int[] rows, IntBinaryOperator comparator) {
+        int[] buffer = new int[rows.length];
+        for (int width = 1; width < rows.length; width *= 2) {
+            for (int lo = 0; lo < rows.length - width; lo += 2 * width) {
+                int mid = lo + width, hi = Math.min(lo + 2 * width, rows.length);
+                if (comparator.applyAsInt(rows[mid - 1], rows[mid]) <= 0) continue; // already ordered
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi) {
+                    buffer[k++] = (comparator.applyAsInt(rows[j], rows[i]) < 0) ? rows[j++] : rows[i++];
+                }
+                while (i < mid) buffer[k++] = rows[i++];
+                while (j < hi) buffer[k++] = rows[j++];
+                System.arraycopy(buffer, lo, rows, lo, hi - lo);
+            }
+        }
+    }
 
-        return switch (c.getSortType()) {
-            case TITLE -> Comparator.comparing(i -> i.getTitle().toLowerCase());
-            case COMPANY -> Comparator.comparing(i -> i.getCompanyRep().getCompanyName().toLowerCase());
+    /**
+     * Provides a comparator for a single sort type.
+     *
+     * @param type the `ReportSortType` to sort by
+     * @return a `Comparator<Internship>` for that field
+     */
+    private Comparator<Internship> getComparator(ReportSortType type) {
+        return switch (type) {
+            case TITLE -> Comparator.comparing(Internship::getTitleSortKey);
+            case COMPANY -> Comparator.comparing(i -> i.getCompanyRep().getCompanyNameSortKey());
             case OPEN_DATE -> Comparator.comparing(Internship::getOpenDate);
             case CLOSE_DATE -> Comparator.comparing(Internship::getCloseDate);
             case SLOTS_LEFT -> Comparator.comparingInt(Internship::getNumberOfSlotsLeft);
@@ -0,0 +1,182 @@
+package src.report;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import src.entity.Internship;
+import src.enums.ReportGroupBy;
+
+/**
+ * One row of a grouped summary report.
+ *
+ * <p>Holds the values of the grouping dimensions together with aggregates over
+ * the internships in the group: number of postings, total remaining slots and
+ * the earliest and latest close date. Aggregates are kept in primitive fields
+ * (dates as epoch days) so adding a posting does not allocate.
+ */
+public class ReportGroup implements Comparable<ReportGroup> {
+
+    private final ReportGroupBy[] dimensions;
+    private final List<Object> key;
+    private int count;
+    private long totalSlots;
+    private long minCloseEpochDay = Long.MAX_VALUE;
+    private long maxCloseEpochDay = Long.MIN_VALUE;
+
+    /**
+     * Constructs an empty group for the given key.
+     *
+     * @param dimensions the grouping dimensions, outermost first
+     * @param key        the dimension values identifying this group
+     */
+    ReportGroup(ReportGroupBy[] dimensions, List<Object> key) {
+        this.dimensions = dimensions;
+        this.key = key;
+    }
+
+    /**
+     * Builds the group key of an internship for the given dimensions.
+     *
+     * @param i          the internship
+     * @param dimensions the grouping dimensions
+     * @return the list of dimension values
+     */
+    static List<Object> keyOf(Internship i, ReportGroupBy[] dimensions) {
+        List<Object> key = new ArrayList<>(dimensions.length);
+        for (ReportGroupBy d : dimensions) {
+            key.add(switch (d) {
+                case COMPANY -> i.getCompanyRep().getCompanyName();
+                case MAJOR -> i.getMajor();
+                case LEVEL -> i.getLevel();
+                case STATUS -> i.getStatus();
+            });
+        }
+        return key;
+    }
+
+    /**
+     * Adds an internship to the aggregates of this group.
+     *
+     * @param i the internship to add
+     */
+    void add(Internship i) {
+        count++;
+        totalSlots += i.getNumberOfSlotsLeft();
+        if (i.getCloseDate() != null) {
+            long close = i.getCloseDate().toEpochDay();
+            if (close < minCloseEpochDay) minCloseEpochDay = close;
+            if (close > maxCloseEpochDay) maxCloseEpochDay = close;
+        }
+    }
+
+    /**
+     * Folds the aggregates of another partial group with the same key into
+     * this one.
+     *
+     * @param other the partial group to merge
+     * @return this group
+     */
+    ReportGroup merge(ReportGroup other) {
+        count += other.count;
+        totalSlots += other.totalSlots;
+        minCloseEpochDay = Math.min(minCloseEpochDay, other.minCloseEpochDay);
+        maxCloseEpochDay = Math.max(maxCloseEpochDay, other.maxCloseEpochDay);
+        return this;
+    }
+
+    /**
+     * Returns the grouping dimensions.
+     *
+     * @return the dimensions, outermost first
+     */
+    public List<ReportGroupBy> getDimensions() { return Arrays.asList(dimensions); }
+
+    /**
+     * Returns the dimension values of this group, in the same order as
+     * {@link #getDimensions()}.
+     *
+     * @return the group key
+     */
+    public List<Object> getKey() { return key; }
+
+    /**
+     * Returns the number of internships in the group.
+     *
+     * @return posting count
+     */
+    public int getCount() { return count; }
+
+    /**
+     * Returns the total number of remaining slots across the group.
+     *
+     * @return sum of slots left
+     */
+    public long getTotalSlots() { return totalSlots; }
+
+    /**
+     * Returns the earliest close date in the group.
+     *
+     * @return earliest close date, or null if no internship had one
+     */
+    public LocalDate getMinCloseDate() {
+        return minCloseEpochDay == Long.MAX_VALUE ? null : LocalDate.ofEpochDay(minCloseEpochDay);
+    }
+
+    /**
+     * Returns the latest close date in the group.
+     *
+     * @return latest close date, or null if no internship had one
+     */
+    public LocalDate getMaxCloseDate() {
+        return maxCloseEpochDay == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(maxCloseEpochDay);
+    }
+
+    /**
+     * Orders groups by their key values, dimension by dimension.
+     *
+     * @param other the group to compare to
+     * @return negative, zero or positive as this group sorts before, with or after
+     */
+    @Override
+    public int compareTo(ReportGroup other) {
+        return compareKeys(key, other.key);
+    }
+
+    /**
+     * Compares two group keys value by value. Nulls sort first.
+     *
+     * @param left  first key
+     * @param right second key
+     * @return negative, zero or positive as the first key sorts before, with or after
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static int compareKeys(List<Object> left, List<Object> right) {
+        for (int d = 0; d < left.size(); d++) {
+            Comparable a = (Comparable) left.get(d);
+            Comparable b = (Comparable) right.get(d);
+            if (a == b) continue;
+            if (a == null) return -1;
+            if (b == null) return 1;
+            int cmp = a.compareTo(b);
+            if (cmp != 0) return cmp;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns a string representation of the group.
+     *
+     * @return the key values followed by the aggregates
+     */
+    @Override
+    public String toString() {
+        return "ReportGroup{" +
+                "key=" + key +
+                ", count=" + count +
+                ", totalSlots=" + totalSlots +
+                ", minCloseDate=" + getMinCloseDate() +
+                ", maxCloseDate=" + getMaxCloseDate() +
+                '}';
+    }
+}
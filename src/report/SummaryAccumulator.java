@@ -0,0 +1,192 @@
+package src.report;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import src.entity.Internship;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+import src.enums.ReportGroupBy;
+
+/**
+ * Collects internships into {@link ReportGroup}s for a summary report.
+ *
+ * <p>The dimension values of a row are turned into small codes (enum ordinals,
+ * and per-accumulator dictionary codes for company names and majors) and packed
+ * into one {@code long} in mixed radix. Groups are found by that key in an
+ * open-addressing table of primitive keys, so only the first row of each group
+ * allocates. If the codes of all dimensions cannot fit a {@code long}, which
+ * only happens with repeated text dimensions on very large inputs, groups are
+ * kept by their list of values instead.
+ */
+final class SummaryAccumulator {
+    private static final long EMPTY = -1L;
+
+    private final ReportGroupBy[] dimensions;
+    private final long[] radix;
+    private final List<Map<String, Integer>> codes;
+    private final boolean packed;
+
+    private long[] keys = new long[16];
+    private ReportGroup[] groups = new ReportGroup[16];
+    private int size;
+    private Map<List<Object>, ReportGroup> byValues;
+
+    /**
+     * Creates an empty accumulator.
+     *
+     * @param dimensions the grouping dimensions, outermost first
+     * @param maxRows    upper bound of the rows that will be added, which
+     *                   bounds the distinct values of a text dimension
+     */
+    SummaryAccumulator(ReportGroupBy[] dimensions, int maxRows) {
+        this.dimensions = dimensions;
+        this.radix = new long[dimensions.length];
+        this.codes = new ArrayList<>(dimensions.length);
+        boolean fits = true;
+        long product = 1;
+        for (int d = 0; d < dimensions.length; d++) {
+            // Code 0 is reserved for a missing value
+            radix[d] = switch (dimensions[d]) {
+                case LEVEL -> InternshipLevel.values().length + 1;
+                case STATUS -> InternshipStatus.values().length + 1;
+                case COMPANY, MAJOR -> (long) maxRows + 1;
+            };
+            boolean text = dimensions[d] == ReportGroupBy.COMPANY || dimensions[d] == ReportGroupBy.MAJOR;
+            codes.add(text ? new HashMap<>() : null);
+            try {
+                product = Math.multiplyExact(product, radix[d]);
+            } catch (ArithmeticException e) {
+                fits = false;
+            }
+        }
+        this.packed = fits;
+        Arrays.fill(keys, EMPTY);
+        if (!packed) {
+            byValues = new HashMap<>();
+        }
+    }
+
+    /**
+     * Adds an internship to its group, creating the group if needed.
+     *
+     * @param i the internship
+     */
+    void add(Internship i) {
+        if (!packed) {
+            byValues.computeIfAbsent(ReportGroup.keyOf(i, dimensions), k -> new ReportGroup(dimensions, k)).add(i);
+            return;
+        }
+        long key = 0;
+        for (int d = 0; d < dimensions.length; d++) {
+            key = key * radix[d] + switch (dimensions[d]) {
+                case COMPANY -> code(d, i.getCompanyRep().getCompanyName());
+                case MAJOR -> code(d, i.getMajor());
+                case LEVEL -> (i.getLevel() == null) ? 0 : i.getLevel().ordinal() + 1;
+                case STATUS -> (i.getStatus() == null) ? 0 : i.getStatus().ordinal() + 1;
+            };
+        }
+        int slot = slot(key);
+        ReportGroup group = groups[slot];
+        if (group == null) {
+            group = new ReportGroup(dimensions, ReportGroup.keyOf(i, dimensions));
+            insert(slot, key, group);
+        }
+        group.add(i);
+    }
+
+    /**
+     * Folds the groups of another accumulator over the same dimensions into
+     * this one. Dictionary codes differ between accumulators, so the other
+     * groups are re-keyed from their values.
+     *
+     * @param other the accumulator to merge
+     * @return this accumulator
+     */
+    SummaryAccumulator merge(SummaryAccumulator other) {
+        for (ReportGroup group : other.groups()) {
+            if (!packed) {
+                byValues.merge(group.getKey(), group, ReportGroup::merge);
+                continue;
+            }
+            long key = 0;
+            List<Object> values = group.getKey();
+            for (int d = 0; d < dimensions.length; d++) {
+                Object value = values.get(d);
+                key = key * radix[d] + switch (dimensions[d]) {
+                    case COMPANY, MAJOR -> code(d, (String) value);
+                    case LEVEL, STATUS -> (value == null) ? 0 : ((Enum<?>) value).ordinal() + 1;
+                };
+            }
+            int slot = slot(key);
+            if (groups[slot] == null) {
+                insert(slot, key, group);
+            } else {
+                groups[slot].merge(group);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the groups collected so far, in no particular order.
+     *
+     * @return the groups
+     */
+    List<ReportGroup> groups() {
+        if (!packed) {
+            return new ArrayList<>(byValues.values());
+        }
+        List<ReportGroup> list = new ArrayList<>(size);
+        for (ReportGroup group : groups) {
+            if (group != null) {
+                list.add(group);
+            }
+        }
+        return list;
+    }
+
+    private long code(int d, String value) {
+        if (value == null) {
+            return 0;
+        }
+        Map<String, Integer> dictionary = codes.get(d);
+        Integer code = dictionary.get(value);
+        if (code == null) {
+            code = dictionary.size() + 1;
+            dictionary.put(value, code);
+        }
+        return code;
+    }
+
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        long hash = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int slot, long key, ReportGroup group) {
+        keys[slot] = key;
+        groups[slot] = group;
+        if (++size * 2 > keys.length) {
+            long[] oldKeys = keys;
+            ReportGroup[] oldGroups = groups;
+            keys = new long[oldKeys.length * 2];
+            groups = new ReportGroup[oldKeys.length * 2];
+            Arrays.fill(keys, EMPTY);
+            for (int s = 0; s < oldKeys.length; s++) {
+                if (oldKeys[s] != EMPTY) {
+                    int to = slot(oldKeys[s]);
+                    keys[to] = oldKeys[s];
+                    groups[to] = oldGroups[s];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package src.store;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import src.entity.CompanyRepresentative;
+import src.entity.CsvRowSource;
+import src.entity.InternshipApplication;
+import src.entity.Student;
+import src.enums.InternshipStatus;
+import src.enums.InternshipWithdrawalStatus;
+import src.interfaces.ApplicationRecord;
+
+/**
+ * Columnar storage for internship applications.
+ *
+ * <p>
+ * Each application is one row of parallel primitive arrays: the student and
+ * company representative as entity keys, the internship as a row of the
+ * companion {@link InternshipTable}, and the three decision fields as enum
+ * ordinals. Only the application id is kept as a {@code String}.
+ *
+ * <p>
+ * Rows are read through the per-row accessors or through a reusable
+ * {@link View} implementing {@link ApplicationRecord}; a view's
+ * {@link View#getInternship()} is itself a flyweight over the internship
+ * table, so walking applications together with their internships allocates
+ * nothing.
+ *
+ * <p>
+ * Not thread-safe.
+ */
+public class ApplicationTable {
+    private static final InternshipStatus[] STATUSES = InternshipStatus.values();
+    private static final InternshipWithdrawalStatus[] WITHDRAWALS = InternshipWithdrawalStatus.values();
+
+    private final InternshipTable internshipTable;
+    private final Map<String, Integer> rowsById = new HashMap<>();
+
+    private int size;
+    private String[] ids = new String[16];
+    private int[] students = new int[16];
+    private int[] internships = new int[16];
+    private int[] reps = new int[16];
+    private byte[] companyAccepts = new byte[16];
+    private byte[] studentAccepts = new byte[16];
+    private byte[] withdrawals = new byte[16];
+
+    /**
+     * Creates an empty table whose rows refer to the given internship table.
+     *
+     * @param internshipTable the table holding the applied-for internships
+     */
+    public ApplicationTable(InternshipTable internshipTable) {
+        this.internshipTable = internshipTable;
+    }
+
+    /**
+     * Copies applications into a new table, in collection order. Applications
+     * whose internship is not in the internship table are skipped.
+     *
+     * @param internshipTable the table holding the applied-for internships
+     * @param applications    the applications to copy
+     * @return the table
+     */
+    public static ApplicationTable of(InternshipTable internshipTable,
+            Collection<InternshipApplication> applications) {
+        ApplicationTable table = new ApplicationTable(internshipTable);
+        for (InternshipApplication app : applications) {
+            table.add(app);
+        }
+        return table;
+    }
+
+    /**
+     * Loads an application CSV file in the format written by
+     * {@link src.DataStore#saveApplications(String)}. Rows whose student,
+     * internship or representative cannot be found are skipped.
+     *
+     * @param file            the application CSV file
+     * @param internshipTable the table holding the applied-for internships
+     * @param students        finds a student by id
+     * @param reps            finds a company representative by id
+     * @return the table
+     * @throws IOException if the file cannot be read
+     */
+    public static ApplicationTable load(Path file, InternshipTable internshipTable,
+            Function<String, Student> students, Function<String, CompanyRepresentative> reps) throws IOException {
+        ApplicationTable table = new ApplicationTable(internshipTable);
+        try (CsvRowSource.RowReader reader = new CsvRowSource<>(file, null).open()) {
+            String line = reader.readLine(); // header
+            while ((line = reader.readLine()) != null) {
+                String[] data = line.split(",");
+                if (data.length < 7) {
+                    continue;
+                }
+                Student student = students.apply(data[1].trim());
+                int internship = internshipTable.rowOf(data[2].trim());
+                CompanyRepresentative rep = reps.apply(data[3].trim());
+                if (student == null || internship < 0 || rep == null) {
+                    continue;
+                }
+                table.append(data[0].trim(), student, internship, rep,
+                        InternshipStatus.valueOf(data[4].trim()), InternshipStatus.valueOf(data[5].trim()),
+                        InternshipWithdrawalStatus.valueOf(data[6].trim()));
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Appends a copy of an application's attributes.
+     *
+     * @param app the application to copy
+     * @return the new row, or -1 if its internship is not in the internship
+     *         table
+     */
+    public int add(InternshipApplication app) {
+        int internship = internshipTable.rowOf(app.getInternship().getInternshipId());
+        if (internship < 0) {
+            return -1;
+        }
+        return append(app.getApplicationId(), app.getStudent(), internship, app.getCompanyRep(),
+                app.getCompanyAccept(), app.getStudentAccept(), app.getInternshipWithdrawalStatus());
+    }
+
+    /**
+     * Appends a row.
+     *
+     * @param id            application id
+     * @param student       applying student
+     * @param internship    row of the internship in the internship table
+     * @param rep           company representative
+     * @param companyAccept company decision
+     * @param studentAccept student decision
+     * @param withdrawal    withdrawal status
+     * @return the new row
+     */
+    public int append(String id, Student student, int internship, CompanyRepresentative rep,
+            InternshipStatus companyAccept, InternshipStatus studentAccept, InternshipWithdrawalStatus withdrawal) {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            students = Arrays.copyOf(students, capacity);
+            internships = Arrays.copyOf(internships, capacity);
+            reps = Arrays.copyOf(reps, capacity);
+            companyAccepts = Arrays.copyOf(companyAccepts, capacity);
+            studentAccepts = Arrays.copyOf(studentAccepts, capacity);
+            withdrawals = Arrays.copyOf(withdrawals, capacity);
+        }
+        int row = size++;
+        ids[row] = id;
+        students[row] = student.getKey();
+        internships[row] = internship;
+        reps[row] = rep.getKey();
+        companyAccepts[row] = (byte) companyAccept.ordinal();
+        studentAccepts[row] = (byte) studentAccept.ordinal();
+        withdrawals[row] = (byte) withdrawal.ordinal();
+        rowsById.putIfAbsent(id, row);
+        return row;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the row of an application id.
+     *
+     * @param id the application id
+     * @return the row, or -1 if the id is unknown
+     */
+    public int rowOf(String id) {
+        Integer row = rowsById.get(id);
+        return (row != null) ? row : -1;
+    }
+
+    /**
+     * Returns the internship table the rows refer to.
+     *
+     * @return the internship table
+     */
+    public InternshipTable getInternshipTable() {
+        return internshipTable;
+    }
+
+    /**
+     * Returns a new view positioned on the first row.
+     *
+     * @return a view over this table
+     */
+    public View view() {
+        return new View();
+    }
+
+    /**
+     * Passes every row, in row order, to the action through a single reused
+     * view. The action must not keep the view.
+     *
+     * @param action the action to run per row
+     */
+    public void forEach(Consumer<? super ApplicationRecord> action) {
+        View view = new View();
+        for (int r = 0; r < size; r++) {
+            action.accept(view.moveTo(r));
+        }
+    }
+
+    // Row accessors, used by scans that read the columns directly
+
+    /**
+     * @param row the row
+     * @return the application id
+     */
+    public String idAt(int row) { return ids[row]; }
+
+    /**
+     * @param row the row
+     * @return the student's key
+     */
+    public int studentKeyAt(int row) { return students[row]; }
+
+    /**
+     * @param row the row
+     * @return the internship's row in the internship table
+     */
+    public int internshipRowAt(int row) { return internships[row]; }
+
+    /**
+     * @param row the row
+     * @return the company representative's key
+     */
+    public int repKeyAt(int row) { return reps[row]; }
+
+    /**
+     * @param row the row
+     * @return the company decision's {@link InternshipStatus} ordinal
+     */
+    public int companyAcceptAt(int row) { return companyAccepts[row]; }
+
+    /**
+     * @param row the row
+     * @return the student decision's {@link InternshipStatus} ordinal
+     */
+    public int studentAcceptAt(int row) { return studentAccepts[row]; }
+
+    /**
+     * @param row the row
+     * @return the {@link InternshipWithdrawalStatus} ordinal
+     */
+    public int withdrawalAt(int row) { return withdrawals[row]; }
+
+    // Row mutators
+
+    /**
+     * @param row    the row
+     * @param status the new company decision
+     */
+    public void setCompanyAccept(int row, InternshipStatus status) { companyAccepts[row] = (byte) status.ordinal(); }
+
+    /**
+     * @param row    the row
+     * @param status the new student decision
+     */
+    public void setStudentAccept(int row, InternshipStatus status) { studentAccepts[row] = (byte) status.ordinal(); }
+
+    /**
+     * @param row    the row
+     * @param status the new withdrawal status
+     */
+    public void setInternshipWithdrawalStatus(int row, InternshipWithdrawalStatus status) {
+        withdrawals[row] = (byte) status.ordinal();
+    }
+
+    /**
+     * Flyweight {@link ApplicationRecord} over one row of the table. The
+     * internship it returns is a second flyweight owned by this view and moved
+     * along with it.
+     */
+    public final class View implements ApplicationRecord {
+        private final InternshipTable.View internship = internshipTable.view();
+        private int row;
+
+        private View() {
+        }
+
+        /**
+         * Positions the view on a row.
+         *
+         * @param row the row
+         * @return this view
+         */
+        public View moveTo(int row) {
+            this.row = row;
+            return this;
+        }
+
+        /**
+         * Returns the row the view is positioned on.
+         *
+         * @return the row
+         */
+        public int getRow() {
+            return row;
+        }
+
+        @Override
+        public String getApplicationId() { return ids[row]; }
+
+        @Override
+        public Student getStudent() { return Student.forKey(students[row]); }
+
+        @Override
+        public CompanyRepresentative getCompanyRep() { return CompanyRepresentative.forKey(reps[row]); }
+
+        @Override
+        public InternshipTable.View getInternship() { return internship.moveTo(internships[row]); }
+
+        @Override
+        public InternshipStatus getCompanyAccept() { return STATUSES[companyAccepts[row]]; }
+
+        @Override
+        public InternshipStatus getStudentAccept() { return STATUSES[studentAccepts[row]]; }
+
+        @Override
+        public InternshipWithdrawalStatus getInternshipWithdrawalStatus() { return WITHDRAWALS[withdrawals[row]]; }
+    }
+}
@@ -0,0 +1,134 @@
+package src.store;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary encoding of a string column.
+ *
+ * <p>
+ * Every distinct value gets a dense int code in order of first appearance, so
+ * a column stores one {@code int} per row and each distinct value exactly
+ * once. Values are found through an open-addressing table of codes, which
+ * costs one {@code int} slot per entry instead of a boxed map entry. The
+ * lower-cased form of a value, used for case-insensitive matching and
+ * ordering, is computed on first use and kept. Code -1 stands for null.
+ *
+ * <p>
+ * Not thread-safe.
+ */
+public class CodeDictionary {
+    private static final int EMPTY = -1;
+
+    private int[] table = newTable(16);
+    private String[] values = new String[16];
+    private String[] lowerValues = new String[16];
+    private int size;
+
+    /**
+     * Returns the code of a value, adding the value if it is new.
+     *
+     * @param value the value; may be null
+     * @return its code, or -1 for null
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int i = slot(value, mask);
+        while (table[i] != EMPTY) {
+            if (values[table[i]].equals(value)) {
+                return table[i];
+            }
+            i = (i + 1) & mask;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            lowerValues = Arrays.copyOf(lowerValues, size * 2);
+        }
+        values[size] = value;
+        table[i] = size;
+        if (++size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return size - 1;
+    }
+
+    /**
+     * Returns the value of a code.
+     *
+     * @param code the code
+     * @return the value, or null for -1
+     */
+    public String decode(int code) {
+        return (code >= 0) ? values[code] : null;
+    }
+
+    /**
+     * Returns the lower-cased value of a code.
+     *
+     * @param code the code
+     * @return the lower-cased value, or null for -1
+     */
+    public String lower(int code) {
+        if (code < 0) {
+            return null;
+        }
+        String lower = lowerValues[code];
+        if (lower == null) {
+            lower = values[code].toLowerCase();
+            lowerValues[code] = lower;
+        }
+        return lower;
+    }
+
+    /**
+     * Returns the number of distinct values.
+     *
+     * @return dictionary size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Rebuilds the lookup table with a new capacity.
+     *
+     * @param capacity power-of-two capacity
+     */
+    private void rehash(int capacity) {
+        table = newTable(capacity);
+        int mask = capacity - 1;
+        for (int code = 0; code < size; code++) {
+            int i = slot(values[code], mask);
+            while (table[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            table[i] = code;
+        }
+    }
+
+    /**
+     * Returns the home slot of a value.
+     *
+     * @param value the value
+     * @param mask  table length minus one
+     * @return the slot index
+     */
+    private static int slot(String value, int mask) {
+        int h = value.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Allocates an empty lookup table.
+     *
+     * @param capacity power-of-two capacity
+     * @return the table filled with the empty marker
+     */
+    private static int[] newTable(int capacity) {
+        int[] t = new int[capacity];
+        Arrays.fill(t, EMPTY);
+        return t;
+    }
+}
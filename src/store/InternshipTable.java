@@ -0,0 +1,456 @@
+package src.store;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import src.entity.CompanyRepresentative;
+import src.entity.CsvRowSource;
+import src.entity.Internship;
+import src.entity.Student;
+import src.entity.TextArena;
+import src.enums.InternshipLevel;
+import src.enums.InternshipStatus;
+import src.index.IntSet;
+import src.interfaces.InternshipRecord;
+
+/**
+ * Columnar storage for internships.
+ *
+ * <p>
+ * Instead of one {@link Internship} object per posting, with its header,
+ * reference fields and two {@code LocalDate}s, every attribute is kept in its
+ * own primitive array and row {@code r} of every array describes the same
+ * internship. Titles and majors are dictionary codes, level and status are
+ * enum ordinals, dates are epoch days, the representative is its entity key
+ * (with its lower-cased company name copied as a dictionary code for sorting)
+ * and the description is a handle into the table's own {@link TextArena},
+ * whose off-heap chunks are freed together with the table. Only the internship
+ * id is kept as a {@code String}, for lookups at the boundary.
+ *
+ * <p>
+ * Rows are read through the per-row accessors, which scans use directly, or
+ * through a reusable {@link View} that implements {@link InternshipRecord} on
+ * top of the arrays. Moving a view to another row allocates nothing.
+ *
+ * <p>
+ * Not thread-safe.
+ */
+public class InternshipTable {
+    private static final InternshipLevel[] LEVELS = InternshipLevel.values();
+    private static final InternshipStatus[] STATUSES = InternshipStatus.values();
+
+    private final CodeDictionary titles = new CodeDictionary();
+    private final CodeDictionary majors = new CodeDictionary();
+    private final CodeDictionary companies = new CodeDictionary();
+    private final TextArena descriptionArena = new TextArena(1 << 20);
+    private final Map<String, Integer> rowsById = new HashMap<>();
+
+    private int size;
+    private String[] ids;
+    private int[] titleCodes;
+    private long[] descriptions;
+    private byte[] levels;
+    private int[] majorCodes;
+    private int[] openDays;
+    private int[] closeDays;
+    private byte[] statuses;
+    private int[] slots;
+    private boolean[] visible;
+    private int[] reps;
+    private int[] companyCodes;
+
+    /**
+     * Creates an empty table.
+     */
+    public InternshipTable() {
+        allocate(16);
+    }
+
+    /**
+     * Copies internships into a new table, in collection order.
+     *
+     * @param internships the internships to copy
+     * @return the table
+     */
+    public static InternshipTable of(Collection<Internship> internships) {
+        InternshipTable table = new InternshipTable();
+        for (Internship i : internships) {
+            table.add(i);
+        }
+        return table;
+    }
+
+    /**
+     * Loads an internship CSV file in the format written by
+     * {@link src.DataStore#saveInternships(String)}. Rows whose representative
+     * cannot be found are skipped. As in the data store loader, the slot count
+     * is reduced by the number of known applicants.
+     *
+     * @param file     the internship CSV file
+     * @param reps     finds a company representative by id
+     * @param students finds a student by id
+     * @return the table
+     * @throws IOException if the file cannot be read
+     */
+    public static InternshipTable load(Path file, Function<String, CompanyRepresentative> reps,
+            Function<String, Student> students) throws IOException {
+        InternshipTable table = new InternshipTable();
+        try (CsvRowSource.RowReader reader = new CsvRowSource<>(file, null).open()) {
+            String line = reader.readLine(); // header
+            while ((line = reader.readLine()) != null) {
+                String[] data = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
+                if (data.length < 12) {
+                    continue;
+                }
+                CompanyRepresentative rep = reps.apply(data[8].trim());
+                if (rep == null) {
+                    continue;
+                }
+                String description = data[2].trim();
+                if (description.startsWith("\"") && description.endsWith("\"")) {
+                    description = description.substring(1, description.length() - 1);
+                }
+                int known = 0;
+                String applicantsStr = data[11].trim();
+                if (!applicantsStr.isEmpty()) {
+                    IntSet seen = new IntSet();
+                    for (String sid : applicantsStr.split(";")) {
+                        Student s = students.apply(sid);
+                        if (s != null && seen.add(s.getKey())) {
+                            known++;
+                        }
+                    }
+                }
+                table.append(data[0].trim(), data[1].trim(), description, InternshipLevel.valueOf(data[3].trim()),
+                        data[4].trim(), LocalDate.parse(data[5].trim()), LocalDate.parse(data[6].trim()),
+                        Integer.parseInt(data[7].trim()) - known, rep,
+                        InternshipStatus.valueOf(data[9].trim()), Boolean.parseBoolean(data[10].trim()));
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Appends a copy of an internship's attributes.
+     *
+     * @param i the internship to copy
+     * @return the new row
+     */
+    public int add(Internship i) {
+        return append(i.getInternshipId(), i.getTitle(), i.getDescription(), i.getLevel(), i.getMajor(),
+                i.getOpenDate(), i.getCloseDate(), i.getNumberOfSlotsLeft(), i.getCompanyRep(), i.getStatus(),
+                i.getVisibility());
+    }
+
+    /**
+     * Appends a row.
+     *
+     * @param id          internship id
+     * @param title       title
+     * @param description description
+     * @param level       level
+     * @param major       preferred major
+     * @param open        open date
+     * @param close       close date
+     * @param slotsLeft   remaining slots
+     * @param rep         posting company representative
+     * @param status      approval status
+     * @param visibility  visibility flag
+     * @return the new row
+     */
+    public int append(String id, String title, String description, InternshipLevel level, String major,
+            LocalDate open, LocalDate close, int slotsLeft, CompanyRepresentative rep, InternshipStatus status,
+            boolean visibility) {
+        if (size == ids.length) {
+            allocate(size * 2);
+        }
+        int row = size++;
+        ids[row] = id;
+        titleCodes[row] = titles.encode(title);
+        descriptions[row] = descriptionArena.store(description);
+        levels[row] = (byte) level.ordinal();
+        majorCodes[row] = majors.encode(major);
+        openDays[row] = (int) open.toEpochDay();
+        closeDays[row] = (int) close.toEpochDay();
+        slots[row] = slotsLeft;
+        reps[row] = rep.getKey();
+        companyCodes[row] = companies.encode(rep.getCompanyNameSortKey());
+        statuses[row] = (byte) status.ordinal();
+        visible[row] = visibility;
+        rowsById.putIfAbsent(id, row);
+        return row;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the row of an internship id.
+     *
+     * @param id the internship id
+     * @return the row, or -1 if the id is unknown
+     */
+    public int rowOf(String id) {
+        Integer row = rowsById.get(id);
+        return (row != null) ? row : -1;
+    }
+
+    /**
+     * Returns a new view positioned on the first row.
+     *
+     * @return a view over this table
+     */
+    public View view() {
+        return new View();
+    }
+
+    /**
+     * Passes every row, in row order, to the action through a single reused
+     * view. The action must not keep the view.
+     *
+     * @param action the action to run per row
+     */
+    public void forEach(Consumer<? super InternshipRecord> action) {
+        View view = new View();
+        for (int r = 0; r < size; r++) {
+            action.accept(view.moveTo(r));
+        }
+    }
+
+    // Row accessors, used by scans that read the columns directly
+
+    /**
+     * @param row the row
+     * @return the internship id
+     */
+    public String idAt(int row) { return ids[row]; }
+
+    /**
+     * @param row the row
+     * @return the title code in {@link #getTitles()}
+     */
+    public int titleCodeAt(int row) { return titleCodes[row]; }
+
+    /**
+     * @param row the row
+     * @return the {@link InternshipLevel} ordinal
+     */
+    public int levelAt(int row) { return levels[row]; }
+
+    /**
+     * @param row the row
+     * @return the major code in {@link #getMajors()}
+     */
+    public int majorCodeAt(int row) { return majorCodes[row]; }
+
+    /**
+     * @param row the row
+     * @return the open date as epoch day
+     */
+    public int openDayAt(int row) { return openDays[row]; }
+
+    /**
+     * @param row the row
+     * @return the close date as epoch day
+     */
+    public int closeDayAt(int row) { return closeDays[row]; }
+
+    /**
+     * @param row the row
+     * @return the {@link InternshipStatus} ordinal
+     */
+    public int statusAt(int row) { return statuses[row]; }
+
+    /**
+     * @param row the row
+     * @return the remaining slots
+     */
+    public int slotsAt(int row) { return slots[row]; }
+
+    /**
+     * @param row the row
+     * @return the visibility flag
+     */
+    public boolean visibleAt(int row) { return visible[row]; }
+
+    /**
+     * @param row the row
+     * @return the company representative's key
+     */
+    public int repKeyAt(int row) { return reps[row]; }
+
+    /**
+     * @param row the row
+     * @return the lower-cased company name code in {@link #getCompanies()}
+     */
+    public int companyCodeAt(int row) { return companyCodes[row]; }
+
+    /**
+     * Returns the dictionary of title codes.
+     *
+     * @return the title dictionary
+     */
+    public CodeDictionary getTitles() {
+        return titles;
+    }
+
+    /**
+     * Returns the dictionary of major codes.
+     *
+     * @return the major dictionary
+     */
+    public CodeDictionary getMajors() {
+        return majors;
+    }
+
+    /**
+     * Returns the dictionary of lower-cased company name codes.
+     *
+     * @return the company dictionary
+     */
+    public CodeDictionary getCompanies() {
+        return companies;
+    }
+
+    // Row mutators
+
+    /**
+     * @param row    the row
+     * @param status the new approval status
+     */
+    public void setStatus(int row, InternshipStatus status) { statuses[row] = (byte) status.ordinal(); }
+
+    /**
+     * @param row       the row
+     * @param slotsLeft the new number of remaining slots
+     */
+    public void setNumberOfSlotsLeft(int row, int slotsLeft) { slots[row] = slotsLeft; }
+
+    /**
+     * @param row        the row
+     * @param visibility the new visibility flag
+     */
+    public void setVisibility(int row, boolean visibility) { visible[row] = visibility; }
+
+    /**
+     * Resizes every column to the given capacity.
+     *
+     * @param capacity the new capacity
+     */
+    private void allocate(int capacity) {
+        if (ids == null) {
+            ids = new String[capacity];
+            titleCodes = new int[capacity];
+            descriptions = new long[capacity];
+            levels = new byte[capacity];
+            majorCodes = new int[capacity];
+            openDays = new int[capacity];
+            closeDays = new int[capacity];
+            statuses = new byte[capacity];
+            slots = new int[capacity];
+            visible = new boolean[capacity];
+            reps = new int[capacity];
+            companyCodes = new int[capacity];
+            return;
+        }
+        ids = Arrays.copyOf(ids, capacity);
+        titleCodes = Arrays.copyOf(titleCodes, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+        levels = Arrays.copyOf(levels, capacity);
+        majorCodes = Arrays.copyOf(majorCodes, capacity);
+        openDays = Arrays.copyOf(openDays, capacity);
+        closeDays = Arrays.copyOf(closeDays, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        slots = Arrays.copyOf(slots, capacity);
+        visible = Arrays.copyOf(visible, capacity);
+        reps = Arrays.copyOf(reps, capacity);
+        companyCodes = Arrays.copyOf(companyCodes, capacity);
+    }
+
+    /**
+     * Flyweight {@link InternshipRecord} over one row of the table. A view
+     * reads the arrays on every call, so it reflects later changes to its row,
+     * and can be moved to any row without allocating.
+     */
+    public final class View implements InternshipRecord {
+        private int row;
+
+        private View() {
+        }
+
+        /**
+         * Positions the view on a row.
+         *
+         * @param row the row
+         * @return this view
+         */
+        public View moveTo(int row) {
+            this.row = row;
+            return this;
+        }
+
+        /**
+         * Returns the row the view is positioned on.
+         *
+         * @return the row
+         */
+        public int getRow() {
+            return row;
+        }
+
+        @Override
+        public String getInternshipId() { return ids[row]; }
+
+        @Override
+        public String getTitle() { return titles.decode(titleCodes[row]); }
+
+        @Override
+        public String getTitleSortKey() { return titles.lower(titleCodes[row]); }
+
+        @Override
+        public String getDescription() { return descriptionArena.load(descriptions[row]); }
+
+        @Override
+        public InternshipLevel getLevel() { return LEVELS[levels[row]]; }
+
+        @Override
+        public String getMajor() { return majors.decode(majorCodes[row]); }
+
+        @Override
+        public LocalDate getOpenDate() { return LocalDate.ofEpochDay(openDays[row]); }
+
+        @Override
+        public LocalDate getCloseDate() { return LocalDate.ofEpochDay(closeDays[row]); }
+
+        @Override
+        public InternshipStatus getStatus() { return STATUSES[statuses[row]]; }
+
+        @Override
+        public int getNumberOfSlotsLeft() { return slots[row]; }
+
+        @Override
+        public boolean getVisibility() { return visible[row]; }
+
+        @Override
+        public CompanyRepresentative getCompanyRep() { return CompanyRepresentative.forKey(reps[row]); }
+
+        @Override
+        public boolean isOpenOn(LocalDate date) {
+            long day = date.toEpochDay();
+            return day >= openDays[row] && day <= closeDays[row];
+        }
+    }
+}
@@ -5,9 +5,18 @@ import src.entity.CompanyRepresentative;
 import src.entity.Internship;
 import src.entity.Student;
 import src.entity.InternshipApplication;
+import src.enums.ApplicationGroupBy;
+import src.enums.ApplicationSortType;
 import src.enums.InternshipStatus;
+import src.enums.InternshipWithdrawalStatus;
 import src.enums.LoginResult;
+import src.enums.ReportGroupBy;
+import src.enums.WithdrawalOrder;
+import src.index.StaffDashboard;
+import src.monitor.FootprintReport;
+import src.report.ApplicationReportCriteria;
 import src.report.ReportCriteria;
+import src.report.ReportGroup;
 import src.interfaces.viewInternship;
 
 import java.util.List;
@@ -105,7 +114,8 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
     /**
      * Runs the main menu loop for authenticated career center staff.
      * <p>
-     * Displays a menu with 12 options including password change, company
+     * Shows live pending totals from the staff dashboard, then displays a menu
+     * with 14 options including password change, company
      * authorization,
      * internship approval, withdrawal approval, and report generation. Delegates to
      * specific
@@ -117,6 +127,11 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
         while (true) {
             System.out.println("\n===== Career Center Staff Menu (Logged in as: " +
                     staffController.getCurrentStaff().getName() + ") =====");
+            StaffDashboard dashboard = staffController.getDashboard();
+            System.out.println("Pending: " + dashboard.getPendingRepCount() + " company rep(s), "
+                    + dashboard.getPendingInternshipCount() + " internship(s), "
+                    + dashboard.getPendingWithdrawalCount() + " withdrawal(s) | Open slots: "
+                    + dashboard.getTotalOpenSlots());
             System.out.println("1. Change Password");
             System.out.println("2. View Pending Company Representatives");
             System.out.println("3. Authorize Company");
@@ -128,7 +143,10 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
             System.out.println("9. Approve Withdrawal");
             System.out.println("10. Reject Withdrawal");
             System.out.println("11. Generate Report");
-            System.out.println("12. Logout / Return to Main Menu");
+            System.out.println("12. Generate Summary Report");
+            System.out.println("13. Generate Application Report");
+            System.out.println("14. View Memory Footprint");
+            System.out.println("15. Logout / Return to Main Menu");
 
             System.out.print("Enter choice: ");
             if (sc.hasNextInt()) {
@@ -152,11 +170,17 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
                 case 5 -> viewInternships();
                 case 6 -> approveInternship();
                 case 7 -> rejectInternship();
-                case 8 -> viewPendingWithdrawals();
+                case 8 -> {
+                    chooseWithdrawalOrder();
+                    viewPendingWithdrawals();
+                }
                 case 9 -> approveWithdrawal();
                 case 10 -> rejectWithdrawal();
                 case 11 -> generateReport();
-                case 12 -> {
+                case 12 -> generateSummary();
+                case 13 -> generateApplicationReport();
+                case 14 -> viewFootprint();
+                case 15 -> {
                     logout(); // from UserView
                     System.out.println("Logged out. Returning to main menu...");
                     return; // exit menu loop
@@ -190,13 +214,22 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
      * Prompts the user to authorize a company representative by ID.
      * <p>
      * Requests the company representative ID and delegates authorization to the
-     * controller.
+     * controller. A blank ID selects the longest-waiting pending representative.
      * Displays success or failure message based on the operation result.
      * </p>
      */
     private void authorizeCompany() {
-        System.out.print("Enter Company Rep ID to authorize: ");
+        System.out.print("Enter Company Rep ID to authorize (or leave blank for next pending): ");
         String id = sc.nextLine();
+        if (id.isBlank()) {
+            CompanyRepresentative next = staffController.getDashboard().nextPendingRep();
+            if (next == null) {
+                System.out.println("No pending company representatives.");
+                return;
+            }
+            id = next.getUserId();
+            System.out.println("Next pending: " + id + " (" + next.getCompanyName() + ")");
+        }
         if (staffController.authoriseCompany(id))
             System.out.println("Company authorized.");
         else
@@ -255,14 +288,25 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
     /**
      * Prompts the user to approve an internship by ID.
      * <p>
-     * Requests the internship ID and delegates approval to the controller.
+     * Requests the internship ID and delegates approval to the controller. A
+     * blank ID selects the longest-waiting pending internship.
      * Displays success or failure message based on the operation result.
      * </p>
      */
     private void approveInternship() {
-        System.out.print("Enter Internship ID to approve: ");
+        System.out.print("Enter Internship ID to approve (or leave blank for next pending): ");
         String id = sc.nextLine();
-        sc.nextLine();
+        if (id.isBlank()) {
+            Internship next = staffController.getDashboard().nextPendingInternship();
+            if (next == null) {
+                System.out.println("No pending internships.");
+                return;
+            }
+            id = next.getInternshipId();
+            System.out.println("Next pending: " + id + " (" + next.getTitle() + ")");
+        } else {
+            sc.nextLine();
+        }
         if (staffController.approveInternship(id))
             System.out.println("Internship approved.");
         else
@@ -317,6 +361,27 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
         return pending;
     }
 
+    /**
+     * Prompts the user for the order in which pending withdrawals are listed.
+     * <p>
+     * FIFO lists requests in the order they were made; OLDEST_FIRST lists them
+     * by when the application was submitted. A blank answer keeps the current
+     * order, which is also used by the approve and reject options.
+     * </p>
+     */
+    private void chooseWithdrawalOrder() {
+        System.out.print("Order by (FIFO/OLDEST_FIRST, or leave blank for "
+                + staffController.getWithdrawalOrder() + "): ");
+        String order = sc.nextLine();
+        if (!order.isBlank()) {
+            try {
+                staffController.setWithdrawalOrder(WithdrawalOrder.valueOf(order.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid order. Ignoring.");
+            }
+        }
+    }
+
     /**
      * Prompts the user to approve a pending withdrawal request.
      * <p>
@@ -399,6 +464,7 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
      * minimum slots) and sort type. Creates a {@link ReportCriteria} object with
      * the specified
      * filters and delegates report generation and printing to the controller.
+     * The report can then optionally be exported to a CSV or JSON file.
      * </p>
      */
     private void generateReport() {
@@ -449,11 +515,16 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
             }
         }
 
-        System.out.print("Sort by (TITLE, COMPANY, OPEN_DATE, CLOSE_DATE, SLOTS_LEFT): ");
+        System.out.print("Sort by (TITLE, COMPANY, OPEN_DATE, CLOSE_DATE, SLOTS_LEFT; comma-separate to add tie-breakers): ");
         String sort = sc.nextLine();
         if (!sort.isBlank()) {
             try {
-                criteria.setSortType(src.enums.ReportSortType.valueOf(sort.toUpperCase()));
+                String[] parts = sort.split(",");
+                src.enums.ReportSortType[] sortTypes = new src.enums.ReportSortType[parts.length];
+                for (int k = 0; k < parts.length; k++) {
+                    sortTypes[k] = src.enums.ReportSortType.valueOf(parts[k].trim().toUpperCase());
+                }
+                criteria.setSortTypes(sortTypes);
             } catch (IllegalArgumentException e) {
                 System.out.println("Invalid sort type. Defaulting to TITLE.");
             }
@@ -462,6 +533,162 @@ public class CareerCenterStaffView extends UserView implements viewInternship {
         // Delegate to controller to generate & print
         List<Internship> report = staffController.generateReport(criteria);
         staffController.printReport(report);
+
+        System.out.print("Export to file (path ending in .csv or .json, add .gz to compress; or leave blank): ");
+        String path = sc.nextLine();
+        if (!path.isBlank()) {
+            System.out.print("Keep the report order? (Y/N; N writes rows as they are found, for very large exports): ");
+            criteria.setCatalogOrderExport(sc.nextLine().trim().equalsIgnoreCase("n"));
+            try {
+                long rows = staffController.exportReport(criteria, path.trim());
+                System.out.println("Exported " + rows + " internship(s) to " + path.trim() + ".");
+            } catch (IllegalArgumentException | java.io.IOException e) {
+                System.out.println("Export failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Generates a grouped summary of internships.
+     * <p>
+     * Prompts for an optional status filter and the dimensions to group by
+     * (COMPANY, MAJOR, LEVEL, STATUS), then delegates summary generation and
+     * printing to the controller.
+     * </p>
+     */
+    private void generateSummary() {
+        ReportCriteria criteria = new ReportCriteria();
+
+        System.out.print("Filter by Internship Status (PENDING/APPROVED/REJECTED or leave blank): ");
+        String status = sc.nextLine();
+        if (!status.isBlank()) {
+            try {
+                criteria.setStatus(InternshipStatus.valueOf(status.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid status. Ignoring.");
+            }
+        }
+
+        System.out.print("Group by (COMPANY, MAJOR, LEVEL, STATUS; comma-separate for several): ");
+        String group = sc.nextLine();
+        if (group.isBlank())
+            group = "COMPANY";
+        ReportGroupBy[] groupBy;
+        try {
+            String[] parts = group.split(",");
+            groupBy = new ReportGroupBy[parts.length];
+            for (int k = 0; k < parts.length; k++) {
+                groupBy[k] = ReportGroupBy.valueOf(parts[k].trim().toUpperCase());
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid dimension. Grouping by COMPANY.");
+            groupBy = new ReportGroupBy[] { ReportGroupBy.COMPANY };
+        }
+
+        List<ReportGroup> summary = staffController.generateSummary(criteria, groupBy);
+        staffController.printSummary(summary);
+    }
+
+    /**
+     * Generates a report of internship applications.
+     * <p>
+     * Prompts for optional filters on the company decision, withdrawal status,
+     * student major and company representative. If grouping dimensions are
+     * entered, application counts per group are printed instead of the
+     * individual applications.
+     * </p>
+     */
+    private void generateApplicationReport() {
+        ApplicationReportCriteria criteria = new ApplicationReportCriteria();
+
+        System.out.print("Filter by Company Decision (PENDING/APPROVED/REJECTED or leave blank): ");
+        String companyAccept = sc.nextLine();
+        if (!companyAccept.isBlank()) {
+            try {
+                criteria.setCompanyAccept(InternshipStatus.valueOf(companyAccept.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid status. Ignoring.");
+            }
+        }
+
+        System.out.print("Filter by Withdrawal Status (NONE/PENDING/APPROVED/REJECTED or leave blank): ");
+        String withdrawal = sc.nextLine();
+        if (!withdrawal.isBlank()) {
+            try {
+                criteria.setWithdrawalStatus(InternshipWithdrawalStatus.valueOf(withdrawal.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid status. Ignoring.");
+            }
+        }
+
+        System.out.print("Filter by Student Major (or leave blank): ");
+        String major = sc.nextLine();
+        if (!major.isBlank())
+            criteria.setStudentMajor(major);
+
+        System.out.print("Filter by Company ID (or leave blank): ");
+        String companyId = sc.nextLine();
+        if (!companyId.isBlank())
+            criteria.setCompanyRepId(companyId);
+
+        System.out.print(
+                "Group by (STUDENT_MAJOR, COMPANY, COMPANY_REP, INTERNSHIP, COMPANY_ACCEPT, STUDENT_ACCEPT, WITHDRAWAL_STATUS; comma-separate for several, or leave blank to list): ");
+        String group = sc.nextLine();
+        if (!group.isBlank()) {
+            try {
+                String[] parts = group.split(",");
+                ApplicationGroupBy[] groupBy = new ApplicationGroupBy[parts.length];
+                for (int k = 0; k < parts.length; k++) {
+                    groupBy[k] = ApplicationGroupBy.valueOf(parts[k].trim().toUpperCase());
+                }
+                staffController.printApplicationSummary(staffController.generateApplicationSummary(criteria, groupBy));
+                return;
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid dimension. Listing applications instead.");
+            }
+        }
+
+        System.out.print("Sort by (APPLICATION_ID, STUDENT, COMPANY, INTERNSHIP): ");
+        String sort = sc.nextLine();
+        if (!sort.isBlank()) {
+            try {
+                criteria.setSortType(ApplicationSortType.valueOf(sort.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid sort type. Defaulting to APPLICATION_ID.");
+            }
+        }
+
+        List<InternshipApplication> report = staffController.generateApplicationReport(criteria);
+        staffController.printApplicationReport(report);
+    }
+
+    /**
+     * Displays the estimated memory footprint of the loaded data.
+     * <p>
+     * Lists each entity collection, lookup, index and cache with the bytes
+     * reachable from it and the bytes only it retains, followed by the largest
+     * classes and the off-heap description storage.
+     * </p>
+     */
+    private void viewFootprint() {
+        System.out.println("Estimating memory footprint...");
+        FootprintReport report = staffController.getFootprint();
+        System.out.println("\n===== Memory Footprint =====");
+        System.out.printf("%-36s %-9s %12s %12s%n", "Component", "Kind", "Deep KB", "Retained KB");
+        for (FootprintReport.Component c : report.getComponents()) {
+            System.out.printf("%-36s %-9s %12.1f %12.1f%n", c.getName(), c.getKind(),
+                    c.getDeepBytes() / 1024.0, c.getRetainedBytes() / 1024.0);
+        }
+        System.out.printf("Total heap: %.1f KB | Off-heap descriptions: %.1f KB%s%n",
+                report.getTotalBytes() / 1024.0, report.getOffHeapBytes() / 1024.0,
+                report.isInstrumented() ? "" : " (estimated from field layouts)");
+
+        System.out.println("\nLargest classes:");
+        List<FootprintReport.ClassStats> classes = report.getClasses();
+        for (int i = 0; i < Math.min(10, classes.size()); i++) {
+            FootprintReport.ClassStats c = classes.get(i);
+            System.out.printf("%-60s %9d %12.1f KB%n", c.getClassName(), c.getInstances(), c.getBytes() / 1024.0);
+        }
     }
 
 }
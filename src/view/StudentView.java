@@ -103,11 +103,11 @@ public class StudentView extends UserView implements viewInternship, viewApplica
     /**
      * Displays the main student menu and retrieves the user's choice.
      * <p>
-     * Presents 7 menu options including internship browsing, application management,
+     * Presents 8 menu options including internship browsing, keyword search, application management,
      * password change, and logout. Validates input and ensures a valid choice is returned.
      * </p>
      *
-     * @return an integer (1-7) representing the user's menu selection
+     * @return an integer (1-8) representing the user's menu selection
      */
     public int displayStudentMenu() {
         System.out.println(
@@ -118,15 +118,16 @@ public class StudentView extends UserView implements viewInternship, viewApplica
         System.out.println("4. Accept Internship");
         System.out.println("5. Withdraw Application");
         System.out.println("6. Change Password");
-        System.out.println("7. Logout");
+        System.out.println("7. Search Internships by Keyword");
+        System.out.println("8. Logout");
 
         int choice = -1;
         while (true) {
-            System.out.println("Choose an option (1-7): ");
+            System.out.println("Choose an option (1-8): ");
             if (sc.hasNextInt()) {
                 choice = sc.nextInt();
                 sc.nextLine(); // Clear the newline
-                if (choice >= 1 && choice <= 7) {
+                if (choice >= 1 && choice <= 8) {
                     break;
                 }
             } else {
@@ -140,7 +141,7 @@ public class StudentView extends UserView implements viewInternship, viewApplica
     /**
      * Runs the main menu loop for authenticated students.
      * <p>
-     * Displays a menu with 7 options including viewing internships, managing applications,
+     * Displays a menu with 8 options including viewing internships, managing applications,
      * changing password, and logging out. Routes each selection to appropriate handler methods.
      * </p>
      */
@@ -264,6 +265,9 @@ public class StudentView extends UserView implements viewInternship, viewApplica
                     logout();
                     return;
                 case 7:
+                    searchInternships();
+                    break;
+                case 8:
                     // Inherited from UserController/UserView
                     logout();
                     System.out.println("Logged out successfully.");
@@ -275,6 +279,28 @@ public class StudentView extends UserView implements viewInternship, viewApplica
         }
     }
 
+    /**
+     * Searches the student's internship opportunities by keyword.
+     * <p>
+     * Prompts for a query over titles and descriptions and prints the matching
+     * internships, best match first. Words ending in {@code *} match by prefix
+     * and quoted words must appear together.
+     * </p>
+     */
+    private void searchInternships() {
+        System.out.print("Enter keywords (use word* for prefixes, \"quotes\" for phrases): ");
+        String query = sc.nextLine();
+        List<Internship> results = studentController.searchInternships(query);
+        if (results.isEmpty()) {
+            System.out.println("No internships match your search.");
+            return;
+        }
+        for (int i = 1; i <= results.size(); i++) {
+            System.out.print(i + ". ");
+            viewInternshipDetails(results.get(i - 1));
+        }
+    }
+
     /**
      * Prompts the student to confirm and submit an internship application.
      * <p>
@@ -371,11 +397,16 @@ public class StudentView extends UserView implements viewInternship, viewApplica
             }
         }
 
-        System.out.print("Sort by (TITLE, COMPANY, OPEN_DATE, CLOSE_DATE, SLOTS_LEFT): ");
+        System.out.print("Sort by (TITLE, COMPANY, OPEN_DATE, CLOSE_DATE, SLOTS_LEFT; comma-separate to add tie-breakers): ");
         String sort = sc.nextLine();
         if (!sort.isBlank()) {
             try {
-                criteria.setSortType(src.enums.ReportSortType.valueOf(sort.toUpperCase()));
+                String[] parts = sort.split(",");
+                src.enums.ReportSortType[] sortTypes = new src.enums.ReportSortType[parts.length];
+                for (int k = 0; k < parts.length; k++) {
+                    sortTypes[k] = src.enums.ReportSortType.valueOf(parts[k].trim().toUpperCase());
+                }
+                criteria.setSortTypes(sortTypes);
             } catch (IllegalArgumentException e) {
                 System.out.println("Invalid sort type. Defaulting to TITLE.");
             }